@@ -0,0 +1,24 @@
+package com.allclear.socialhub.common.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * 로컬/테스트 실행 시 모든 테이블 삭제 후 migration 재적용 (기존 ddl-auto: create 와 같은 동작)
+     */
+    @Bean
+    @Profile({"local", "test"})
+    public FlywayMigrationStrategy cleanMigrateStrategy() {
+
+        return flyway -> {
+            flyway.clean();
+            flyway.migrate();
+        };
+    }
+
+}
@@ -0,0 +1,28 @@
+package com.allclear.socialhub.common.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * QueryDSL(JPQL) 에서 사용할 MySQL 전용 함수를 Hibernate 에 등록합니다.
+ * (META-INF/services/org.hibernate.boot.model.FunctionContributor 로 등록)
+ */
+public class MysqlFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+
+        BasicType<Double> doubleType = functionContributions.getTypeConfiguration()
+                .getBasicTypeRegistry()
+                .resolve(StandardBasicTypes.DOUBLE);
+
+        // FULLTEXT 검색 relevance (0 이면 일치하지 않음)
+        functionContributions.getFunctionRegistry()
+                .registerPattern("match_against", "match(?1) against(?2 in boolean mode)", doubleType);
+        functionContributions.getFunctionRegistry()
+                .registerPattern("match_against_2", "match(?1, ?2) against(?3 in boolean mode)", doubleType);
+    }
+
+}
@@ -22,11 +22,14 @@ public enum ErrorCode {
     POST_TYPE_NOT_FOUND(HttpStatus.BAD_REQUEST, "존재하지 않는 게시물 타입입니다."),
     INVALID_HASHTAG_PATTERN(HttpStatus.BAD_REQUEST, "'#해시태그' 형식만 등록 가능합니다."),
     INVALID_SEARCH_CONDITION(HttpStatus.BAD_REQUEST, "알맞은 검색조건이 아닙니다."),
+    INVALID_HASHTAG_EXPRESSION(HttpStatus.BAD_REQUEST, "해시태그 검색식이 올바르지 않습니다. (ex. #ootd AND #summer NOT #ad, 해시태그 최대 20개)"),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 cursor 입니다. 같은 정렬 조건으로 받은 cursor 를 사용해야 합니다."),
+    TOO_MANY_POST_IDS(HttpStatus.BAD_REQUEST, "한 번에 조회할 수 있는 게시물 수를 초과하였습니다."),
 
     // STATISTICS
     STATISTICS_INVALID_TYPE(HttpStatus.BAD_REQUEST, "유효하지 않은 type parameter 입니다. expected: ['date', 'hour']"),
     STATISTICS_INVALID_VALUE(HttpStatus.BAD_REQUEST,
-            "유효하지 않은 value parameter 입니다. expected: ['count', 'view_count', 'like_count', 'share_count']"),
+            "유효하지 않은 value parameter 입니다. expected: ['count', 'view_count', 'like_count', 'share_count', 'unique_view_count']"),
     STATISTICS_INVALID_DATE(HttpStatus.BAD_REQUEST, "유효하지 않은 날짜입니다. expected: 'yyyy-MM-DD'"),
     STATISTICS_INVALID_DATE_RANGE_TOO_LONG_DATE(HttpStatus.BAD_REQUEST, "최대 30일까지만 조회할 수 있습니다."),
     STATISTICS_INVALID_DATE_RANGE_TOO_LONG_HOUR(HttpStatus.BAD_REQUEST, "최대 7일까지만 조회할 수 있습니다."),
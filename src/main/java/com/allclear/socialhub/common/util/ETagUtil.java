@@ -0,0 +1,35 @@
+package com.allclear.socialhub.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.stream.Collectors;
+
+public class ETagUtil {
+
+    // 값들을 '|' 로 이어 붙인 문자열의 SHA-256 앞 16 byte (strong ETag 값, 따옴표는 Spring 이 붙임)
+    public static String of(Object... values) {
+
+        return hash(values);
+    }
+
+    // weak ETag (W/"...") : 조회수처럼 ETag 에 넣지 않은 값은 달라도 같은 응답으로 취급
+    public static String weak(Object... values) {
+
+        return "W/\"" + hash(values) + "\"";
+    }
+
+    private static String hash(Object... values) {
+
+        String joined = Arrays.stream(values).map(String::valueOf).collect(Collectors.joining("|"));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(joined.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
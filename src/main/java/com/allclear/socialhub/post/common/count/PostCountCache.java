@@ -0,0 +1,80 @@
+package com.allclear.socialhub.post.common.count;
+
+import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시물 목록/검색의 전체 건수를 조건(filter signature)별로 보관합니다.
+ * 페이지를 넘길 때마다 같은 조건의 COUNT 쿼리를 다시 실행하지 않도록 하고,
+ * 게시물이 등록/수정/삭제되면 전체 건수가 달라질 수 있으므로 모두 비웁니다.
+ * (다른 인스턴스의 변경은 ttl 이 지나야 반영됩니다.)
+ */
+@Component
+public class PostCountCache {
+
+    private final Map<String, Entry> counts = new ConcurrentHashMap<>();
+    private final long ttl;
+    private final int maxEntries;
+
+    public PostCountCache(@Value("${socialhub.post.count.cache-ttl:60000}") long ttl,
+                          @Value("${socialhub.post.count.cache-max-entries:10000}") int maxEntries) {
+
+        this.ttl = ttl;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 보관 중인 전체 건수 조회
+     *
+     * @param signature 조회 조건
+     * @return 전체 건수, 없거나 만료되었으면 null
+     */
+    public Long get(String signature) {
+
+        Entry entry = counts.get(signature);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            counts.remove(signature, entry);
+            return null;
+        }
+        return entry.count;
+    }
+
+    /**
+     * 전체 건수 저장
+     *
+     * @param signature 조회 조건
+     * @param count     전체 건수
+     */
+    public void put(String signature, long count) {
+
+        // 조건 조합이 너무 많아지면 비우고 다시 채움
+        if (counts.size() >= maxEntries) {
+            counts.clear();
+        }
+        counts.put(signature, new Entry(count, System.currentTimeMillis() + ttl));
+    }
+
+    /**
+     * 게시물 등록/수정/삭제 시 모든 전체 건수 삭제
+     */
+    public void invalidateAll() {
+
+        counts.clear();
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+
+        private final long count;
+        private final long expiresAt;
+
+    }
+
+}
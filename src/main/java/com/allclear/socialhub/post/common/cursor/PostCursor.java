@@ -0,0 +1,111 @@
+package com.allclear.socialhub.post.common.cursor;
+
+import com.allclear.socialhub.common.exception.CustomException;
+import com.allclear.socialhub.post.dto.PostListResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import static com.allclear.socialhub.common.exception.ErrorCode.INVALID_CURSOR;
+
+/**
+ * 게시물 목록 cursor (keyset) 페이징의 위치 정보입니다.
+ * 마지막으로 받은 게시물의 정렬 값과 ID(동일한 정렬 값 사이의 tie-breaker)를 담아
+ * 클라이언트에는 내용을 알 수 없는 token 으로 전달합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final String orderBy;
+    private final String sort;
+    private final String sortKey;
+    private final Long id;
+
+    /**
+     * 페이지의 마지막 게시물로 다음 페이지 cursor 생성 (정렬 값은 DB 에 저장된 값 기준)
+     *
+     * @param orderBy  정렬 기준
+     * @param sort     정렬 방향
+     * @param lastPost 페이지의 마지막 게시물
+     * @return 다음 페이지 cursor
+     */
+    public static PostCursor of(String orderBy, String sort, PostListResponse lastPost) {
+
+        String sortKey = switch (orderBy) {
+            case "created_at" -> lastPost.getCreatedAt().toString();
+            case "updated_at" -> lastPost.getUpdatedAt().toString();
+            case "like_count" -> String.valueOf(lastPost.getLikeCnt());
+            case "share_count" -> String.valueOf(lastPost.getShareCnt());
+            case "view_count" -> String.valueOf(lastPost.getViewCnt());
+            default -> String.valueOf(lastPost.getPostId());
+        };
+        return new PostCursor(orderBy, sort, sortKey, lastPost.getPostId());
+    }
+
+    /**
+     * token 해석 (다른 정렬 조건으로 발급된 token 이나 변조된 token 은 거부)
+     *
+     * @param token   클라이언트가 전달한 cursor token (빈 값이면 첫 페이지)
+     * @param orderBy 요청한 정렬 기준
+     * @param sort    요청한 정렬 방향
+     * @return cursor, 첫 페이지면 null
+     */
+    public static PostCursor decode(String token, String orderBy, String sort) {
+
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8)
+                    .split("\\" + DELIMITER, -1);
+            if (parts.length != 4 || !parts[0].equals(orderBy) || !parts[1].equals(sort)) {
+                throw new CustomException(INVALID_CURSOR);
+            }
+
+            PostCursor cursor = new PostCursor(parts[0], parts[1], parts[2], Long.valueOf(parts[3]));
+            cursor.validateSortKey();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+
+        String raw = String.join(DELIMITER, orderBy, sort, sortKey, String.valueOf(id));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getDateTimeKey() {
+
+        return LocalDateTime.parse(sortKey);
+    }
+
+    public int getCountKey() {
+
+        return Integer.parseInt(sortKey);
+    }
+
+    public boolean isAsc() {
+
+        return "asc".equals(sort);
+    }
+
+    private void validateSortKey() {
+
+        switch (orderBy) {
+            case "created_at", "updated_at" -> getDateTimeKey();
+            case "like_count", "share_count", "view_count" -> getCountKey();
+            default -> Long.parseLong(sortKey);
+        }
+    }
+
+}
@@ -0,0 +1,314 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시물 조회수, 좋아요수, 공유수 증가분을 JVM 안에서 모아두었다가 주기적으로 DB에 반영하는 버퍼입니다.
+ * 요청마다 post row 를 읽고 +1 해서 저장하던 방식(row lock 경합, lost update)을 대신합니다.
+ * 읽기 모델(post_read_model)을 사용하면 같은 트랜잭션에서 읽기 모델의 카운터도 함께 증가시킵니다.
+ * <p>
+ * 좋아요수는 EngagementEventWriter 가 post_like 에 실제로 추가/삭제한 row 수로 증가분을 누적하고,
+ * 그 전까지는 요청 시 더해둔 예상 증가분(expected)으로 응답 값만 보정합니다. (예상 증가분은 DB에 반영하지 않음)
+ */
+@Slf4j
+@Component
+public class EngagementCounterBuffer {
+
+    private static final String FLUSH_SQL = "UPDATE post " +
+            "SET view_cnt = view_cnt + ?, like_cnt = like_cnt + ?, share_cnt = share_cnt + ? " +
+            "WHERE id = ?";
+    private static final String READ_MODEL_FLUSH_SQL = "UPDATE post_read_model " +
+            "SET view_cnt = view_cnt + ?, like_cnt = like_cnt + ?, share_cnt = share_cnt + ? " +
+            "WHERE post_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer flushTimer;
+    private final boolean readModelEnabled;
+    // 이 시각 이전에 발생한 이벤트는 예상 증가분을 더해두지 않았음 (재시작 전 로그에 남아 있던 이벤트)
+    private final long startedAt = System.currentTimeMillis();
+
+    // 게시물 Id -> 아직 DB에 반영되지 않은 증가분 (반영 후 남은 증가분이 없으면 제거)
+    private final Map<Long, PendingCounter> counters = new ConcurrentHashMap<>();
+
+    public EngagementCounterBuffer(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${socialhub.post.read-model.enabled:false}") boolean readModelEnabled) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readModelEnabled = readModelEnabled;
+        this.flushTimer = Timer.builder("post.counter.flush")
+                .description("카운터 증가분을 DB에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+
+        Gauge.builder("post.counter.backlog", this, EngagementCounterBuffer::backlog)
+                .description("DB에 반영되지 않은 카운터 증가분 합계")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 카운터 1 증가
+     *
+     * @param postId 게시물 Id
+     * @param type   조회, 좋아요, 공유
+     */
+    public void increment(Long postId, EngagementType type) {
+
+        add(postId, type, 1L);
+    }
+
+    /**
+     * 카운터에 증가분(음수 가능) 누적
+     *
+     * @param postId 게시물 Id
+     * @param type   조회, 좋아요, 공유
+     * @param delta  증가분
+     */
+    public void add(Long postId, EngagementType type, long delta) {
+
+        // flush 의 빈 counter 제거와 겹쳐 증가분이 유실되지 않도록 compute 안에서 누적
+        counters.compute(postId, (id, counter) -> {
+            PendingCounter target = counter == null ? new PendingCounter() : counter;
+            target.add(type, delta);
+            return target;
+        });
+    }
+
+    /**
+     * 응답 값 보정용 예상 증가분 누적 (DB에 반영하지 않으며 confirm 으로 제거)
+     *
+     * @param postId 게시물 Id
+     * @param type   좋아요
+     * @param delta  예상 증가분
+     */
+    public void expect(Long postId, EngagementType type, long delta) {
+
+        counters.compute(postId, (id, counter) -> {
+            PendingCounter target = counter == null ? new PendingCounter() : counter;
+            target.expect(type, delta);
+            return target;
+        });
+    }
+
+    /**
+     * 예상 증가분을 실제 증가분으로 교체 (응답 값이 중간에 두 번 더해지지 않도록 한 번에 반영)
+     *
+     * @param postId   게시물 Id
+     * @param type     좋아요
+     * @param expected 제거할 예상 증가분
+     * @param actual   DB에 반영할 실제 증가분
+     */
+    public void confirm(Long postId, EngagementType type, long expected, long actual) {
+
+        counters.compute(postId, (id, counter) -> {
+            PendingCounter target = counter == null ? new PendingCounter() : counter;
+            target.expect(type, -expected);
+            target.add(type, actual);
+            return target;
+        });
+    }
+
+    /**
+     * 이 인스턴스가 요청 시 예상 증가분을 더해둔 이벤트인지 여부
+     *
+     * @param event 좋아요, 좋아요 취소 이벤트
+     */
+    public boolean isExpected(EngagementEvent event) {
+
+        return event.getOccurredAt() >= startedAt;
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 증가분 조회 (응답 값 보정용, 예상 증가분 포함)
+     *
+     * @param postId 게시물 Id
+     * @param type   조회, 좋아요, 공유
+     * @return 대기 중인 증가분
+     */
+    public long pending(Long postId, EngagementType type) {
+
+        PendingCounter counter = counters.get(postId);
+        return counter == null ? 0L : counter.sum(type) + counter.expected(type);
+    }
+
+    /**
+     * 대기 중인 증가분 합계 (metric)
+     */
+    public long backlog() {
+
+        long backlog = 0L;
+        for (PendingCounter counter : counters.values()) {
+            for (EngagementType type : EngagementType.values()) {
+                backlog += Math.abs(counter.sum(type));
+            }
+        }
+        return backlog;
+    }
+
+    /**
+     * 삭제된 게시물의 대기 중인 증가분 폐기
+     *
+     * @param postId 게시물 Id
+     */
+    public void discard(Long postId) {
+
+        counters.remove(postId);
+    }
+
+    /**
+     * 대기 중인 증가분을 게시물 Id 순으로 모아 한 번의 batch UPDATE 로 반영합니다.
+     * 실패하면 증가분을 다시 버퍼에 되돌려 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${socialhub.counter.flush-interval:1000}")
+    public void flush() {
+
+        // 1. 증가분 drain (Id 순 정렬로 다중 인스턴스 간 deadlock 방지)
+        Map<Long, long[]> drained = new TreeMap<>();
+        counters.forEach((postId, counter) -> {
+            long[] deltas = counter.drain();
+            if (hasDelta(deltas)) {
+                drained.put(postId, deltas);
+            }
+        });
+
+        if (drained.isEmpty()) {
+            evictEmpty();
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(drained.size());
+        drained.forEach((postId, deltas) -> batchArgs.add(new Object[]{
+                deltas[EngagementType.VIEW.ordinal()],
+                deltas[EngagementType.LIKE.ordinal()],
+                deltas[EngagementType.SHARE.ordinal()],
+                postId
+        }));
+
+        // 2. batch UPDATE
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+                if (readModelEnabled) {
+                    jdbcTemplate.batchUpdate(READ_MODEL_FLUSH_SQL, batchArgs);
+                }
+            }));
+        } catch (RuntimeException e) {
+            log.warn("카운터 반영에 실패하여 다음 주기에 재시도합니다. 게시물 수 : {}", drained.size(), e);
+            drained.forEach((postId, deltas) -> {
+                for (EngagementType type : EngagementType.values()) {
+                    add(postId, type, deltas[type.ordinal()]);
+                }
+            });
+            return;
+        }
+
+        // 3. 반영 후 증가분이 없는 게시물 제거
+        evictEmpty();
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void drain() {
+
+        flush();
+    }
+
+    int size() {
+
+        return counters.size();
+    }
+
+    private void evictEmpty() {
+
+        for (Long postId : counters.keySet()) {
+            counters.computeIfPresent(postId, (id, counter) -> counter.isEmpty() ? null : counter);
+        }
+    }
+
+    private boolean hasDelta(long[] deltas) {
+
+        for (long delta : deltas) {
+            if (delta != 0L) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 게시물 하나의 조회/좋아요/공유 증가분 (LongAdder 로 스레드 간 경합 분산)
+    private static class PendingCounter {
+
+        private final LongAdder[] deltas = new LongAdder[EngagementType.values().length];
+        private final LongAdder[] expected = new LongAdder[EngagementType.values().length];
+
+        PendingCounter() {
+
+            for (int i = 0; i < deltas.length; i++) {
+                deltas[i] = new LongAdder();
+                expected[i] = new LongAdder();
+            }
+        }
+
+        void add(EngagementType type, long delta) {
+
+            deltas[type.ordinal()].add(delta);
+        }
+
+        void expect(EngagementType type, long delta) {
+
+            expected[type.ordinal()].add(delta);
+        }
+
+        long sum(EngagementType type) {
+
+            return deltas[type.ordinal()].sum();
+        }
+
+        long expected(EngagementType type) {
+
+            return expected[type.ordinal()].sum();
+        }
+
+        boolean isEmpty() {
+
+            for (int i = 0; i < deltas.length; i++) {
+                if (deltas[i].sum() != 0L || expected[i].sum() != 0L) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long[] drain() {
+
+            long[] drained = new long[deltas.length];
+            for (int i = 0; i < deltas.length; i++) {
+                drained[i] = deltas[i].sumThenReset();
+            }
+            return drained;
+        }
+
+    }
+
+}
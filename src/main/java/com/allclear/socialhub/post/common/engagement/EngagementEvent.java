@@ -0,0 +1,21 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EngagementEvent {
+
+    private final EngagementType type;
+    private final Long postId;
+    private final Long userId;
+    // 이벤트 발생 시각 (epoch millis), created_at 으로 저장
+    private final long occurredAt;
+
+    public static EngagementEvent of(EngagementType type, Long postId, Long userId) {
+
+        return new EngagementEvent(type, postId, userId, System.currentTimeMillis());
+    }
+
+}
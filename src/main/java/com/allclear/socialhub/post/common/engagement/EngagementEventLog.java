@@ -0,0 +1,348 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 조회/좋아요/공유 이벤트를 DB에 기록하기 전에 먼저 append 하는 로컬 로그입니다.
+ * 고정 크기 segment 파일을 memory-mapped 로 열어 32 byte 고정 길이 레코드를 순차 기록하고,
+ * consumer 가 DB에 반영한 위치(offset)를 checkpoint 파일로 남겨 재시작 시 그 이후부터 다시 읽습니다.
+ * <p>
+ * 레코드 : postId(8) | userId(8) | occurredAt(8) | type(4, ordinal + 1) | crc32(4)
+ */
+@Slf4j
+@Component
+public class EngagementEventLog {
+
+    static final int RECORD_SIZE = 32;
+    private static final int PAYLOAD_SIZE = 28;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String CHECKPOINT_FILE = "consumer.offset";
+
+    private final Path directory;
+    private final int segmentRecords;
+
+    // 시작 offset -> segment
+    private final NavigableMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private volatile Segment active;
+    private volatile long writeOffset;
+    private volatile long committedOffset;
+
+    public EngagementEventLog(@Value("${socialhub.engagement.log.dir:./data/engagement-log}") String directory,
+                              @Value("${socialhub.engagement.log.segment-records:1048576}") int segmentRecords) {
+
+        this.directory = Paths.get(directory);
+        this.segmentRecords = segmentRecords;
+    }
+
+    /**
+     * 기존 segment 를 열고 마지막으로 온전히 기록된 레코드 다음 위치부터 이어서 기록하도록 복구합니다.
+     */
+    @PostConstruct
+    public void open() throws IOException {
+
+        Files.createDirectories(directory);
+
+        // 1. segment 파일 열기 (파일명 = 시작 offset)
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(SEGMENT_SUFFIX)).toList()) {
+                String fileName = file.getFileName().toString();
+                long baseOffset = Long.parseLong(fileName.substring(0, fileName.length() - SEGMENT_SUFFIX.length()));
+                segments.put(baseOffset, Segment.open(file, baseOffset, segmentRecords));
+            }
+        }
+
+        // 2. checkpoint 읽기
+        long checkpoint = readCheckpoint();
+
+        // 3. 마지막 segment 에서 온전한 레코드 개수를 찾아 기록 위치 복구
+        if (segments.isEmpty()) {
+            active = createSegment(checkpoint);
+            writeOffset = checkpoint;
+        } else {
+            active = segments.lastEntry().getValue();
+            writeOffset = active.getBaseOffset() + active.recover();
+        }
+
+        committedOffset = Math.max(segments.firstKey(), Math.min(checkpoint, writeOffset));
+        deleteConsumedSegments();
+
+        log.info("참여 이벤트 로그를 열었습니다. committed : {}, write : {}, segment 수 : {}",
+                committedOffset, writeOffset, segments.size());
+    }
+
+    /**
+     * 이벤트를 로그 끝에 기록 (segment 가 가득 차면 다음 segment 로 넘어감)
+     *
+     * @param event 조회, 좋아요, 공유 이벤트
+     * @return 기록 후 write offset
+     */
+    public synchronized long append(EngagementEvent event) {
+
+        int index = (int) (writeOffset - active.getBaseOffset());
+        if (index >= active.getCapacity()) {
+            active.force();
+            active = createSegment(writeOffset);
+            index = 0;
+        }
+
+        active.write(index, event);
+        writeOffset++;
+        notifyAll();
+
+        return writeOffset;
+    }
+
+    /**
+     * fromOffset 부터 최대 maxRecords 개의 이벤트 조회
+     *
+     * @param fromOffset 읽기 시작 offset
+     * @param maxRecords 최대 개수
+     * @return 읽은 이벤트와 다음 읽기 offset
+     */
+    public Batch read(long fromOffset, int maxRecords) {
+
+        long end = Math.min(writeOffset, fromOffset + maxRecords);
+        List<EngagementEvent> events = new ArrayList<>((int) Math.max(0, end - fromOffset));
+
+        Segment segment = null;
+        for (long offset = fromOffset; offset < end; offset++) {
+            if (segment == null || offset >= segment.getBaseOffset() + segment.getCapacity()) {
+                Map.Entry<Long, Segment> entry = segments.floorEntry(offset);
+                segment = entry.getValue();
+            }
+
+            EngagementEvent event = segment.read((int) (offset - segment.getBaseOffset()));
+            if (event == null) {
+                log.warn("손상된 참여 이벤트 레코드를 건너뜁니다. offset : {}", offset);
+                continue;
+            }
+            events.add(event);
+        }
+
+        return new Batch(events, Math.max(fromOffset, end));
+    }
+
+    /**
+     * fromOffset 이후 레코드가 기록될 때까지 최대 timeoutMillis 동안 대기
+     *
+     * @return 읽을 레코드가 있으면 true
+     */
+    public synchronized boolean awaitRecords(long fromOffset, long timeoutMillis) throws InterruptedException {
+
+        if (writeOffset <= fromOffset) {
+            wait(timeoutMillis);
+        }
+        return writeOffset > fromOffset;
+    }
+
+    /**
+     * DB 반영이 끝난 위치를 checkpoint 로 기록하고, 모두 반영된 segment 를 삭제합니다.
+     *
+     * @param offset DB에 반영된 다음 offset
+     */
+    public void commit(long offset) {
+
+        committedOffset = offset;
+        writeCheckpoint(offset);
+        deleteConsumedSegments();
+    }
+
+    /**
+     * 기록된 내용을 디스크에 동기화 (프로세스가 아닌 OS 장애 대비)
+     */
+    public void force() {
+
+        active.force();
+    }
+
+    /**
+     * DB에 반영되지 않은 레코드 수
+     */
+    public long backlog() {
+
+        return writeOffset - committedOffset;
+    }
+
+    public long getCommittedOffset() {
+
+        return committedOffset;
+    }
+
+    public int segmentCount() {
+
+        return segments.size();
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+
+        active.force();
+        writeCheckpoint(committedOffset);
+    }
+
+    private Segment createSegment(long baseOffset) {
+
+        Path file = directory.resolve(String.format("%020d%s", baseOffset, SEGMENT_SUFFIX));
+        try {
+            Segment segment = Segment.open(file, baseOffset, segmentRecords);
+            segments.put(baseOffset, segment);
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("참여 이벤트 로그 segment 생성에 실패하였습니다.", e);
+        }
+    }
+
+    // 활성 segment 를 제외하고 모든 레코드가 DB에 반영된 segment 삭제 (retention)
+    private void deleteConsumedSegments() {
+
+        for (Segment segment : segments.values()) {
+            if (segment == active || segment.getBaseOffset() + segment.getCapacity() > committedOffset) {
+                break;
+            }
+
+            segments.remove(segment.getBaseOffset());
+            try {
+                Files.deleteIfExists(segment.getFile());
+            } catch (IOException e) {
+                log.warn("참여 이벤트 로그 segment 삭제에 실패하였습니다. file : {}", segment.getFile(), e);
+            }
+        }
+    }
+
+    private long readCheckpoint() throws IOException {
+
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(checkpoint)) {
+            return segments.isEmpty() ? 0L : segments.firstKey();
+        }
+        return ByteBuffer.wrap(Files.readAllBytes(checkpoint)).getLong();
+    }
+
+    private void writeCheckpoint(long offset) {
+
+        Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+        Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try {
+            Files.write(temp, ByteBuffer.allocate(Long.BYTES).putLong(offset).array());
+            Files.move(temp, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("참여 이벤트 로그 checkpoint 기록에 실패하였습니다.", e);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Batch {
+
+        private final List<EngagementEvent> events;
+        private final long nextOffset;
+
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Segment {
+
+        private final Path file;
+        private final long baseOffset;
+        private final int capacity;
+        private final MappedByteBuffer buffer;
+
+        static Segment open(Path file, long baseOffset, int segmentRecords) throws IOException {
+
+            try (FileChannel channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                // 기존 파일은 파일 크기 기준, 새 파일은 설정값 기준으로 용량 결정
+                long existingRecords = channel.size() / RECORD_SIZE;
+                int capacity = existingRecords > 0 ? (int) existingRecords : segmentRecords;
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) capacity * RECORD_SIZE);
+                return new Segment(file, baseOffset, capacity, buffer);
+            }
+        }
+
+        void write(int index, EngagementEvent event) {
+
+            byte[] payload = ByteBuffer.allocate(PAYLOAD_SIZE)
+                    .putLong(event.getPostId())
+                    .putLong(event.getUserId())
+                    .putLong(event.getOccurredAt())
+                    .putInt(event.getType().ordinal() + 1)
+                    .array();
+
+            int position = index * RECORD_SIZE;
+            buffer.put(position, payload);
+            buffer.putInt(position + PAYLOAD_SIZE, checksum(payload));
+        }
+
+        EngagementEvent read(int index) {
+
+            int position = index * RECORD_SIZE;
+            byte[] payload = new byte[PAYLOAD_SIZE];
+            buffer.get(position, payload);
+
+            if (buffer.getInt(position + PAYLOAD_SIZE) != checksum(payload)) {
+                return null;
+            }
+
+            ByteBuffer record = ByteBuffer.wrap(payload);
+            long postId = record.getLong();
+            long userId = record.getLong();
+            long occurredAt = record.getLong();
+            int typeCode = record.getInt();
+            if (typeCode < 1 || typeCode > EngagementType.values().length) {
+                return null;
+            }
+
+            return new EngagementEvent(EngagementType.values()[typeCode - 1], postId, userId, occurredAt);
+        }
+
+        // 앞에서부터 checksum 이 맞는 레코드 수 (crash 로 잘린 레코드 이후는 덮어씀)
+        int recover() {
+
+            for (int index = 0; index < capacity; index++) {
+                if (read(index) == null) {
+                    return index;
+                }
+            }
+            return capacity;
+        }
+
+        void force() {
+
+            buffer.force();
+        }
+
+        private static int checksum(byte[] payload) {
+
+            CRC32 crc32 = new CRC32();
+            crc32.update(payload);
+            return (int) crc32.getValue();
+        }
+
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 조회/좋아요/공유 이벤트를 요청 스레드에서 EngagementEventLog 에 append 하고,
+ * 별도 스레드에서 로그를 batch 단위로 읽어 DB에 기록한 뒤 offset 을 commit 합니다.
+ * DB 기록 후 commit 전에 종료되면 재시작 시 다시 기록되므로 at-least-once 로 동작합니다.
+ * 미반영 레코드가 max-backlog 를 넘으면 조회 이벤트는 버립니다(load shedding).
+ */
+@Slf4j
+@Component
+public class EngagementEventPipeline {
+
+    private static final long RETRY_BACKOFF = 1000L;
+
+    private final EngagementEventLog eventLog;
+    private final EngagementEventWriter writer;
+    private final int batchSize;
+    private final long maxBacklog;
+    private final long fsyncInterval;
+
+    private final Counter droppedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer lagTimer;
+
+    private volatile boolean running;
+    private Thread consumer;
+
+    public EngagementEventPipeline(EngagementEventLog eventLog,
+                                   EngagementEventWriter writer,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${socialhub.engagement.ingestion.batch-size:500}") int batchSize,
+                                   @Value("${socialhub.engagement.ingestion.max-backlog:5000000}") long maxBacklog,
+                                   @Value("${socialhub.engagement.log.fsync-interval:1000}") long fsyncInterval) {
+
+        this.eventLog = eventLog;
+        this.writer = writer;
+        this.batchSize = batchSize;
+        this.maxBacklog = maxBacklog;
+        this.fsyncInterval = fsyncInterval;
+
+        this.droppedCounter = Counter.builder("post.engagement.ingestion.dropped")
+                .description("backlog 가 가득 차 버려진 조회 이벤트 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("post.engagement.ingestion.batch.size")
+                .description("한 번에 기록한 이벤트 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("post.engagement.ingestion.lag")
+                .description("이벤트 발생부터 DB 기록까지 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("post.engagement.log.backlog", eventLog, EngagementEventLog::backlog)
+                .description("DB에 반영되지 않은 로그 레코드 수")
+                .register(meterRegistry);
+        Gauge.builder("post.engagement.log.segments", eventLog, EngagementEventLog::segmentCount)
+                .description("보관 중인 로그 segment 수")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+
+        running = true;
+        consumer = new Thread(this::consume, "engagement-ingestion");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    /**
+     * 이벤트 접수
+     *
+     * @param event 조회, 좋아요, 공유 이벤트
+     */
+    public void submit(EngagementEvent event) {
+
+        // 1. DB 반영이 크게 밀린 경우 조회 이벤트는 버림 (조회수 카운터는 EngagementCounterBuffer 에서 별도로 증가)
+        if (event.getType() == EngagementType.VIEW && eventLog.backlog() >= maxBacklog) {
+            droppedCounter.increment();
+            return;
+        }
+
+        // 2. 로그에 append
+        eventLog.append(event);
+    }
+
+    /**
+     * 종료 시 consumer 를 멈추고 로그에 남은 이벤트를 모두 기록
+     * (기록에 실패했거나 consumer 가 멈추지 않아 기록하지 않은 이벤트는 로그에 남아 재시작 후 다시 기록됨)
+     */
+    @PreDestroy
+    public void stop() {
+
+        running = false;
+        if (consumer != null) {
+            consumer.interrupt();
+            try {
+                consumer.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            // consumer 가 아직 batch 를 기록 중이면 같은 offset 부터 중복 기록하지 않도록 남은 이벤트는 재시작 후 기록
+            if (consumer.isAlive()) {
+                log.warn("참여 이벤트 consumer 가 종료되지 않아 남은 이벤트는 재시작 후 기록합니다. 남은 이벤트 : {}", eventLog.backlog());
+                eventLog.force();
+                return;
+            }
+        }
+
+        try {
+            while (eventLog.backlog() > 0) {
+                consumeBatch(eventLog.getCommittedOffset());
+            }
+        } catch (RuntimeException e) {
+            log.warn("종료 중 참여 이벤트 기록에 실패하였습니다. 남은 이벤트 : {}", eventLog.backlog(), e);
+        }
+        eventLog.force();
+    }
+
+    private void consume() {
+
+        long offset = eventLog.getCommittedOffset();
+        long lastForcedAt = System.currentTimeMillis();
+
+        while (running) {
+            try {
+                if (eventLog.awaitRecords(offset, 100)) {
+                    offset = consumeBatch(offset);
+                }
+
+                long now = System.currentTimeMillis();
+                if (now - lastForcedAt >= fsyncInterval) {
+                    eventLog.force();
+                    lastForcedAt = now;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // commit 하지 않았으므로 같은 offset 부터 재시도
+                log.error("참여 이벤트 기록 중 오류가 발생하였습니다. offset : {}", offset, e);
+                try {
+                    Thread.sleep(RETRY_BACKOFF);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // offset 부터 한 batch 를 기록하고 commit, 다음 offset 반환
+    private long consumeBatch(long offset) {
+
+        EngagementEventLog.Batch batch = eventLog.read(offset, batchSize);
+        if (!batch.getEvents().isEmpty()) {
+            write(batch.getEvents());
+        }
+        eventLog.commit(batch.getNextOffset());
+
+        return batch.getNextOffset();
+    }
+
+    private void write(List<EngagementEvent> batch) {
+
+        writer.write(batch);
+
+        long now = System.currentTimeMillis();
+        batchSizeSummary.record(batch.size());
+        for (EngagementEvent event : batch) {
+            lagTimer.record(now - event.getOccurredAt(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,231 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import com.allclear.socialhub.post.common.trending.TrendingRanking;
+import com.allclear.socialhub.post.domain.PostType;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 조회/좋아요/공유 이벤트를 테이블별 JDBC batch INSERT 로 기록합니다.
+ * (IDENTITY 전략이라 Hibernate insert batching 이 불가능하므로 JDBC 로 직접 기록,
+ * rewriteBatchedStatements 옵션으로 multi-row INSERT 로 변환됩니다.)
+ * 좋아요는 (user_id, post_id) unique 제약에 INSERT IGNORE 로 기록하고, 좋아요 취소는 DELETE 로 반영합니다.
+ * 좋아요수 증감과 인기 점수는 실제로 추가/삭제된 row 에 대해서만 반영하므로,
+ * 인스턴스별 좋아요 인덱스가 틀리거나 이벤트가 다시 기록되어도 중복으로 세지 않습니다.
+ * 한 batch 의 모든 이벤트와 sns_outbox 알림은 한 트랜잭션으로 기록하고, 좋아요/공유는 실제로 추가된 row 에 대해서만 알림을 기록합니다.
+ * (이벤트 로그는 at-least-once 이므로 다시 기록된 좋아요는 INSERT IGNORE 에서 걸러져 알림이 중복되지 않습니다.)
+ */
+@Slf4j
+@Component
+public class EngagementEventWriter {
+
+    private static final String OUTBOX_SQL = "INSERT INTO sns_outbox " +
+            "(post_type, post_id, api_type, status, attempts, next_attempt_at, created_at, updated_at) " +
+            "SELECT p.type, p.id, ?, 'PENDING', 0, ?, ?, ? FROM post p WHERE p.id = ?";
+    private static final String POST_TYPE_SQL = "SELECT id, type FROM post WHERE id IN (%s)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EngagementCounterBuffer engagementCounterBuffer;
+    private final TrendingRanking trendingRanking;
+
+    public EngagementEventWriter(JdbcTemplate jdbcTemplate,
+                                 PlatformTransactionManager transactionManager,
+                                 EngagementCounterBuffer engagementCounterBuffer,
+                                 TrendingRanking trendingRanking) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.engagementCounterBuffer = engagementCounterBuffer;
+        this.trendingRanking = trendingRanking;
+    }
+
+    /**
+     * 이벤트 목록을 타입별로 묶어 한 트랜잭션으로 기록
+     * (일부가 실패하면 batch 전체가 rollback 되어 같은 offset 부터 다시 기록해도 조회/공유 row 와 알림이 중복되지 않음)
+     *
+     * @param events 기록할 이벤트 목록
+     */
+    public void write(List<EngagementEvent> events) {
+
+        // 1. 삭제된 게시물의 이벤트는 제외 (게시물 타입은 인기 점수 반영에도 사용)
+        Map<Long, PostType> types = postTypes(events.stream().map(EngagementEvent::getPostId).distinct().toList());
+
+        Map<EngagementType, List<EngagementEvent>> eventsByType = new EnumMap<>(EngagementType.class);
+
+        // 좋아요/좋아요 취소는 (유저, 게시물) 별 마지막 이벤트만 반영
+        List<EngagementEvent> likeEvents = new ArrayList<>();
+        Map<List<Long>, EngagementEvent> lastLikeEvents = new LinkedHashMap<>();
+        for (EngagementEvent event : events) {
+            if (isLikeEvent(event.getType())) {
+                likeEvents.add(event);
+                if (types.containsKey(event.getPostId())) {
+                    lastLikeEvents.put(List.of(event.getUserId(), event.getPostId()), event);
+                }
+            } else if (types.containsKey(event.getPostId())) {
+                eventsByType.computeIfAbsent(event.getType(), type -> new ArrayList<>()).add(event);
+            } else {
+                log.warn("삭제된 게시물의 {} 이벤트를 건너뜁니다. postId : {}, userId : {}",
+                        event.getType().getTableName(), event.getPostId(), event.getUserId());
+            }
+        }
+
+        // 2. 조회/공유 batch INSERT 와 좋아요/좋아요 취소, 알림 outbox 를 한 트랜잭션으로 기록
+        List<EngagementEvent> appliedLikes = transactionTemplate.execute(status -> {
+            eventsByType.forEach(this::insert);
+            return writeLikes(new ArrayList<>(lastLikeEvents.values()));
+        });
+
+        // 3. commit 후 좋아요수, 인기 점수 반영
+        if (!likeEvents.isEmpty()) {
+            applyLikes(appliedLikes, likeEvents, types);
+        }
+    }
+
+    // 좋아요/좋아요 취소를 한 건씩 실행하여 실제로 반영된 이벤트만 반환 (rewriteBatchedStatements 로 묶인 INSERT 는 row 별 결과를 돌려주지 않음)
+    private List<EngagementEvent> writeLikes(List<EngagementEvent> lastEvents) {
+
+        List<EngagementEvent> affected = new ArrayList<>();
+        for (EngagementEvent event : lastEvents) {
+            if (jdbcTemplate.update(sql(event.getType()), ps -> bind(ps, event)) > 0) {
+                affected.add(event);
+            }
+        }
+        enqueueNotifications(EngagementType.LIKE, affected.stream()
+                .filter(event -> event.getType() == EngagementType.LIKE)
+                .toList());
+        return affected;
+    }
+
+    /**
+     * 실제로 추가/삭제된 row 로 좋아요수, 인기 점수 반영
+     *
+     * @param applied   실제로 반영된 좋아요/좋아요 취소 이벤트
+     * @param allEvents batch 의 모든 좋아요/좋아요 취소 이벤트 (요청 시 더해둔 예상 증가분 제거용)
+     * @param types     게시물별 타입
+     */
+    private void applyLikes(List<EngagementEvent> applied, List<EngagementEvent> allEvents, Map<Long, PostType> types) {
+
+        // 1. 게시물별 좋아요수 증감 (요청 시 더해둔 예상 증가분을 실제 증가분으로 교체)
+        Map<Long, long[]> deltasByPostId = new TreeMap<>();
+        for (EngagementEvent event : allEvents) {
+            if (engagementCounterBuffer.isExpected(event)) {
+                deltasByPostId.computeIfAbsent(event.getPostId(), postId -> new long[2])[0] += likeDelta(event);
+            }
+        }
+        for (EngagementEvent event : applied) {
+            deltasByPostId.computeIfAbsent(event.getPostId(), postId -> new long[2])[1] += likeDelta(event);
+        }
+        deltasByPostId.forEach((postId, deltas) ->
+                engagementCounterBuffer.confirm(postId, EngagementType.LIKE, deltas[0], deltas[1]));
+
+        // 2. 새로 추가된 좋아요만 인기 점수 누적
+        for (EngagementEvent event : applied) {
+            if (event.getType() == EngagementType.LIKE) {
+                trendingRanking.record(event.getPostId(), types.get(event.getPostId()), EngagementType.LIKE);
+            }
+        }
+    }
+
+    private void insert(EngagementType type, List<EngagementEvent> events) {
+
+        int[][] counts = jdbcTemplate.batchUpdate(sql(type), events, events.size(), this::bind);
+        enqueueNotifications(type, affected(events, counts));
+    }
+
+    // 외부 SNS API 알림을 outbox 에 기록 (게시물 타입은 post 테이블에서 조회)
+    private void enqueueNotifications(EngagementType type, List<EngagementEvent> events) {
+
+        if (type.getSnsApiType() == null || events.isEmpty()) {
+            return;
+        }
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        jdbcTemplate.batchUpdate(OUTBOX_SQL, events, events.size(), (ps, event) -> {
+            ps.setString(1, type.getSnsApiType());
+            ps.setTimestamp(2, now);
+            ps.setTimestamp(3, now);
+            ps.setTimestamp(4, now);
+            ps.setLong(5, event.getPostId());
+        });
+    }
+
+    // batch 결과에서 row 가 추가된 이벤트만 (rewriteBatchedStatements 로 묶이면 row 별 결과 대신 SUCCESS_NO_INFO 를 반환)
+    private List<EngagementEvent> affected(List<EngagementEvent> events, int[][] counts) {
+
+        List<EngagementEvent> affected = new ArrayList<>(events.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                    affected.add(events.get(index));
+                }
+                index++;
+            }
+        }
+        return affected;
+    }
+
+    // 게시물 타입 조회 (IN 쿼리 한 번, 삭제된 게시물은 포함되지 않음)
+    private Map<Long, PostType> postTypes(Collection<Long> postIds) {
+
+        Map<Long, PostType> types = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return types;
+        }
+
+        String sql = String.format(POST_TYPE_SQL, String.join(",", Collections.nCopies(postIds.size(), "?")));
+        jdbcTemplate.query(sql, rs -> {
+            types.put(rs.getLong("id"), PostType.valueOf(rs.getString("type")));
+        }, postIds.toArray());
+        return types;
+    }
+
+    private long likeDelta(EngagementEvent event) {
+
+        return event.getType() == EngagementType.LIKE ? 1L : -1L;
+    }
+
+    private String sql(EngagementType type) {
+
+        return switch (type) {
+            case VIEW, SHARE -> "INSERT INTO " + type.getTableName() + " (user_id, post_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+            case LIKE -> "INSERT IGNORE INTO post_like (user_id, post_id, created_at, updated_at) VALUES (?, ?, ?, ?)";
+            case UNLIKE -> "DELETE FROM post_like WHERE user_id = ? AND post_id = ?";
+        };
+    }
+
+    private void bind(PreparedStatement ps, EngagementEvent event) throws SQLException {
+
+        ps.setLong(1, event.getUserId());
+        ps.setLong(2, event.getPostId());
+        if (event.getType() != EngagementType.UNLIKE) {
+            Timestamp occurredAt = new Timestamp(event.getOccurredAt());
+            ps.setTimestamp(3, occurredAt);
+            ps.setTimestamp(4, occurredAt);
+        }
+    }
+
+    private boolean isLikeEvent(EngagementType type) {
+
+        return type == EngagementType.LIKE || type == EngagementType.UNLIKE;
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum EngagementType {
+
+    // 이벤트 로그에 ordinal 을 기록하므로 새 타입은 항상 끝에 추가
+    VIEW("post_view", null),
+    LIKE("post_like", "likes"),
+    SHARE("post_share", "share"),
+    UNLIKE("post_like", null);
+
+    // 이벤트 row 가 저장되는 테이블명
+    private final String tableName;
+
+    // 외부 SNS API 알림 종류 (알림이 없으면 null)
+    private final String snsApiType;
+
+}
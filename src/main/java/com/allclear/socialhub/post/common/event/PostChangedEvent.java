@@ -0,0 +1,16 @@
+package com.allclear.socialhub.post.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시물 또는 게시물의 해시태그가 등록/수정/삭제되었음을 알리는 이벤트입니다.
+ * 트랜잭션이 commit 된 뒤 처리되며, 받는 쪽은 DB 에서 게시물의 현재 상태를 다시 읽어 반영합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class PostChangedEvent {
+
+    private final Long postId;
+
+}
@@ -0,0 +1,19 @@
+package com.allclear.socialhub.post.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 게시물이 등록되었음을 알리는 이벤트입니다. (트랜잭션이 commit 된 뒤 처리)
+ */
+@Getter
+@AllArgsConstructor
+public class PostCreatedEvent {
+
+    private final Long postId;
+    private final Long userId;
+    private final List<Long> hashtagIds;
+
+}
@@ -0,0 +1,19 @@
+package com.allclear.socialhub.post.common.export;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 게시물 내보내기 형식
+ */
+@Getter
+@AllArgsConstructor
+public enum PostExportFormat {
+
+    NDJSON("application/x-ndjson", "ndjson"), // 게시물 하나당 JSON 한 줄
+    CSV("text/csv", "csv");                   // 첫 줄은 컬럼명, 해시태그는 공백으로 구분
+
+    private final String contentType;
+    private final String extension;
+
+}
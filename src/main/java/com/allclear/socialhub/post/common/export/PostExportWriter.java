@@ -0,0 +1,97 @@
+package com.allclear.socialhub.post.common.export;
+
+import com.allclear.socialhub.post.dto.PostListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 게시물 목록을 chunk 단위로 NDJSON 또는 CSV 로 씁니다.
+ * chunk 마다 flush 하므로 응답은 조회와 동시에 전송되고, 메모리에는 chunk 하나만 남습니다.
+ */
+public class PostExportWriter {
+
+    private static final String CSV_HEADER = "postId,type,title,content,hashtags,viewCnt,likeCnt,shareCnt,likedByMe,createdAt,updatedAt";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Writer writer;
+    private final PostExportFormat format;
+    private final ObjectMapper objectMapper;
+
+    public PostExportWriter(OutputStream out, PostExportFormat format, ObjectMapper objectMapper) {
+
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 첫 줄 (CSV 면 엑셀에서 한글이 깨지지 않도록 BOM 과 컬럼명)
+     */
+    public void writeHeader() throws IOException {
+
+        if (format == PostExportFormat.CSV) {
+            writer.write('\uFEFF');
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+    }
+
+    /**
+     * chunk 쓰기 후 flush
+     *
+     * @param postList 게시물 목록
+     */
+    public void write(List<PostListResponse> postList) throws IOException {
+
+        for (PostListResponse post : postList) {
+            writer.write(format == PostExportFormat.CSV ? toCsv(post) : objectMapper.writeValueAsString(post));
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    private String toCsv(PostListResponse post) {
+
+        List<String> hashtags = post.getHashtagList() == null ? List.of() : post.getHashtagList();
+
+        return String.join(",",
+                String.valueOf(post.getPostId()),
+                String.valueOf(post.getType()),
+                escape(post.getTitle()),
+                escape(post.getContent()),
+                escape(hashtags.stream().map(hashtag -> "#" + hashtag).reduce((left, right) -> left + " " + right).orElse("")),
+                String.valueOf(post.getViewCnt()),
+                String.valueOf(post.getLikeCnt()),
+                String.valueOf(post.getShareCnt()),
+                String.valueOf(post.isLikedByMe()),
+                format(post.getCreatedAt()),
+                format(post.getUpdatedAt()));
+    }
+
+    // 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 씀 (RFC 4180)
+    private static String escape(String value) {
+
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String format(LocalDateTime dateTime) {
+
+        return dateTime == null ? "" : dateTime.format(DATE_TIME_FORMATTER);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.allclear.socialhub.post.common.feed;
+
+import com.allclear.socialhub.post.common.event.PostCreatedEvent;
+import com.allclear.socialhub.post.common.feed.repository.FeedRedisRepository;
+import com.allclear.socialhub.post.common.hashtag.repository.HashtagSubscriptionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게시물 등록이 commit 되면 별도 스레드에서 작성자와 해시태그 구독자의 피드에 게시물 Id 를 넣습니다(fan-out on write).
+ * <p>
+ * 구독자가 hot-hashtag-subscribers 명 이상인 해시태그는 구독자 피드에 넣지 않고 인기 해시태그로 표시해 두며,
+ * 피드 조회 시 해시태그 타임라인과 합칩니다. 그래서 게시물 하나의 fan-out 비용은 인기 해시태그가 아닌 해시태그의 구독자 수로 제한됩니다.
+ * 대기열이 가득 차거나 Redis 오류로 넣지 못한 게시물은 피드에서 빠지며, 한 번 인기 해시태그로 표시되면 구독자가 줄어도 그대로 유지합니다.
+ */
+@Slf4j
+@Component
+public class FeedFanOutWorker {
+
+    private final FeedRedisRepository feedRedisRepository;
+    private final HashtagSubscriptionRepository hashtagSubscriptionRepository;
+    private final long hotHashtagSubscribers;
+    private final int batchSize;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter rejectedCounter;
+    private final DistributionSummary fanOutSummary;
+
+    public FeedFanOutWorker(FeedRedisRepository feedRedisRepository,
+                            HashtagSubscriptionRepository hashtagSubscriptionRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${socialhub.feed.hot-hashtag-subscribers:10000}") long hotHashtagSubscribers,
+                            @Value("${socialhub.feed.fan-out-batch-size:1000}") int batchSize,
+                            @Value("${socialhub.feed.queue-capacity:10000}") int queueCapacity) {
+
+        this.feedRedisRepository = feedRedisRepository;
+        this.hashtagSubscriptionRepository = hashtagSubscriptionRepository;
+        this.hotHashtagSubscribers = hotHashtagSubscribers;
+        this.batchSize = batchSize;
+        this.executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "feed-fan-out");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.rejectedCounter = Counter.builder("feed.fan-out.rejected")
+                .description("대기열이 가득 차 피드에 넣지 못한 게시물 수")
+                .register(meterRegistry);
+        this.fanOutSummary = DistributionSummary.builder("feed.fan-out.size")
+                .description("게시물 하나를 넣은 피드 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시물 등록 이벤트 접수 (commit 후 실행, 트랜잭션 밖에서 발행되면 바로 실행)
+     *
+     * @param event 등록된 게시물
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(PostCreatedEvent event) {
+
+        try {
+            executor.execute(() -> {
+                try {
+                    fanOut(event);
+                } catch (RuntimeException e) {
+                    log.warn("피드에 게시물을 넣지 못했습니다. postId : {}", event.getPostId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            log.warn("피드 대기열이 가득 차 게시물을 넣지 못했습니다. postId : {}", event.getPostId());
+        }
+    }
+
+    /**
+     * 작성자와 해시태그 구독자의 피드에 게시물 넣기
+     *
+     * @param event 등록된 게시물
+     */
+    public void fanOut(PostCreatedEvent event) {
+
+        Long postId = event.getPostId();
+
+        // 1. 작성자 피드
+        feedRedisRepository.push(List.of(event.getUserId()), postId);
+        long fanOut = 1;
+
+        for (Long hashtagId : event.getHashtagIds()) {
+            // 2. 해시태그 타임라인 (구독 시작/인기 해시태그 조회에 사용)
+            feedRedisRepository.pushToHashtag(hashtagId, postId);
+
+            // 3. 인기 해시태그는 조회 시 합침
+            if (hashtagSubscriptionRepository.countByHashtagId(hashtagId) >= hotHashtagSubscribers) {
+                feedRedisRepository.markHot(hashtagId);
+                continue;
+            }
+
+            // 4. 구독자 피드 (유저 Id 순으로 batch-size 명씩)
+            long afterUserId = 0;
+            List<Long> subscriberIds;
+            do {
+                subscriberIds = hashtagSubscriptionRepository.findSubscriberIds(hashtagId, afterUserId, PageRequest.of(0, batchSize));
+                if (subscriberIds.isEmpty()) {
+                    break;
+                }
+                feedRedisRepository.push(subscriberIds, postId);
+                fanOut += subscriberIds.size();
+                afterUserId = subscriberIds.get(subscriberIds.size() - 1);
+            } while (subscriberIds.size() == batchSize);
+        }
+
+        fanOutSummary.record(fanOut);
+    }
+
+    @PreDestroy
+    public void stop() {
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
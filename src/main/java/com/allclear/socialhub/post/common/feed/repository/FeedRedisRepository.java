@@ -0,0 +1,173 @@
+package com.allclear.socialhub.post.common.feed.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 유저별 피드와 해시태그별 타임라인을 Redis sorted set (member, score 모두 게시물 Id)으로 관리합니다.
+ * <p>
+ * 새 게시물은 작성자와 해시태그 구독자의 피드에 미리 넣어 두고(push), 구독자가 많은 인기 해시태그는
+ * 해시태그 타임라인에만 넣은 뒤 조회 시 구독한 인기 해시태그 타임라인과 합칩니다(pull).
+ * 각 sorted set 은 최근 max-length 개만 유지하므로 한 페이지 조회는 (1 + 구독한 인기 해시태그 수) × 페이지 크기에 비례합니다.
+ */
+@Repository
+public class FeedRedisRepository {
+
+    private static final String USER_FEED_KEY_PREFIX = "feed:user:";
+    private static final String HASHTAG_TIMELINE_KEY_PREFIX = "feed:hashtag:";
+    private static final String SUBSCRIPTIONS_KEY_PREFIX = "feed:subscriptions:";
+    private static final String HOT_HASHTAGS_KEY = "feed:hot-hashtags";
+
+    private static final RedisSerializer<String> SERIALIZER = RedisSerializer.string();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxLength;
+
+    public FeedRedisRepository(RedisTemplate<String, String> redisTemplate,
+                               @Value("${socialhub.feed.max-length:1000}") int maxLength) {
+
+        this.redisTemplate = redisTemplate;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * 유저들의 피드에 게시물 추가 (한 번의 pipeline 으로 전송)
+     *
+     * @param userIds 피드를 받을 유저 Id 목록
+     * @param postId  게시물 Id
+     */
+    public void push(Collection<Long> userIds, Long postId) {
+
+        byte[] member = serialize(String.valueOf(postId));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long userId : userIds) {
+                byte[] key = serialize(USER_FEED_KEY_PREFIX + userId);
+                connection.zSetCommands().zAdd(key, postId, member);
+                connection.zSetCommands().zRemRange(key, 0, -(maxLength + 1L));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 해시태그 타임라인에 게시물 추가
+     *
+     * @param hashtagId 해시태그 Id
+     * @param postId    게시물 Id
+     */
+    public void pushToHashtag(Long hashtagId, Long postId) {
+
+        byte[] key = serialize(HASHTAG_TIMELINE_KEY_PREFIX + hashtagId);
+        byte[] member = serialize(String.valueOf(postId));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zAdd(key, postId, member);
+            connection.zSetCommands().zRemRange(key, 0, -(maxLength + 1L));
+            return null;
+        });
+    }
+
+    /**
+     * 해시태그 구독 추가 후 해시태그 타임라인의 최근 게시물을 피드에 합침
+     *
+     * @param userId    유저 Id
+     * @param hashtagId 해시태그 Id
+     */
+    public void subscribe(Long userId, Long hashtagId) {
+
+        byte[] feedKey = serialize(USER_FEED_KEY_PREFIX + userId);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.setCommands().sAdd(serialize(SUBSCRIPTIONS_KEY_PREFIX + userId), serialize(String.valueOf(hashtagId)));
+            connection.zSetCommands().zUnionStore(feedKey, Aggregate.MAX, Weights.fromSetCount(2),
+                    feedKey, serialize(HASHTAG_TIMELINE_KEY_PREFIX + hashtagId));
+            connection.zSetCommands().zRemRange(feedKey, 0, -(maxLength + 1L));
+            return null;
+        });
+    }
+
+    /**
+     * 해시태그 구독 취소 (이미 피드에 들어간 게시물은 그대로 둠)
+     *
+     * @param userId    유저 Id
+     * @param hashtagId 해시태그 Id
+     */
+    public void unsubscribe(Long userId, Long hashtagId) {
+
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.setCommands()
+                .sRem(serialize(SUBSCRIPTIONS_KEY_PREFIX + userId), serialize(String.valueOf(hashtagId))));
+    }
+
+    /**
+     * 인기 해시태그로 표시 (이후 새 게시물은 구독자 피드에 넣지 않고 조회 시 합침)
+     *
+     * @param hashtagId 해시태그 Id
+     */
+    public void markHot(Long hashtagId) {
+
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.setCommands()
+                .sAdd(serialize(HOT_HASHTAGS_KEY), serialize(String.valueOf(hashtagId))));
+    }
+
+    /**
+     * 피드 한 페이지의 게시물 Id (유저 피드와 구독한 인기 해시태그 타임라인을 합쳐 Id 내림차순)
+     *
+     * @param userId   유저 Id
+     * @param beforeId 이 Id 보다 작은 게시물부터 (첫 페이지면 null)
+     * @param limit    최대 개수
+     * @return 게시물 Id 목록 (Id 내림차순, 중복 없음)
+     */
+    public List<Long> page(Long userId, Long beforeId, int limit) {
+
+        // 1. 구독한 인기 해시태그
+        Set<byte[]> hotHashtagIds = redisTemplate.execute((RedisCallback<Set<byte[]>>) connection -> connection.setCommands()
+                .sInter(serialize(SUBSCRIPTIONS_KEY_PREFIX + userId), serialize(HOT_HASHTAGS_KEY)));
+
+        List<byte[]> keys = new ArrayList<>();
+        keys.add(serialize(USER_FEED_KEY_PREFIX + userId));
+        if (hotHashtagIds != null) {
+            for (byte[] hashtagId : hotHashtagIds) {
+                keys.add(serialize(HASHTAG_TIMELINE_KEY_PREFIX + SERIALIZER.deserialize(hashtagId)));
+            }
+        }
+
+        // 2. sorted set 마다 beforeId 미만의 최근 limit 개 조회 (한 번의 pipeline)
+        double max = beforeId == null ? Double.POSITIVE_INFINITY : beforeId - 1;
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (byte[] key : keys) {
+                connection.zSetCommands().zRevRangeByScore(key, Double.NEGATIVE_INFINITY, max, 0, limit);
+            }
+            return null;
+        }, SERIALIZER);
+
+        // 3. 합쳐서 Id 내림차순 limit 개
+        TreeSet<Long> merged = new TreeSet<>(Comparator.reverseOrder());
+        for (Object result : results) {
+            if (result instanceof Collection<?> postIds) {
+                for (Object postId : postIds) {
+                    merged.add(Long.valueOf(String.valueOf(postId)));
+                }
+            }
+        }
+        return merged.stream().limit(limit).toList();
+    }
+
+    private static byte[] serialize(String value) {
+
+        return SERIALIZER.serialize(value);
+    }
+
+}
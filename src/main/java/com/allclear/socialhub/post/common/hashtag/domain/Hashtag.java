@@ -7,7 +7,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "hashtag")
+@Table(name = "hashtag", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hashtag_content", columnNames = "content")
+})
 @Getter
 @Builder
 @NoArgsConstructor
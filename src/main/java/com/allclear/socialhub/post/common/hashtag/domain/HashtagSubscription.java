@@ -0,0 +1,38 @@
+package com.allclear.socialhub.post.common.hashtag.domain;
+
+import com.allclear.socialhub.common.domain.Timestamped;
+import com.allclear.socialhub.user.domain.User;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 유저가 구독한 해시태그입니다. 구독한 해시태그의 새 게시물은 유저의 피드에 추가됩니다.
+ */
+@Entity
+@Table(name = "hashtag_subscription", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hashtag_subscription_user_hashtag", columnNames = {"user_id", "hashtag_id"})
+}, indexes = {
+        @Index(name = "idx_hashtag_subscription_hashtag_user", columnList = "hashtag_id, user_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HashtagSubscription extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne
+    @JoinColumn(name = "hashtag_id", nullable = false)
+    private Hashtag hashtag;
+
+}
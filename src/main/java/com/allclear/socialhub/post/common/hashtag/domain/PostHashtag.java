@@ -8,7 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_hashtag")
+@Table(name = "post_hashtag", indexes = {
+        @Index(name = "idx_post_hashtag_post_hashtag", columnList = "post_id, hashtag_id"),
+        @Index(name = "idx_post_hashtag_hashtag_post", columnList = "hashtag_id, post_id")
+})
 @Getter
 @Builder
 @NoArgsConstructor
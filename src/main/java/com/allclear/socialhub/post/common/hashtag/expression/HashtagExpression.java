@@ -0,0 +1,392 @@
+package com.allclear.socialhub.post.common.hashtag.expression;
+
+import com.allclear.socialhub.common.exception.CustomException;
+import com.allclear.socialhub.common.exception.ErrorCode;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 해시태그 검색식 (ex. "#ootd AND #summer NOT #ad", "(#맛집 OR #카페) AND #성수동")
+ * 우선순위는 NOT > AND > OR 이고, 해시태그를 연산자 없이 나열하면 AND, "A NOT B" 는 "A AND NOT B" 로 해석합니다.
+ * 해시태그 하나만 전달하면('#' 생략 가능) 기존처럼 해당 해시태그로 필터링합니다.
+ * <p>
+ * 해시태그 인덱스가 있으면 bitmap 의 교집합/합집합/차집합으로 게시물 Id 집합을 계산하고,
+ * 없으면 해시태그마다 EXISTS semi-join 을 AND/OR/NOT 으로 조합한 조건으로 DB 에서 필터링합니다.
+ */
+public abstract class HashtagExpression {
+
+    private static final int MAX_HASHTAGS = 20;
+
+    /**
+     * 검색식 해석
+     *
+     * @param expression 해시태그 검색식
+     * @return 해석된 검색식, 비어 있으면 null
+     * @throws CustomException 문법이 틀렸거나 해시태그가 20개를 넘는 경우
+     */
+    public static HashtagExpression parse(String expression) {
+
+        if (expression == null || expression.isBlank()) {
+            return null;
+        }
+
+        Parser parser = new Parser(tokenize(expression));
+        HashtagExpression parsed = parser.parseOr();
+        if (parser.position != parser.tokens.size() || parser.hashtagCount > MAX_HASHTAGS) {
+            throw new CustomException(ErrorCode.INVALID_HASHTAG_EXPRESSION);
+        }
+        return parsed;
+    }
+
+    /**
+     * 검색식에 포함된 해시태그
+     *
+     * @return 해시태그 목록 ('#' 제외)
+     */
+    public Set<String> getHashtags() {
+
+        Set<String> hashtags = new LinkedHashSet<>();
+        collectHashtags(hashtags);
+        return hashtags;
+    }
+
+    /**
+     * NOT 포함 여부 (NOT 이 있으면 검색식의 해시태그가 없는 게시물도 결과에 포함될 수 있음)
+     */
+    public abstract boolean containsNot();
+
+    abstract void collectHashtags(Set<String> hashtags);
+
+    /**
+     * 게시물 Id 집합 계산
+     *
+     * @param postIdsByHashtag 해시태그별 게시물 Id (인덱스를 사용할 수 없으면 null 반환)
+     * @return 게시물 Id 집합, 인덱스를 사용할 수 없으면 null
+     */
+    public abstract PostIdSet evaluate(Function<String, Roaring64NavigableMap> postIdsByHashtag);
+
+    /**
+     * DB 조건으로 변환
+     *
+     * @param hashtagPredicate 해시태그 하나의 조건 (ex. EXISTS semi-join)
+     * @return 검색식 전체의 조건
+     */
+    public abstract BooleanExpression toPredicate(Function<String, BooleanExpression> hashtagPredicate);
+
+    private static List<String> tokenize(String expression) {
+
+        List<String> tokens = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (char c : expression.toCharArray()) {
+            if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                if (!current.isEmpty()) {
+                    tokens.add(current.toString());
+                    current.setLength(0);
+                }
+                if (c == '(' || c == ')') {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                current.append(c);
+            }
+        }
+        if (!current.isEmpty()) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    /**
+     * 게시물 Id 집합 (negated 면 postIds 를 제외한 모든 게시물)
+     * 전체 게시물 집합 없이 NOT 을 계산할 수 있도록 여집합은 표시만 하고, AND/OR 는 드모르간 법칙으로 계산합니다.
+     */
+    public static class PostIdSet {
+
+        private final Roaring64NavigableMap postIds;
+        private final boolean negated;
+
+        PostIdSet(Roaring64NavigableMap postIds, boolean negated) {
+
+            this.postIds = postIds;
+            this.negated = negated;
+        }
+
+        public boolean isNegated() {
+
+            return negated;
+        }
+
+        public boolean contains(long postId) {
+
+            return postIds.contains(postId) != negated;
+        }
+
+        // 포함(negated 면 제외)할 게시물 수
+        public long cardinality() {
+
+            return postIds.getLongCardinality();
+        }
+
+        public List<Long> toList() {
+
+            List<Long> list = new ArrayList<>((int) postIds.getLongCardinality());
+            postIds.forEach(list::add);
+            return list;
+        }
+
+        /**
+         * 게시물 Id 를 내림차순(최신순)으로 한 페이지만 조회 (negated 가 아닐 때만 사용)
+         *
+         * @param offset 건너뛸 게시물 수
+         * @param size   조회할 게시물 수
+         * @return 게시물 Id 목록
+         */
+        public List<Long> pageDescending(long offset, int size) {
+
+            List<Long> page = new ArrayList<>(size);
+            LongIterator iterator = postIds.getReverseLongIterator();
+            for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+                iterator.next();
+            }
+            while (page.size() < size && iterator.hasNext()) {
+                page.add(iterator.next());
+            }
+            return page;
+        }
+
+        PostIdSet not() {
+
+            return new PostIdSet(postIds, !negated);
+        }
+
+        PostIdSet and(PostIdSet other) {
+
+            Roaring64NavigableMap result = new Roaring64NavigableMap();
+            if (!negated && !other.negated) {
+                result.or(postIds);
+                result.and(other.postIds);
+                return new PostIdSet(result, false);
+            }
+            if (!negated) {
+                result.or(postIds);
+                result.andNot(other.postIds);
+                return new PostIdSet(result, false);
+            }
+            if (!other.negated) {
+                result.or(other.postIds);
+                result.andNot(postIds);
+                return new PostIdSet(result, false);
+            }
+            // NOT A AND NOT B = NOT (A OR B)
+            result.or(postIds);
+            result.or(other.postIds);
+            return new PostIdSet(result, true);
+        }
+
+        PostIdSet or(PostIdSet other) {
+
+            // A OR B = NOT (NOT A AND NOT B)
+            return not().and(other.not()).not();
+        }
+
+    }
+
+    private static class Tag extends HashtagExpression {
+
+        private final String content;
+
+        Tag(String content) {
+
+            this.content = content;
+        }
+
+        @Override
+        public boolean containsNot() {
+
+            return false;
+        }
+
+        @Override
+        void collectHashtags(Set<String> hashtags) {
+
+            hashtags.add(content);
+        }
+
+        @Override
+        public PostIdSet evaluate(Function<String, Roaring64NavigableMap> postIdsByHashtag) {
+
+            Roaring64NavigableMap postIds = postIdsByHashtag.apply(content);
+            return postIds == null ? null : new PostIdSet(postIds, false);
+        }
+
+        @Override
+        public BooleanExpression toPredicate(Function<String, BooleanExpression> hashtagPredicate) {
+
+            return hashtagPredicate.apply(content);
+        }
+
+    }
+
+    private static class Not extends HashtagExpression {
+
+        private final HashtagExpression operand;
+
+        Not(HashtagExpression operand) {
+
+            this.operand = operand;
+        }
+
+        @Override
+        public boolean containsNot() {
+
+            return true;
+        }
+
+        @Override
+        void collectHashtags(Set<String> hashtags) {
+
+            operand.collectHashtags(hashtags);
+        }
+
+        @Override
+        public PostIdSet evaluate(Function<String, Roaring64NavigableMap> postIdsByHashtag) {
+
+            PostIdSet postIds = operand.evaluate(postIdsByHashtag);
+            return postIds == null ? null : postIds.not();
+        }
+
+        @Override
+        public BooleanExpression toPredicate(Function<String, BooleanExpression> hashtagPredicate) {
+
+            return operand.toPredicate(hashtagPredicate).not();
+        }
+
+    }
+
+    private static class Binary extends HashtagExpression {
+
+        private final boolean and;
+        private final HashtagExpression left;
+        private final HashtagExpression right;
+
+        Binary(boolean and, HashtagExpression left, HashtagExpression right) {
+
+            this.and = and;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        public boolean containsNot() {
+
+            return left.containsNot() || right.containsNot();
+        }
+
+        @Override
+        void collectHashtags(Set<String> hashtags) {
+
+            left.collectHashtags(hashtags);
+            right.collectHashtags(hashtags);
+        }
+
+        @Override
+        public PostIdSet evaluate(Function<String, Roaring64NavigableMap> postIdsByHashtag) {
+
+            PostIdSet leftIds = left.evaluate(postIdsByHashtag);
+            PostIdSet rightIds = leftIds == null ? null : right.evaluate(postIdsByHashtag);
+            if (rightIds == null) {
+                return null;
+            }
+            return and ? leftIds.and(rightIds) : leftIds.or(rightIds);
+        }
+
+        @Override
+        public BooleanExpression toPredicate(Function<String, BooleanExpression> hashtagPredicate) {
+
+            BooleanExpression leftPredicate = left.toPredicate(hashtagPredicate);
+            BooleanExpression rightPredicate = right.toPredicate(hashtagPredicate);
+            return and ? leftPredicate.and(rightPredicate) : leftPredicate.or(rightPredicate);
+        }
+
+    }
+
+    // or := and (OR and)* / and := unary ((AND)? unary | NOT unary)* / unary := NOT unary | '(' or ')' | 해시태그
+    private static class Parser {
+
+        private final List<String> tokens;
+        private int position;
+        private int hashtagCount;
+
+        Parser(List<String> tokens) {
+
+            this.tokens = tokens;
+        }
+
+        HashtagExpression parseOr() {
+
+            HashtagExpression expression = parseAnd();
+            while ("OR".equals(peek())) {
+                position++;
+                expression = new Binary(false, expression, parseAnd());
+            }
+            return expression;
+        }
+
+        HashtagExpression parseAnd() {
+
+            HashtagExpression expression = parseUnary();
+            while (true) {
+                String token = peek();
+                if ("AND".equals(token)) {
+                    position++;
+                } else if (token == null || "OR".equals(token) || ")".equals(token)) {
+                    return expression;
+                }
+                // "A NOT B" 와 "A B" 는 NOT 을 unary 로 두고 AND 로 연결
+                expression = new Binary(true, expression, parseUnary());
+            }
+        }
+
+        HashtagExpression parseUnary() {
+
+            String token = peek();
+            if (token == null || "AND".equals(token) || "OR".equals(token) || ")".equals(token)) {
+                throw new CustomException(ErrorCode.INVALID_HASHTAG_EXPRESSION);
+            }
+            position++;
+
+            if ("NOT".equals(token)) {
+                return new Not(parseUnary());
+            }
+            if ("(".equals(token)) {
+                HashtagExpression expression = parseOr();
+                if (!")".equals(peek())) {
+                    throw new CustomException(ErrorCode.INVALID_HASHTAG_EXPRESSION);
+                }
+                position++;
+                return expression;
+            }
+
+            String content = token.startsWith("#") ? token.substring(1) : token;
+            if (content.isEmpty() || content.contains("#")) {
+                throw new CustomException(ErrorCode.INVALID_HASHTAG_EXPRESSION);
+            }
+            hashtagCount++;
+            return new Tag(content);
+        }
+
+        private String peek() {
+
+            return position < tokens.size() ? tokens.get(position) : null;
+        }
+
+    }
+
+}
@@ -0,0 +1,229 @@
+package com.allclear.socialhub.post.common.hashtag.index;
+
+import com.allclear.socialhub.post.common.hashtag.domain.Hashtag;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * 해시태그 Id 별 게시물 Id 를 roaring bitmap 으로 보관하여, 해시태그 필터/건수/교집합을 DB join 없이 메모리에서 계산합니다.
+ * 시작 시 post_hashtag 전체를 한 번 읽어 만들고, 이후에는 HashtagServiceImpl 이 연관관계를 등록/삭제할 때 반영합니다.
+ * (생성 전에는 null 을 반환하므로 호출 측은 기존 DB 조회를 사용합니다.)
+ * <p>
+ * 해시태그는 DB 비교(utf8mb4 기본 collation, 대소문자/악센트 구분 없음)와 같은 결과가 나오도록 소문자로 바꾸고
+ * 악센트를 제거한 값으로 찾으며, 그렇게 같아지는 해시태그가 여러 개면 게시물을 합쳐서 반환합니다.
+ */
+@Slf4j
+@Component
+public class HashtagPostIndex {
+
+    private static final String LOAD_SQL = "SELECT ph.hashtag_id, h.content, ph.post_id " +
+            "FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id";
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bitmaps bitmaps = new Bitmaps();
+    private List<Consumer<Bitmaps>> pendingDuringLoad;
+    private volatile boolean ready;
+
+    public HashtagPostIndex(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry) {
+
+        this.jdbcTemplate = jdbcTemplate;
+
+        Gauge.builder("hashtag.post.index.hashtags", this, HashtagPostIndex::size)
+                .description("해시태그 인덱스에 올라와 있는 해시태그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 별도 스레드에서 인덱스 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+
+        Thread thread = new Thread(() -> {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                log.error("해시태그 인덱스 생성에 실패하였습니다.", e);
+            }
+        }, "hashtag-post-index-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * post_hashtag 전체로 인덱스를 다시 생성 (생성 중에 들어온 변경은 새 인덱스에 다시 반영)
+     */
+    public void load() {
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Bitmaps loaded = new Bitmaps();
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                loaded.add(rs.getLong("hashtag_id"), rs.getString("content"), rs.getLong("post_id"));
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad.forEach(change -> change.accept(loaded));
+            pendingDuringLoad = null;
+            bitmaps = loaded;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("해시태그 인덱스를 생성하였습니다. 해시태그 수 : {}", loaded.size());
+    }
+
+    /**
+     * 게시물-해시태그 연관관계 추가
+     *
+     * @param hashtag 해시태그
+     * @param postId  게시물 Id
+     */
+    public void add(Hashtag hashtag, Long postId) {
+
+        apply(target -> target.add(hashtag.getId(), hashtag.getContent(), postId));
+    }
+
+    /**
+     * 게시물-해시태그 연관관계 삭제
+     *
+     * @param hashtagIds 해시태그 Id 목록
+     * @param postId     게시물 Id
+     */
+    public void remove(Collection<Long> hashtagIds, Long postId) {
+
+        apply(target -> hashtagIds.forEach(hashtagId -> target.remove(hashtagId, postId)));
+    }
+
+    /**
+     * 해시태그가 달린 게시물 Id
+     *
+     * @param content '#' 를 제외한 해시태그
+     * @return 게시물 Id bitmap 복사본 (없는 해시태그면 빈 bitmap), 인덱스 생성 전이면 null
+     */
+    public Roaring64NavigableMap postIds(String content) {
+
+        if (!ready) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            return bitmaps.copyOf(content);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return bitmaps.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 현재 인덱스에 반영하고, 생성 중이면 새 인덱스에도 반영하도록 보관
+    private void apply(Consumer<Bitmaps> change) {
+
+        lock.writeLock().lock();
+        try {
+            change.accept(bitmaps);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // DB 비교와 같게 대소문자, 악센트 구분 없는 key
+    private static String normalize(String content) {
+
+        String decomposed = Normalizer.normalize(content, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    // 해시태그 Id 별 게시물 bitmap 과 정규화한 해시태그 내용 → Id 목록
+    private static class Bitmaps {
+
+        private final Map<Long, Roaring64NavigableMap> postIdsByHashtagId = new HashMap<>();
+        private final Map<String, List<Long>> hashtagIdsByContent = new HashMap<>();
+
+        void add(Long hashtagId, String content, Long postId) {
+
+            List<Long> hashtagIds = hashtagIdsByContent.computeIfAbsent(normalize(content), key -> new ArrayList<>(1));
+            if (!hashtagIds.contains(hashtagId)) {
+                hashtagIds.add(hashtagId);
+            }
+            postIdsByHashtagId.computeIfAbsent(hashtagId, id -> new Roaring64NavigableMap()).addLong(postId);
+        }
+
+        void remove(Long hashtagId, Long postId) {
+
+            Roaring64NavigableMap postIds = postIdsByHashtagId.get(hashtagId);
+            if (postIds != null) {
+                postIds.removeLong(postId);
+            }
+        }
+
+        // 게시물 Id bitmap 복사본 (없는 해시태그면 빈 bitmap)
+        Roaring64NavigableMap copyOf(String content) {
+
+            Roaring64NavigableMap copy = new Roaring64NavigableMap();
+            for (Long hashtagId : hashtagIdsByContent.getOrDefault(normalize(content), List.of())) {
+                Roaring64NavigableMap postIds = postIdsByHashtagId.get(hashtagId);
+                if (postIds != null) {
+                    copy.or(postIds);
+                }
+            }
+            return copy;
+        }
+
+        int size() {
+
+            return postIdsByHashtagId.size();
+        }
+
+    }
+
+}
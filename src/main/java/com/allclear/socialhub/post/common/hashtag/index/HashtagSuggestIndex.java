@@ -0,0 +1,370 @@
+package com.allclear.socialhub.post.common.hashtag.index;
+
+import com.allclear.socialhub.post.common.hashtag.domain.Hashtag;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 해시태그 자동완성용 trie 입니다. 해시태그를 소문자 기준으로 trie 에 넣고, 노드마다 그 아래 해시태그 중
+ * 사용 횟수(게시물 수) 상위 max-size 개를 미리 정렬해 두어 조회는 접두어 길이만큼 노드를 따라가는 것으로 끝납니다.
+ * <p>
+ * 시작 시 hashtag, post_hashtag 를 한 번 읽어 만들고, 이후에는 HashtagServiceImpl 이 해시태그/연관관계를 등록/삭제할 때 반영합니다.
+ * 생성 전에는 빈 목록을 반환하며, 생성 중 들어온 변경은 새 trie 에 다시 반영하므로 사용 횟수가 조금 다를 수 있습니다.
+ */
+@Slf4j
+@Component
+public class HashtagSuggestIndex {
+
+    private static final String LOAD_SQL = "SELECT h.id, h.content, COUNT(ph.id) AS usage_cnt " +
+            "FROM hashtag h LEFT JOIN post_hashtag ph ON ph.hashtag_id = h.id " +
+            "GROUP BY h.id, h.content";
+
+    // 사용 횟수 내림차순, 같으면 해시태그 오름차순
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry entry) -> entry.count).reversed()
+            .thenComparing(entry -> entry.content);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int maxSize;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Trie trie;
+    private List<Consumer<Trie>> pendingDuringLoad;
+    private volatile boolean ready;
+
+    public HashtagSuggestIndex(JdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${socialhub.hashtag.suggest.max-size:10}") int maxSize) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.maxSize = maxSize;
+        this.trie = new Trie(maxSize);
+
+        Gauge.builder("hashtag.suggest.index.hashtags", this, HashtagSuggestIndex::size)
+                .description("자동완성 trie 에 올라와 있는 해시태그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 후 별도 스레드에서 trie 생성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+
+        Thread thread = new Thread(() -> {
+            try {
+                load();
+            } catch (RuntimeException e) {
+                log.error("해시태그 자동완성 trie 생성에 실패하였습니다.", e);
+            }
+        }, "hashtag-suggest-index-load");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * hashtag, post_hashtag 전체로 trie 를 다시 생성 (생성 중에 들어온 변경은 새 trie 에 다시 반영)
+     */
+    public void load() {
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Trie loaded = new Trie(maxSize);
+        try {
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                loaded.add(rs.getLong("id"), rs.getString("content"), rs.getLong("usage_cnt"));
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad.forEach(change -> change.accept(loaded));
+            pendingDuringLoad = null;
+            trie = loaded;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("해시태그 자동완성 trie 를 생성하였습니다. 해시태그 수 : {}", loaded.size());
+    }
+
+    /**
+     * 새 해시태그 등록 (이미 있으면 무시)
+     *
+     * @param hashtag 해시태그
+     */
+    public void register(Hashtag hashtag) {
+
+        apply(target -> target.add(hashtag.getId(), hashtag.getContent(), 0));
+    }
+
+    /**
+     * 해시태그 사용 횟수 증가 (게시물-해시태그 연관관계 추가)
+     *
+     * @param hashtag 해시태그
+     */
+    public void increment(Hashtag hashtag) {
+
+        apply(target -> {
+            target.add(hashtag.getId(), hashtag.getContent(), 0);
+            target.update(hashtag.getId(), 1);
+        });
+    }
+
+    /**
+     * 해시태그 사용 횟수 감소 (게시물-해시태그 연관관계 삭제)
+     *
+     * @param hashtagIds 해시태그 Id 목록
+     */
+    public void decrement(Collection<Long> hashtagIds) {
+
+        apply(target -> hashtagIds.forEach(hashtagId -> target.update(hashtagId, -1)));
+    }
+
+    /**
+     * 접두어로 시작하는 해시태그 (대소문자 구분 없음)
+     *
+     * @param prefix '#' 를 제외한 접두어
+     * @param size   최대 개수 (max-size 이하)
+     * @return 해시태그 목록 (사용 횟수 내림차순), trie 생성 전이거나 접두어가 비어 있으면 빈 목록
+     */
+    public List<String> suggest(String prefix, int size) {
+
+        if (!ready || prefix == null || prefix.isEmpty() || size <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            return trie.suggest(prefix, size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return trie.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 현재 trie 에 반영하고, 생성 중이면 새 trie 에도 반영하도록 보관
+    private void apply(Consumer<Trie> change) {
+
+        lock.writeLock().lock();
+        try {
+            change.accept(trie);
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static String normalize(String content) {
+
+        return content.toLowerCase(Locale.ROOT);
+    }
+
+    private static class Entry {
+
+        private final String content;
+        private long count;
+
+        Entry(String content, long count) {
+
+            this.content = content;
+            this.count = count;
+        }
+
+    }
+
+    private static class Node {
+
+        private static final Entry[] EMPTY = new Entry[0];
+
+        private Map<Character, Node> children;
+        // 이 노드에서 끝나는 해시태그 (대소문자만 다른 해시태그가 있을 수 있음)
+        private List<Entry> terminals;
+        // 이 노드 아래 해시태그 중 상위 maxSize 개 (RANKING 순)
+        private Entry[] top = EMPTY;
+
+        Node child(char c) {
+
+            return children == null ? null : children.get(c);
+        }
+
+        Node childOrCreate(char c) {
+
+            if (children == null) {
+                children = new HashMap<>(4);
+            }
+            return children.computeIfAbsent(c, key -> new Node());
+        }
+
+        boolean contains(Entry entry) {
+
+            for (Entry candidate : top) {
+                if (candidate == entry) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 점수가 오른 entry 반영
+        void offer(Entry entry, int maxSize) {
+
+            if (contains(entry)) {
+                Arrays.sort(top, RANKING);
+            } else if (top.length < maxSize) {
+                top = Arrays.copyOf(top, top.length + 1);
+                top[top.length - 1] = entry;
+                Arrays.sort(top, RANKING);
+            } else if (RANKING.compare(entry, top[top.length - 1]) < 0) {
+                top[top.length - 1] = entry;
+                Arrays.sort(top, RANKING);
+            }
+        }
+
+        // 자식들의 상위 목록과 이 노드에서 끝나는 해시태그로 다시 계산 (점수가 내려간 entry 반영)
+        void recompute(int maxSize) {
+
+            List<Entry> candidates = new ArrayList<>();
+            if (terminals != null) {
+                candidates.addAll(terminals);
+            }
+            if (children != null) {
+                children.values().forEach(child -> candidates.addAll(Arrays.asList(child.top)));
+            }
+            candidates.sort(RANKING);
+            top = candidates.subList(0, Math.min(maxSize, candidates.size())).toArray(EMPTY);
+        }
+
+    }
+
+    private static class Trie {
+
+        private final int maxSize;
+        private final Node root = new Node();
+        private final Map<Long, Entry> entriesById = new HashMap<>();
+
+        Trie(int maxSize) {
+
+            this.maxSize = maxSize;
+        }
+
+        void add(Long hashtagId, String content, long count) {
+
+            if (entriesById.containsKey(hashtagId)) {
+                return;
+            }
+
+            Entry entry = new Entry(content, count);
+            entriesById.put(hashtagId, entry);
+
+            Node node = root;
+            String key = normalize(content);
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.offer(entry, maxSize);
+            }
+            if (node.terminals == null) {
+                node.terminals = new ArrayList<>(1);
+            }
+            node.terminals.add(entry);
+        }
+
+        void update(Long hashtagId, long delta) {
+
+            Entry entry = entriesById.get(hashtagId);
+            if (entry == null) {
+                return;
+            }
+            entry.count = Math.max(0, entry.count + delta);
+
+            String key = normalize(entry.content);
+            Node[] path = new Node[key.length()];
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.child(key.charAt(i));
+                path[i] = node;
+            }
+
+            if (delta > 0) {
+                for (Node visited : path) {
+                    visited.offer(entry, maxSize);
+                }
+                return;
+            }
+
+            // 아래 노드부터 다시 계산해야 위 노드가 갱신된 자식 목록을 사용
+            for (int i = path.length - 1; i >= 0; i--) {
+                if (path[i].contains(entry)) {
+                    path[i].recompute(maxSize);
+                }
+            }
+        }
+
+        List<String> suggest(String prefix, int size) {
+
+            Node node = root;
+            String key = normalize(prefix);
+            for (int i = 0; i < key.length() && node != null; i++) {
+                node = node.child(key.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+
+            Entry[] top = node.top;
+            List<String> suggestions = new ArrayList<>(Math.min(size, top.length));
+            for (int i = 0; i < top.length && i < size; i++) {
+                suggestions.add(top[i].content);
+            }
+            return suggestions;
+        }
+
+        int size() {
+
+            return entriesById.size();
+        }
+
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.allclear.socialhub.post.common.hashtag.repository;
+
+import com.allclear.socialhub.post.common.hashtag.domain.HashtagSubscription;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface HashtagSubscriptionRepository extends JpaRepository<HashtagSubscription, Long> {
+
+    boolean existsByUserIdAndHashtagId(Long userId, Long hashtagId);
+
+    long countByHashtagId(Long hashtagId);
+
+    @Modifying
+    @Query("DELETE FROM HashtagSubscription AS s " +
+            "WHERE s.user.id = :userId AND s.hashtag.id = :hashtagId")
+    int deleteByUserIdAndHashtagId(@Param("userId") Long userId, @Param("hashtagId") Long hashtagId);
+
+    // 해시태그 구독자 Id (afterUserId 이후부터 유저 Id 순으로 pageable 크기만큼)
+    @Query("SELECT s.user.id " +
+            "FROM HashtagSubscription AS s " +
+            "WHERE s.hashtag.id = :hashtagId AND s.user.id > :afterUserId " +
+            "ORDER BY s.user.id ASC")
+    List<Long> findSubscriberIds(@Param("hashtagId") Long hashtagId, @Param("afterUserId") Long afterUserId, Pageable pageable);
+
+}
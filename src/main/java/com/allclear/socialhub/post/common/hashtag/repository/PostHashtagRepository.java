@@ -1,12 +1,19 @@
 package com.allclear.socialhub.post.common.hashtag.repository;
 
 import com.allclear.socialhub.post.common.hashtag.domain.PostHashtag;
+import com.allclear.socialhub.post.common.hashtag.repository.querydsl.PostHashtagRepositoryQuerydsl;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
-public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long> {
+public interface PostHashtagRepository extends JpaRepository<PostHashtag, Long>, PostHashtagRepositoryQuerydsl {
 
     List<PostHashtag> findAllByPostId(Long postId);
 
+    // 게시물의 해시태그 Id 목록 (오름차순, 상세 응답 ETag 계산용)
+    @Query("SELECT ph.hashtag.id FROM PostHashtag AS ph WHERE ph.post.id = :postId ORDER BY ph.hashtag.id")
+    List<Long> findHashtagIdsByPostId(@Param("postId") Long postId);
+
 }
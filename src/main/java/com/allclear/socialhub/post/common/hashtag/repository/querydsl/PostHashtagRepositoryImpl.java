@@ -0,0 +1,59 @@
+package com.allclear.socialhub.post.common.hashtag.repository.querydsl;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.allclear.socialhub.post.common.hashtag.domain.QHashtag.hashtag;
+import static com.allclear.socialhub.post.common.hashtag.domain.QPostHashtag.postHashtag;
+
+public class PostHashtagRepositoryImpl implements PostHashtagRepositoryQuerydsl {
+
+    private final JPAQueryFactory queryFactory;
+
+    public PostHashtagRepositoryImpl(EntityManager em) {
+
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    /**
+     * 여러 게시물의 해시태그를 IN 쿼리 한 번으로 조회하여 게시물별로 묶습니다.
+     * (게시물 목록에서 게시물마다 해시태그를 조회하는 N+1 쿼리 방지)
+     *
+     * @param postIds 게시물 ID 목록
+     * @return 게시물 ID 별 해시태그 목록 (해시태그가 없는 게시물은 빈 리스트)
+     */
+    public Map<Long, List<String>> findHashtagContentsByPostIds(Collection<Long> postIds) {
+
+        Map<Long, List<String>> hashtagsByPostId = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return hashtagsByPostId;
+        }
+
+        // 1. 해시태그 조회 (등록 순서 유지)
+        List<Tuple> rows = queryFactory
+                .select(postHashtag.post.id, hashtag.content)
+                .from(postHashtag)
+                .join(hashtag).on(hashtag.id.eq(postHashtag.hashtag.id))
+                .where(postHashtag.post.id.in(postIds))
+                .orderBy(postHashtag.id.asc())
+                .fetch();
+
+        // 2. 게시물별로 묶기
+        for (Long postId : postIds) {
+            hashtagsByPostId.put(postId, new ArrayList<>());
+        }
+        for (Tuple row : rows) {
+            hashtagsByPostId.get(row.get(postHashtag.post.id)).add(row.get(hashtag.content));
+        }
+
+        return hashtagsByPostId;
+    }
+
+}
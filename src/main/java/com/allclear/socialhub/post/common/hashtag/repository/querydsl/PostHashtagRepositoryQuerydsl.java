@@ -0,0 +1,11 @@
+package com.allclear.socialhub.post.common.hashtag.repository.querydsl;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface PostHashtagRepositoryQuerydsl {
+
+    Map<Long, List<String>> findHashtagContentsByPostIds(Collection<Long> postIds);
+
+}
@@ -1,6 +1,7 @@
 package com.allclear.socialhub.post.common.hashtag.service;
 
 import com.allclear.socialhub.post.common.hashtag.domain.Hashtag;
+import com.allclear.socialhub.post.domain.Post;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -12,8 +13,16 @@ public interface HashtagService {
 
     List<Hashtag> updateHashtag(Long postId, List<String> hashtagList);
 
+    void createPostHashtag(Post post, List<Hashtag> hashtags);
+
     void deleteByPostId(Long postId);
 
     List<String> removeHashSymbol(List<String> hashtagList);
 
+    void subscribe(String username, String content);
+
+    void unsubscribe(String username, String content);
+
+    List<String> suggestHashtags(String prefix, int size);
+
 }
@@ -2,14 +2,25 @@ package com.allclear.socialhub.post.common.hashtag.service;
 
 import com.allclear.socialhub.common.exception.CustomException;
 import com.allclear.socialhub.common.exception.ErrorCode;
+import com.allclear.socialhub.post.common.event.PostChangedEvent;
 import com.allclear.socialhub.post.common.hashtag.domain.Hashtag;
+import com.allclear.socialhub.post.common.feed.repository.FeedRedisRepository;
+import com.allclear.socialhub.post.common.hashtag.domain.HashtagSubscription;
 import com.allclear.socialhub.post.common.hashtag.domain.PostHashtag;
+import com.allclear.socialhub.post.common.hashtag.index.HashtagPostIndex;
+import com.allclear.socialhub.post.common.hashtag.index.HashtagSuggestIndex;
 import com.allclear.socialhub.post.common.hashtag.repository.HashtagRepository;
+import com.allclear.socialhub.post.common.hashtag.repository.HashtagSubscriptionRepository;
 import com.allclear.socialhub.post.common.hashtag.repository.PostHashtagRepository;
+import com.allclear.socialhub.post.domain.Post;
+import com.allclear.socialhub.user.domain.User;
+import com.allclear.socialhub.user.repository.UserRepository;
 import com.querydsl.jpa.impl.JPADeleteClause;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -17,15 +28,23 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static com.allclear.socialhub.post.common.hashtag.domain.QHashtag.hashtag;
+import static com.allclear.socialhub.common.util.TransactionUtil.afterCommit;
 import static com.allclear.socialhub.post.common.hashtag.domain.QPostHashtag.postHashtag;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class HashtagServiceImpl implements HashtagService {
 
     private final HashtagRepository hashtagRepository;
     private final PostHashtagRepository postHashtagRepository;
     private final EntityManager entityManager;
+    private final HashtagPostIndex hashtagPostIndex;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HashtagSubscriptionRepository hashtagSubscriptionRepository;
+    private final UserRepository userRepository;
+    private final FeedRedisRepository feedRedisRepository;
+    private final HashtagSuggestIndex hashtagSuggestIndex;
 
     /**
      * 해시태그 등록
@@ -44,11 +63,7 @@ public class HashtagServiceImpl implements HashtagService {
 
             // 3. 해시태그 중복 체크 및 저장
             Hashtag hashtag = hashtagRepository.findByContent(content)
-                    .orElseGet(() -> hashtagRepository.save(
-                            Hashtag.builder()
-                                    .content(content)
-                                    .build()
-                    ));
+                    .orElseGet(() -> saveHashtag(content));
 
             savedHashtags.add(hashtag);
         }
@@ -102,6 +117,31 @@ public class HashtagServiceImpl implements HashtagService {
 
     }
 
+    /**
+     * 게시물과 해시태그 연관관계 등록
+     *
+     * @param post     게시물
+     * @param hashtags 해시태그
+     */
+    @Override
+    @Transactional
+    public void createPostHashtag(Post post, List<Hashtag> hashtags) {
+
+        for (Hashtag hashtag : hashtags) {
+            PostHashtag postHashtag = PostHashtag.builder()
+                    .post(post)
+                    .hashtag(hashtag)
+                    .build();
+            postHashtagRepository.save(postHashtag);
+        }
+
+        afterCommit(() -> hashtags.forEach(hashtag -> {
+            hashtagPostIndex.add(hashtag, post.getId());
+            hashtagSuggestIndex.increment(hashtag);
+        }));
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
+    }
+
     /**
      * 해당 게시물이 가진 해시태그 연관관계 삭제
      * 작성자 : 오예령
@@ -111,11 +151,23 @@ public class HashtagServiceImpl implements HashtagService {
     @Transactional
     public void deleteByPostId(Long postId) {
 
+        // 해시태그 인덱스에서 지울 해시태그 Id
+        List<Long> hashtagIds = new JPAQueryFactory(entityManager)
+                .select(postHashtag.hashtag.id)
+                .from(postHashtag)
+                .where(postHashtag.post.id.eq(postId))
+                .fetch();
+
         JPADeleteClause deleteClause = new JPADeleteClause(entityManager, postHashtag);
 
         deleteClause.where(
                 postHashtag.post.id.eq(postId)).execute();
 
+        afterCommit(() -> {
+            hashtagPostIndex.remove(hashtagIds, postId);
+            hashtagSuggestIndex.decrement(hashtagIds);
+        });
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     /**
@@ -136,6 +188,11 @@ public class HashtagServiceImpl implements HashtagService {
                         .and(postHashtag.hashtag.id.in(hashtagIds))
         ).execute();
 
+        afterCommit(() -> {
+            hashtagPostIndex.remove(hashtagIds, postId);
+            hashtagSuggestIndex.decrement(hashtagIds);
+        });
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     /**
@@ -162,4 +219,102 @@ public class HashtagServiceImpl implements HashtagService {
         return cleanedHashtagList;
     }
 
+    /**
+     * 해시태그 구독 (이미 구독 중이면 무시)
+     * 구독 후 해시태그의 최근 게시물을 피드에 합치고, 이후 새 게시물은 피드에 추가됩니다.
+     *
+     * @param username 유저 계정명
+     * @param content  해시태그 ('#' 은 생략 가능)
+     */
+    @Override
+    @Transactional
+    public void subscribe(String username, String content) {
+
+        // 1. 유저, 해시태그 검증 (없는 해시태그면 등록)
+        User user = userCheck(username);
+        String cleanedContent = cleanHashtag(content);
+        Hashtag subscribed = hashtagRepository.findByContent(cleanedContent)
+                .orElseGet(() -> saveHashtag(cleanedContent));
+
+        // 2. 구독 등록
+        if (hashtagSubscriptionRepository.existsByUserIdAndHashtagId(user.getId(), subscribed.getId())) {
+            return;
+        }
+        hashtagSubscriptionRepository.save(HashtagSubscription.builder()
+                .user(user)
+                .hashtag(subscribed)
+                .build());
+
+        // 3. 피드 반영 (구독은 이미 commit 되었으므로 실패해도 요청은 성공, 이후 새 게시물부터 반영)
+        afterCommit(() -> {
+            try {
+                feedRedisRepository.subscribe(user.getId(), subscribed.getId());
+            } catch (RuntimeException e) {
+                log.warn("피드에 구독한 해시태그를 반영하지 못했습니다. hashtagId : {}", subscribed.getId(), e);
+            }
+        });
+    }
+
+    /**
+     * 해시태그 구독 취소 (이미 피드에 추가된 게시물은 유지)
+     *
+     * @param username 유저 계정명
+     * @param content  해시태그 ('#' 은 생략 가능)
+     */
+    @Override
+    @Transactional
+    public void unsubscribe(String username, String content) {
+
+        User user = userCheck(username);
+        hashtagRepository.findByContent(cleanHashtag(content)).ifPresent(subscribed -> {
+            hashtagSubscriptionRepository.deleteByUserIdAndHashtagId(user.getId(), subscribed.getId());
+            afterCommit(() -> feedRedisRepository.unsubscribe(user.getId(), subscribed.getId()));
+        });
+    }
+
+    /**
+     * 해시태그 자동완성 (DB 를 조회하지 않고 메모리의 trie 에서 조회)
+     *
+     * @param prefix 접두어 ('#' 은 생략 가능)
+     * @param size   최대 개수
+     * @return 접두어로 시작하는 해시태그 목록 (사용 횟수 내림차순)
+     */
+    @Override
+    public List<String> suggestHashtags(String prefix, int size) {
+
+        String cleanedPrefix = prefix != null && prefix.startsWith("#") ? prefix.substring(1) : prefix;
+        return hashtagSuggestIndex.suggest(cleanedPrefix, size);
+    }
+
+    // 해시태그 저장 후 commit 되면 자동완성에 등록
+    private Hashtag saveHashtag(String content) {
+
+        Hashtag saved = hashtagRepository.save(
+                Hashtag.builder()
+                        .content(content)
+                        .build()
+        );
+        afterCommit(() -> hashtagSuggestIndex.register(saved));
+        return saved;
+    }
+
+    private User userCheck(String username) {
+
+        User user = userRepository.findByUsername(username);
+        if (user == null) {
+            throw new CustomException(ErrorCode.USER_NOT_EXIST);
+        }
+        return user;
+    }
+
+    // 앞의 '#' 하나를 제거하고 형식 검증
+    private String cleanHashtag(String content) {
+
+        String cleanedContent = content != null && content.startsWith("#") ? content.substring(1) : content;
+        if (cleanedContent == null || cleanedContent.isBlank() || cleanedContent.contains("#")) {
+            throw new CustomException(ErrorCode.INVALID_HASHTAG_PATTERN);
+        }
+        return cleanedContent;
+    }
+
 }
@@ -10,7 +10,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_like")
+@Table(name = "post_like", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_post_like_user_post", columnNames = {"user_id", "post_id"})
+}, indexes = {
+        @Index(name = "idx_post_like_post_created_at", columnList = "post_id, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,160 @@
+package com.allclear.socialhub.post.common.like.index;
+
+import com.allclear.socialhub.post.common.like.repository.PostLikeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시물별 좋아요한 유저 Id 를 roaring bitmap 으로 보관하여, 이미 좋아요한 요청은 DB 까지 가지 않도록 합니다.
+ * 게시물의 bitmap 은 처음 좋아요/취소 요청이 올 때 post_like 에서 한 번 읽어오고,
+ * 최근에 사용되지 않은 게시물부터 max-posts 를 넘지 않도록 내보냅니다.
+ * 인스턴스별 인덱스이고 내보낸 뒤 다시 읽을 때 아직 기록되지 않은 좋아요는 빠지므로 중복 요청을 거르는 용도로만 사용하며,
+ * 최종 중복 방지와 좋아요수 증감은 post_like 의 (user_id, post_id) unique 제약과 EngagementEventWriter 가 실제로 반영한 row 로 결정합니다.
+ */
+@Component
+public class PostLikeIndex {
+
+    private final PostLikeRepository postLikeRepository;
+    private final Map<Long, Roaring64NavigableMap> bitmaps;
+
+    public PostLikeIndex(PostLikeRepository postLikeRepository,
+                         MeterRegistry meterRegistry,
+                         @Value("${socialhub.like.index.max-posts:10000}") int maxPosts) {
+
+        this.postLikeRepository = postLikeRepository;
+        this.bitmaps = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Roaring64NavigableMap> eldest) {
+
+                return size() > maxPosts;
+            }
+        };
+
+        Gauge.builder("post.like.index.posts", this, PostLikeIndex::size)
+                .description("좋아요 인덱스에 올라와 있는 게시물 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 추가
+     *
+     * @param postId 게시물 Id
+     * @param userId 유저 Id
+     * @return 새로 좋아요한 경우 true, 이미 좋아요한 상태면 false
+     */
+    public boolean like(Long postId, Long userId) {
+
+        Roaring64NavigableMap bitmap = load(postId);
+        synchronized (bitmap) {
+            if (bitmap.contains(userId)) {
+                return false;
+            }
+            bitmap.addLong(userId);
+            return true;
+        }
+    }
+
+    /**
+     * 좋아요 취소
+     *
+     * @param postId 게시물 Id
+     * @param userId 유저 Id
+     * @return 좋아요를 취소한 경우 true, 좋아요하지 않은 상태면 false
+     */
+    public boolean unlike(Long postId, Long userId) {
+
+        Roaring64NavigableMap bitmap = load(postId);
+        synchronized (bitmap) {
+            if (!bitmap.contains(userId)) {
+                return false;
+            }
+            bitmap.removeLong(userId);
+            return true;
+        }
+    }
+
+    /**
+     * 유저가 좋아요한 게시물 Id 조회 (목록 한 페이지 단위)
+     * 인덱스에 있는 게시물은 bitmap 으로, 없는 게시물은 한 번의 IN 쿼리로 확인합니다.
+     *
+     * @param userId  유저 Id
+     * @param postIds 확인할 게시물 Id 목록
+     * @return 좋아요한 게시물 Id
+     */
+    public Set<Long> likedPostIds(Long userId, Collection<Long> postIds) {
+
+        Set<Long> liked = new HashSet<>();
+        List<Long> coldPostIds = new ArrayList<>();
+
+        for (Long postId : postIds) {
+            Roaring64NavigableMap bitmap;
+            synchronized (bitmaps) {
+                bitmap = bitmaps.get(postId);
+            }
+
+            if (bitmap == null) {
+                coldPostIds.add(postId);
+                continue;
+            }
+            synchronized (bitmap) {
+                if (bitmap.contains(userId)) {
+                    liked.add(postId);
+                }
+            }
+        }
+
+        if (!coldPostIds.isEmpty()) {
+            liked.addAll(postLikeRepository.findLikedPostIds(userId, coldPostIds));
+        }
+        return liked;
+    }
+
+    /**
+     * 삭제된 게시물의 bitmap 제거
+     *
+     * @param postId 게시물 Id
+     */
+    public void discard(Long postId) {
+
+        synchronized (bitmaps) {
+            bitmaps.remove(postId);
+        }
+    }
+
+    public int size() {
+
+        synchronized (bitmaps) {
+            return bitmaps.size();
+        }
+    }
+
+    private Roaring64NavigableMap load(Long postId) {
+
+        synchronized (bitmaps) {
+            Roaring64NavigableMap bitmap = bitmaps.get(postId);
+            if (bitmap != null) {
+                return bitmap;
+            }
+        }
+
+        // DB 조회는 lock 밖에서 수행하고, 동시에 읽어온 경우 먼저 등록된 bitmap 사용
+        Roaring64NavigableMap loaded = new Roaring64NavigableMap();
+        postLikeRepository.findUserIdsByPostId(postId).forEach(loaded::addLong);
+
+        synchronized (bitmaps) {
+            return bitmaps.computeIfAbsent(postId, id -> loaded);
+        }
+    }
+
+}
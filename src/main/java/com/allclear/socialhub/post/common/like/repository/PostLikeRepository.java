@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
@@ -25,4 +26,10 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
 
     void deleteAllByPostId(Long postId);
 
+    @Query("SELECT pl.user.id FROM PostLike AS pl WHERE pl.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    @Query("SELECT pl.post.id FROM PostLike AS pl WHERE pl.user.id = :userId AND pl.post.id in :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
 }
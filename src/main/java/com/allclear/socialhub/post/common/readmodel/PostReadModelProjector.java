@@ -0,0 +1,143 @@
+package com.allclear.socialhub.post.common.readmodel;
+
+import com.allclear.socialhub.post.common.event.PostChangedEvent;
+import com.allclear.socialhub.post.common.readmodel.domain.PostReadModel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * post_read_model 을 원본 테이블(post, user, post_hashtag, hashtag)과 맞춰 유지합니다.
+ * 게시물 변경 이벤트를 받으면 해당 게시물의 현재 상태를 원본에서 다시 읽어 덮어쓰므로(멱등)
+ * 이벤트가 중복되거나 순서가 바뀌어도 마지막 상태로 수렴합니다.
+ * 조회수/좋아요수/공유수는 EngagementCounterBuffer 가 post 와 같은 트랜잭션에서 함께 증가시킵니다.
+ * <p>
+ * 시작 시 id 구간별로 전체 게시물을 다시 반영(backfill)하고, 끝나기 전까지 목록/검색은 원본 테이블에서 조회합니다.
+ * 반영에 실패한 변경은 다음 backfill 에서 맞춰집니다.
+ */
+@Slf4j
+@Component
+public class PostReadModelProjector {
+
+    private static final String UPSERT_SQL = "INSERT INTO post_read_model " +
+            "(post_id, username, type, title, excerpt, view_cnt, like_cnt, share_cnt, hashtags, created_at, updated_at) " +
+            "SELECT p.id, u.username, p.type, p.title, LEFT(p.content, " + PostReadModel.EXCERPT_LENGTH + "), p.view_cnt, p.like_cnt, p.share_cnt, " +
+            "(SELECT CONCAT('#', GROUP_CONCAT(h.content ORDER BY ph.id SEPARATOR '#'), '#') " +
+            "FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id WHERE ph.post_id = p.id), " +
+            "p.created_at, p.updated_at " +
+            "FROM post p JOIN user u ON u.id = p.user_id ";
+    private static final String ON_DUPLICATE_SQL = " ON DUPLICATE KEY UPDATE username = VALUES(username), " +
+            "type = VALUES(type), title = VALUES(title), excerpt = VALUES(excerpt), view_cnt = VALUES(view_cnt), " +
+            "like_cnt = VALUES(like_cnt), share_cnt = VALUES(share_cnt), hashtags = VALUES(hashtags), " +
+            "created_at = VALUES(created_at), updated_at = VALUES(updated_at)";
+    private static final String REFRESH_SQL = UPSERT_SQL + "WHERE p.id = ?" + ON_DUPLICATE_SQL;
+    private static final String BACKFILL_SQL = UPSERT_SQL + "WHERE p.id >= ? AND p.id < ?" + ON_DUPLICATE_SQL;
+    private static final String DELETE_SQL = "DELETE FROM post_read_model WHERE post_id = ? " +
+            "AND NOT EXISTS (SELECT 1 FROM post WHERE id = ?)";
+    private static final String DELETE_ORPHANS_SQL = "DELETE r FROM post_read_model r " +
+            "LEFT JOIN post p ON p.id = r.post_id WHERE p.id IS NULL";
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM post";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int backfillChunkSize;
+
+    private volatile boolean ready;
+
+    public PostReadModelProjector(JdbcTemplate jdbcTemplate,
+                                  @Value("${socialhub.post.read-model.enabled:false}") boolean enabled,
+                                  @Value("${socialhub.post.read-model.backfill-chunk-size:5000}") int backfillChunkSize) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.backfillChunkSize = backfillChunkSize;
+    }
+
+    /**
+     * 애플리케이션 시작 후 별도 스레드에서 backfill (완료 전까지 목록/검색은 원본 테이블에서 조회)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+
+        if (!enabled) {
+            return;
+        }
+
+        Thread thread = new Thread(() -> {
+            try {
+                backfill();
+            } catch (RuntimeException e) {
+                log.error("게시물 읽기 모델 생성에 실패하였습니다.", e);
+            }
+        }, "post-read-model-backfill");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * 모든 게시물을 id 구간별로 다시 반영하고 삭제된 게시물의 row 정리
+     */
+    public void backfill() {
+
+        long startedAt = System.currentTimeMillis();
+
+        // 1. id 구간별 반영 (구간마다 별도 트랜잭션이라 긴 lock 을 잡지 않음)
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        for (long from = 1; from <= maxId; from += backfillChunkSize) {
+            jdbcTemplate.update(BACKFILL_SQL, from, from + backfillChunkSize);
+        }
+
+        // 2. 원본에 없는 게시물 삭제
+        jdbcTemplate.update(DELETE_ORPHANS_SQL);
+
+        ready = true;
+        log.info("게시물 읽기 모델 생성 완료. 최대 게시물 Id : {}, 소요 시간 : {}ms", maxId, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 게시물 변경 이벤트 반영 (commit 후 새 트랜잭션에서 실행, 트랜잭션 밖에서 발행되면 바로 실행)
+     *
+     * @param event 변경된 게시물
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void on(PostChangedEvent event) {
+
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            refresh(event.getPostId());
+        } catch (RuntimeException e) {
+            // 이미 commit 된 요청은 실패시키지 않음 (다음 backfill 에서 반영)
+            log.warn("게시물 읽기 모델 반영에 실패하였습니다. postId : {}", event.getPostId(), e);
+        }
+    }
+
+    /**
+     * 게시물 하나를 원본의 현재 상태로 덮어쓰기 (원본에서 삭제되었으면 삭제)
+     *
+     * @param postId 게시물 Id
+     */
+    public void refresh(Long postId) {
+
+        jdbcTemplate.update(REFRESH_SQL, postId);
+        jdbcTemplate.update(DELETE_SQL, postId, postId);
+    }
+
+    /**
+     * 목록/검색을 읽기 모델에서 조회할 수 있는지 여부
+     */
+    public boolean isReady() {
+
+        return enabled && ready;
+    }
+
+}
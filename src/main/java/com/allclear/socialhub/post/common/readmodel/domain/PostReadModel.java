@@ -0,0 +1,100 @@
+package com.allclear.socialhub.post.common.readmodel.domain;
+
+import com.allclear.socialhub.post.domain.PostType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시물 목록/검색용 비정규화 테이블입니다.
+ * post, user, post_hashtag, hashtag 를 미리 합쳐 두어 목록 조회를 한 테이블에서 처리합니다.
+ * PostReadModelProjector 가 게시물 변경 이벤트와 카운터 반영 시 갱신하며, 직접 수정하지 않습니다.
+ */
+@Entity
+@Table(name = "post_read_model", indexes = {
+        @Index(name = "idx_post_read_model_type", columnList = "type, post_id"),
+        @Index(name = "idx_post_read_model_username", columnList = "username, post_id")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostReadModel {
+
+    public static final int EXCERPT_LENGTH = 20;
+
+    private static final String HASHTAG_DELIMITER = "#";
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private PostType type;
+
+    @Column(nullable = false)
+    private String title;
+
+    // 본문 앞 20자
+    @Column(nullable = false, length = EXCERPT_LENGTH)
+    private String excerpt;
+
+    @Column(nullable = false)
+    private int viewCnt;
+
+    @Column(nullable = false)
+    private int likeCnt;
+
+    @Column(nullable = false)
+    private int shareCnt;
+
+    // 등록 순서대로 '#' 로 감싼 해시태그 (ex. #OOTD#맛집#, 해시태그에는 '#' 이 들어갈 수 없으므로 구분자로 사용)
+    @Column(length = 1024)
+    private String hashtags;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    /**
+     * hashtags 컬럼 값을 해시태그 목록으로 변환
+     *
+     * @param hashtags ex. #OOTD#맛집#
+     * @return ex. [OOTD, 맛집]
+     */
+    public static List<String> splitHashtags(String hashtags) {
+
+        List<String> hashtagList = new ArrayList<>();
+        if (hashtags == null) {
+            return hashtagList;
+        }
+        for (String content : hashtags.split(HASHTAG_DELIMITER)) {
+            if (!content.isEmpty()) {
+                hashtagList.add(content);
+            }
+        }
+        return hashtagList;
+    }
+
+    /**
+     * 해시태그 하나가 달린 게시물을 찾을 때 hashtags 컬럼에서 찾을 값
+     *
+     * @param content 해시태그 ('#' 제외)
+     * @return ex. #OOTD#
+     */
+    public static String hashtagToken(String content) {
+
+        return HASHTAG_DELIMITER + content + HASHTAG_DELIMITER;
+    }
+
+}
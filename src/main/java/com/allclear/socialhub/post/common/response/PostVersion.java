@@ -0,0 +1,21 @@
+package com.allclear.socialhub.post.common.response;
+
+import com.allclear.socialhub.post.domain.PostType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시물 상세 응답의 변경 여부를 판단하는 값 (ETag 계산용)
+ * 해시태그만 바뀌면 updatedAt 이 바뀌지 않을 수 있으므로 해시태그 Id 목록은 따로 조회하여 함께 비교합니다.
+ */
+public interface PostVersion {
+
+    PostType getType();
+
+    LocalDateTime getUpdatedAt();
+
+    Integer getLikeCnt();
+
+    Integer getShareCnt();
+
+}
@@ -0,0 +1,16 @@
+package com.allclear.socialhub.post.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * HyperLogLog 로 계산한 구간별 순 조회자 수
+ */
+@Getter
+@AllArgsConstructor
+public class UniqueViewerStatistic implements StatisticQueryResponse {
+
+    private final String time;
+    private final Long value;
+
+}
@@ -0,0 +1,47 @@
+package com.allclear.socialhub.post.common.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색어를 MATCH ... AGAINST boolean mode 검색어로 변환합니다.
+ * 단어마다 필수(+) phrase 로 감싸 모든 단어를 포함한 게시물만 찾고,
+ * 사용자가 입력한 boolean 연산자는 제거합니다.
+ */
+public final class FulltextQuery {
+
+    // ngram_token_size (MySQL 기본값 2) 보다 짧은 단어는 FULLTEXT index 로 찾을 수 없음
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final String OPERATORS = "[+\\-<>()~*\"@]";
+
+    private FulltextQuery() {
+    }
+
+    /**
+     * boolean mode 검색어 변환
+     *
+     * @param query 사용자 검색어
+     * @return boolean mode 검색어, FULLTEXT 로 검색할 수 없으면 null (LIKE 검색 사용)
+     */
+    public static String toBooleanQuery(String query) {
+
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>();
+        for (String token : query.trim().split("\\s+")) {
+            String term = token.replaceAll(OPERATORS, "");
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (term.length() < MIN_TOKEN_LENGTH) {
+                return null;
+            }
+            terms.add("+\"" + term + "\"");
+        }
+
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.allclear.socialhub.post.common.search;
+
+/**
+ * 게시물 제목/내용 검색 방식
+ */
+public enum PostSearchBackend {
+
+    LIKE,     // LIKE '%검색어%' (index 를 사용하지 못하므로 게시물이 적을 때만 사용)
+    FULLTEXT, // ngram parser FULLTEXT index 의 MATCH ... AGAINST (boolean mode)
+    INDEX     // 애플리케이션 메모리의 bigram 역색인 + BM25 (색인 생성 전이거나 후보가 너무 많으면 FULLTEXT 사용)
+
+}
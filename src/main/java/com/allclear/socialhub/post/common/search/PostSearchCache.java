@@ -0,0 +1,240 @@
+package com.allclear.socialhub.post.common.search;
+
+import com.allclear.socialhub.post.common.hashtag.expression.HashtagExpression;
+import com.allclear.socialhub.post.domain.PostType;
+import com.allclear.socialhub.post.domain.SearchByType;
+import com.allclear.socialhub.post.dto.PostListResponse;
+import com.allclear.socialhub.post.dto.PostPaging;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시물 검색 결과(한 페이지)를 정규화한 검색 조건(Key)별로 보관합니다.
+ * 최근에 사용되지 않은 조건부터 max-entries 를 넘지 않도록 내보내고, ttl 이 지나면 만료됩니다.
+ * <p>
+ * 게시물이 등록/수정/삭제되면 해당 게시물의 타입과 해시태그가 결과에 영향을 줄 수 있는 조건만 삭제합니다.
+ * (NOT 이 없는 해시태그 검색식은 검색식의 해시태그가 달린 게시물만, 그 외에는 같은 타입의 모든 게시물이 영향을 줌)
+ * 좋아요/조회/공유 수는 ttl 동안 이전 값일 수 있으므로 ttl 은 짧게 유지합니다.
+ */
+@Component
+public class PostSearchCache {
+
+    private final long ttl;
+    private final Map<Key, Entry> entries;
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expiredEvictions;
+    private final Counter invalidations;
+
+    public PostSearchCache(MeterRegistry meterRegistry,
+                           @Value("${socialhub.post.search.cache.ttl:10000}") long ttl,
+                           @Value("${socialhub.post.search.cache.max-entries:10000}") int maxEntries) {
+
+        this.ttl = ttl;
+        this.hits = requests(meterRegistry, "hit");
+        this.misses = requests(meterRegistry, "miss");
+        this.sizeEvictions = evictions(meterRegistry, "size");
+        this.expiredEvictions = evictions(meterRegistry, "expired");
+        this.invalidations = evictions(meterRegistry, "invalidated");
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+
+                boolean evict = size() > maxEntries;
+                if (evict) {
+                    sizeEvictions.increment();
+                }
+                return evict;
+            }
+        };
+
+        Gauge.builder("post.search.cache.size", this, PostSearchCache::size)
+                .description("검색 결과 cache 에 보관 중인 조건 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 보관 중인 검색 결과 조회
+     *
+     * @param key 검색 조건
+     * @return 검색 결과 복사본 (요청마다 좋아요 여부 등을 설정할 수 있도록), 없거나 만료되었으면 null
+     */
+    public PostPaging get(Key key) {
+
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt < System.currentTimeMillis()) {
+                entries.remove(key);
+                expiredEvictions.increment();
+                entry = null;
+            }
+        }
+
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copy(entry.paging);
+    }
+
+    /**
+     * 검색 결과 저장
+     *
+     * @param key    검색 조건
+     * @param paging 검색 결과 (좋아요 여부 등 요청별 값을 설정하기 전)
+     */
+    public void put(Key key, PostPaging paging) {
+
+        Entry entry = new Entry(copy(paging), System.currentTimeMillis() + ttl);
+        synchronized (entries) {
+            entries.put(key, entry);
+        }
+    }
+
+    /**
+     * 게시물 변경이 영향을 줄 수 있는 검색 결과 삭제
+     *
+     * @param type     변경된 게시물 타입
+     * @param hashtags 변경 전후 게시물의 해시태그 ('#' 제외)
+     */
+    public void invalidate(PostType type, Collection<String> hashtags) {
+
+        Set<String> normalized = hashtags.stream()
+                .map(hashtag -> hashtag.startsWith("#") ? hashtag.substring(1) : hashtag)
+                .map(hashtag -> hashtag.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+
+        synchronized (entries) {
+            Iterator<Key> iterator = entries.keySet().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().isAffectedBy(type, normalized)) {
+                    iterator.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    public int size() {
+
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // 목록의 게시물 응답까지 복사
+    private PostPaging copy(PostPaging paging) {
+
+        return new PostPaging(paging, paging.getPostList().stream()
+                .map(post -> ((PostListResponse) post).toBuilder().build())
+                .toList());
+    }
+
+    private Counter requests(MeterRegistry meterRegistry, String result) {
+
+        return Counter.builder("post.search.cache.requests")
+                .description("검색 결과 cache 조회 수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter evictions(MeterRegistry meterRegistry, String reason) {
+
+        return Counter.builder("post.search.cache.evictions")
+                .description("검색 결과 cache 에서 삭제된 조건 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 정규화한 검색 조건
+     * 해시태그 검색식은 공백을 하나로 줄이고, 검색어는 앞뒤 공백을 없애고 소문자로 바꾸며,
+     * 검색 범위는 순서와 대소문자에 관계없이 같은 값으로 바꿉니다. (해시태그가 있으면 유저 조건은 사용하지 않으므로 제외)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Key {
+
+        private final String username;
+        private final String hashtag;
+        private final PostType type;
+        private final String query;
+        private final String searchBy;
+        private final String orderBy;
+        private final String sort;
+        private final int page;
+        private final int size;
+        private final boolean withTotal;
+
+        @EqualsAndHashCode.Exclude
+        private final Set<String> dependentHashtags;
+
+        public static Key of(Pageable pageable, String username, String hashtag, PostType type, String query,
+                             String orderBy, String sort, String searchBy, boolean withTotal) {
+
+            String normalizedHashtag = hashtag == null || hashtag.isBlank() ? null : hashtag.strip().replaceAll("\\s+", " ");
+            HashtagExpression expression = HashtagExpression.parse(normalizedHashtag);
+
+            // NOT 이 없는 해시태그 검색식이면 검색식의 해시태그가 달린 게시물만 결과에 영향을 줌
+            Set<String> dependentHashtags = expression == null || expression.containsNot()
+                    ? null
+                    : expression.getHashtags().stream().map(content -> content.toLowerCase(Locale.ROOT)).collect(Collectors.toSet());
+
+            return new Key(
+                    normalizedHashtag == null ? username : null,
+                    normalizedHashtag,
+                    type,
+                    query == null ? "" : query.strip().toLowerCase(Locale.ROOT),
+                    SearchByType.fromString(searchBy).toString(),
+                    orderBy,
+                    sort == null ? null : sort.toLowerCase(Locale.ROOT),
+                    pageable.getPageNumber(),
+                    pageable.getPageSize(),
+                    withTotal,
+                    dependentHashtags);
+        }
+
+        // 해당 타입/해시태그의 게시물이 바뀌면 결과가 달라질 수 있는지 여부
+        boolean isAffectedBy(PostType changedType, Set<String> changedHashtags) {
+
+            if (type != null && type != changedType) {
+                return false;
+            }
+            if (dependentHashtags == null) {
+                return true;
+            }
+            return changedHashtags.stream().anyMatch(dependentHashtags::contains);
+        }
+
+    }
+
+    @AllArgsConstructor
+    private static class Entry {
+
+        private final PostPaging paging;
+        private final long expiresAt;
+
+    }
+
+}
@@ -0,0 +1,743 @@
+package com.allclear.socialhub.post.common.search;
+
+import com.allclear.socialhub.post.domain.SearchByType;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.LongPredicate;
+
+/**
+ * 게시물 제목/내용의 인메모리 역색인입니다. (search backend 가 INDEX 일 때 사용)
+ * 한글도 띄어쓰기와 관계없이 찾을 수 있도록 단어를 2글자(bigram) 단위로 나누어 색인하고,
+ * posting list 는 문서 번호 차이(delta)와 빈도를 varint 로 압축한 byte 배열로 보관하며, BM25 로 관련도를 계산합니다.
+ * <p>
+ * 게시물 수정은 새 문서 번호로 다시 추가하고 이전 번호는 삭제 표시만 하므로 posting list 는 항상 뒤에만 추가됩니다.
+ * 삭제 표시된 문서 비율이 compact-deleted-ratio 를 넘으면 주기적으로 삭제된 문서를 뺀 색인으로 교체합니다.
+ * 시작 시 DB 에서 id 구간별로 병렬로 읽어 다시 만들고, 그동안 들어온 등록/수정/삭제는 새 색인에 다시 반영합니다.
+ */
+@Slf4j
+@Component
+public class PostSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final String MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM post";
+    private static final String CHUNK_SQL = "SELECT id, title, content FROM post WHERE id >= ? AND id < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final int rebuildThreads;
+    private final int rebuildChunkSize;
+    private final double compactDeletedRatio;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+    private List<Consumer<IndexState>> pendingDuringRebuild;
+    private long modifications;
+    private volatile boolean ready;
+
+    public PostSearchIndex(JdbcTemplate jdbcTemplate,
+                           @Value("${socialhub.post.search.backend:FULLTEXT}") PostSearchBackend searchBackend,
+                           @Value("${socialhub.post.search.index.max-candidates:10000}") int maxCandidates,
+                           @Value("${socialhub.post.search.index.rebuild-threads:4}") int rebuildThreads,
+                           @Value("${socialhub.post.search.index.rebuild-chunk-size:5000}") int rebuildChunkSize,
+                           @Value("${socialhub.post.search.index.compact-deleted-ratio:0.2}") double compactDeletedRatio) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = searchBackend == PostSearchBackend.INDEX;
+        this.maxCandidates = maxCandidates;
+        this.rebuildThreads = rebuildThreads;
+        this.rebuildChunkSize = rebuildChunkSize;
+        this.compactDeletedRatio = compactDeletedRatio;
+    }
+
+    /**
+     * 애플리케이션 시작 후 별도 스레드에서 색인 생성 (완료 전까지 검색은 FULLTEXT/LIKE 로 처리)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+
+        if (!enabled) {
+            return;
+        }
+
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (RuntimeException e) {
+                log.error("게시물 검색 색인 생성에 실패하였습니다.", e);
+            }
+        }, "post-search-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * DB 의 모든 게시물로 색인을 다시 생성
+     */
+    public void rebuild() {
+
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexState fresh = new IndexState();
+        Long maxId = jdbcTemplate.queryForObject(MAX_ID_SQL, Long.class);
+        ExecutorService executor = Executors.newFixedThreadPool(rebuildThreads);
+        try {
+            // 1. id 구간별로 병렬 조회 + 토큰화 (동시에 진행하는 구간 수를 제한하여 메모리 사용량 유지)
+            Deque<Future<List<Document>>> inFlight = new ArrayDeque<>();
+            for (long from = 1; from <= maxId; from += rebuildChunkSize) {
+                long start = from;
+                inFlight.add(executor.submit(() -> loadChunk(start, start + rebuildChunkSize)));
+                if (inFlight.size() >= rebuildThreads * 2) {
+                    addAll(fresh, inFlight.poll().get());
+                }
+            }
+
+            // 2. 구간 순서대로 추가 (문서 번호가 증가하는 순서를 유지)
+            while (!inFlight.isEmpty()) {
+                addAll(fresh, inFlight.poll().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelRebuild();
+            throw new IllegalStateException("게시물 검색 색인 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            cancelRebuild();
+            throw new IllegalStateException("게시물 검색 색인 생성에 실패하였습니다.", e.getCause());
+        } catch (RuntimeException e) {
+            cancelRebuild();
+            throw e;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // 3. 생성 중에 들어온 변경을 반영하고 교체
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild.forEach(change -> change.accept(fresh));
+            pendingDuringRebuild = null;
+            state = fresh;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("게시물 검색 색인을 생성하였습니다. 게시물 수 : {}, 소요 시간 : {} ms",
+                fresh.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 삭제 표시된 문서 비율이 compact-deleted-ratio 를 넘으면 삭제된 문서를 뺀 색인으로 교체
+     * (posting list, 문서 길이, 게시물 ID 에서 수정/삭제로 남은 문서를 제거하여 메모리와 검색 비용, BM25 idf 를 실제 문서 수에 맞춤)
+     * 새 색인은 읽기 lock 으로 만들어 검색을 막지 않고, 그동안 색인이 바뀌었으면 교체하지 않고 다음 주기에 다시 시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${socialhub.post.search.index.compact-interval:60000}")
+    public void compactIfNeeded() {
+
+        if (!enabled || !ready) {
+            return;
+        }
+
+        // 1. 현재 색인에서 삭제된 문서를 뺀 새 색인 생성 (등록/수정/삭제 반영은 생성이 끝날 때까지 대기)
+        IndexState current;
+        IndexState compacted;
+        long version;
+        lock.readLock().lock();
+        try {
+            current = state;
+            if (pendingDuringRebuild != null || current.deletedRatio() <= compactDeletedRatio) {
+                return;
+            }
+            version = modifications;
+            compacted = current.compact();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 2. 생성 후 바뀐 것이 없으면 교체
+        lock.writeLock().lock();
+        try {
+            if (state != current || modifications != version) {
+                return;
+            }
+            state = compacted;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        log.info("게시물 검색 색인에서 삭제된 문서를 정리하였습니다. 정리한 문서 수 : {}, 게시물 수 : {}",
+                current.deleted.getCardinality(), compacted.size());
+    }
+
+    /**
+     * 게시물 등록/수정 반영
+     *
+     * @param postId  게시물 ID
+     * @param title   제목
+     * @param content 내용
+     */
+    public void index(Long postId, String title, String content) {
+
+        if (!enabled) {
+            return;
+        }
+
+        Document document = Document.of(postId, title, content);
+        apply(indexState -> indexState.add(document));
+    }
+
+    /**
+     * 게시물 삭제 반영
+     *
+     * @param postId 게시물 ID
+     */
+    public void remove(Long postId) {
+
+        if (!enabled) {
+            return;
+        }
+
+        apply(indexState -> indexState.remove(postId));
+    }
+
+    /**
+     * 검색어의 모든 bigram 을 포함한 게시물과 BM25 점수 조회
+     *
+     * @param query         검색어
+     * @param searchByTypes 검색 범위 (없으면 제목 또는 내용, 둘 다면 제목과 내용 모두)
+     * @return 검색 결과, 색인을 사용할 수 없거나 후보가 max-candidates 를 넘으면 null (DB 검색 사용)
+     */
+    public Hits search(String query, EnumSet<SearchByType> searchByTypes) {
+
+        if (!enabled || !ready || query == null) {
+            return null;
+        }
+
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(tokenize(query)));
+        if (terms.isEmpty()) {
+            return null;
+        }
+
+        lock.readLock().lock();
+        try {
+            Scores scores;
+            if (searchByTypes.isEmpty()) {
+                scores = state.title.search(terms, state.size()).union(state.content.search(terms, state.size()));
+            } else if (searchByTypes.size() == 2) {
+                scores = state.title.search(terms, state.size()).intersect(state.content.search(terms, state.size()));
+            } else if (searchByTypes.contains(SearchByType.TITLE)) {
+                scores = state.title.search(terms, state.size());
+            } else {
+                scores = state.content.search(terms, state.size());
+            }
+
+            // 삭제된 문서를 제외하고 게시물 ID 로 변환
+            Map<Long, Double> scoreByPostId = new HashMap<>();
+            for (int i = 0; i < scores.size; i++) {
+                int doc = scores.docs[i];
+                if (state.deleted.contains(doc)) {
+                    continue;
+                }
+                if (scoreByPostId.size() >= maxCandidates) {
+                    return null;
+                }
+                scoreByPostId.put(state.postIds[doc], scores.scores[i]);
+            }
+            return new Hits(scoreByPostId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+
+        return ready;
+    }
+
+    public int size() {
+
+        lock.readLock().lock();
+        try {
+            return state.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 삭제 표시만 된 문서 수
+    int deletedCount() {
+
+        lock.readLock().lock();
+        try {
+            return state.deleted.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 현재 색인에 반영하고, 다시 생성 중이면 새 색인에도 반영하도록 보관
+    private void apply(Consumer<IndexState> change) {
+
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            modifications++;
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void cancelRebuild() {
+
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private List<Document> loadChunk(long fromId, long toId) {
+
+        return jdbcTemplate.query(CHUNK_SQL,
+                (rs, rowNum) -> Document.of(rs.getLong("id"), rs.getString("title"), rs.getString("content")),
+                fromId, toId);
+    }
+
+    private void addAll(IndexState indexState, List<Document> documents) {
+
+        documents.forEach(indexState::add);
+    }
+
+    /**
+     * 소문자로 바꾼 뒤 글자/숫자가 아닌 문자로 단어를 나누고, 단어를 2글자씩 겹쳐 자름 (1글자 단어는 그대로)
+     *
+     * @param text 제목, 내용 또는 검색어
+     * @return bigram 목록 (중복 포함)
+     */
+    static List<String> tokenize(String text) {
+
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start == 1) {
+                    terms.add(normalized.substring(start, i));
+                } else {
+                    for (int j = start; j < i - 1; j++) {
+                        terms.add(normalized.substring(j, j + 2));
+                    }
+                }
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색 결과 (게시물 ID 별 BM25 점수)
+     */
+    public static class Hits {
+
+        private final Map<Long, Double> scoreByPostId;
+
+        Hits(Map<Long, Double> scoreByPostId) {
+
+            this.scoreByPostId = scoreByPostId;
+        }
+
+        public List<Long> getPostIds() {
+
+            return new ArrayList<>(scoreByPostId.keySet());
+        }
+
+        public int size() {
+
+            return scoreByPostId.size();
+        }
+
+        // 조건에 맞는 게시물만 남긴 검색 결과 (해시태그 bitmap 과의 교집합 등)
+        public Hits filter(LongPredicate predicate) {
+
+            Map<Long, Double> filtered = new HashMap<>();
+            scoreByPostId.forEach((postId, score) -> {
+                if (predicate.test(postId)) {
+                    filtered.put(postId, score);
+                }
+            });
+            return new Hits(filtered);
+        }
+
+        // 관련도 내림차순, 같으면 ID 내림차순
+        public Comparator<Long> byRelevance() {
+
+            Comparator<Long> byScore = Comparator.comparingDouble(postId -> scoreByPostId.getOrDefault(postId, 0.0));
+            return byScore.reversed().thenComparing(Comparator.<Long>reverseOrder());
+        }
+
+    }
+
+    // 토큰화된 게시물
+    private static class Document {
+
+        private final long postId;
+        private final Map<String, Integer> titleTerms;
+        private final int titleLength;
+        private final Map<String, Integer> contentTerms;
+        private final int contentLength;
+
+        private Document(long postId, List<String> titleTerms, List<String> contentTerms) {
+
+            this.postId = postId;
+            this.titleTerms = frequencies(titleTerms);
+            this.titleLength = titleTerms.size();
+            this.contentTerms = frequencies(contentTerms);
+            this.contentLength = contentTerms.size();
+        }
+
+        static Document of(long postId, String title, String content) {
+
+            return new Document(postId, tokenize(title), tokenize(content));
+        }
+
+        private static Map<String, Integer> frequencies(List<String> terms) {
+
+            Map<String, Integer> frequencies = new HashMap<>();
+            terms.forEach(term -> frequencies.merge(term, 1, Integer::sum));
+            return frequencies;
+        }
+
+    }
+
+    // 색인 전체 (문서 번호는 추가 순서대로 증가)
+    private static class IndexState {
+
+        private final Field title = new Field();
+        private final Field content = new Field();
+        private final Map<Long, Integer> docByPostId = new HashMap<>();
+        private final RoaringBitmap deleted = new RoaringBitmap();
+        private long[] postIds = new long[1024];
+        private int docCount;
+
+        void add(Document document) {
+
+            remove(document.postId);
+
+            int doc = docCount++;
+            if (doc == postIds.length) {
+                postIds = Arrays.copyOf(postIds, postIds.length * 2);
+            }
+            postIds[doc] = document.postId;
+            title.add(doc, document.titleTerms, document.titleLength);
+            content.add(doc, document.contentTerms, document.contentLength);
+            docByPostId.put(document.postId, doc);
+        }
+
+        void remove(long postId) {
+
+            Integer doc = docByPostId.remove(postId);
+            if (doc != null) {
+                deleted.add(doc);
+                title.remove(doc);
+                content.remove(doc);
+            }
+        }
+
+        int size() {
+
+            return docByPostId.size();
+        }
+
+        // 문서 번호 중 삭제 표시된 비율
+        double deletedRatio() {
+
+            return docCount == 0 ? 0.0 : (double) deleted.getCardinality() / docCount;
+        }
+
+        // 삭제된 문서를 뺀 새 색인 (남은 문서의 번호를 순서대로 다시 매기므로 posting list 의 문서 번호 순서는 유지)
+        IndexState compact() {
+
+            IndexState compacted = new IndexState();
+            int liveDocs = docCount - deleted.getCardinality();
+            compacted.postIds = new long[Math.max(1024, liveDocs)];
+
+            int[] newDocs = new int[docCount];
+            for (int doc = 0; doc < docCount; doc++) {
+                if (deleted.contains(doc)) {
+                    newDocs[doc] = -1;
+                    continue;
+                }
+                int newDoc = compacted.docCount++;
+                newDocs[doc] = newDoc;
+                compacted.postIds[newDoc] = postIds[doc];
+                compacted.docByPostId.put(postIds[doc], newDoc);
+            }
+
+            title.compactInto(compacted.title, newDocs, compacted.docCount);
+            content.compactInto(compacted.content, newDocs, compacted.docCount);
+            return compacted;
+        }
+
+    }
+
+    // 필드(제목/내용)별 posting list 와 문서 길이
+    private static class Field {
+
+        private final Map<String, Postings> postings = new HashMap<>();
+        private int[] lengths = new int[1024];
+        private long totalLength;
+
+        void add(int doc, Map<String, Integer> terms, int length) {
+
+            if (doc >= lengths.length) {
+                lengths = Arrays.copyOf(lengths, Math.max(lengths.length * 2, doc + 1));
+            }
+            lengths[doc] = length;
+            totalLength += length;
+            terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new Postings()).add(doc, frequency));
+        }
+
+        void remove(int doc) {
+
+            totalLength -= lengths[doc];
+        }
+
+        // 삭제된 문서를 빼고 새 문서 번호로 옮김 (newDocs 가 -1 이면 삭제된 문서)
+        void compactInto(Field target, int[] newDocs, int liveDocs) {
+
+            target.lengths = new int[Math.max(1024, liveDocs)];
+            for (int doc = 0; doc < newDocs.length; doc++) {
+                if (newDocs[doc] >= 0) {
+                    target.lengths[newDocs[doc]] = lengths[doc];
+                    target.totalLength += lengths[doc];
+                }
+            }
+
+            postings.forEach((term, list) -> {
+                Postings compacted = list.compact(newDocs);
+                if (compacted.size > 0) {
+                    target.postings.put(term, compacted);
+                }
+            });
+        }
+
+        // 모든 검색어를 포함한 문서의 BM25 점수
+        Scores search(List<String> terms, int liveDocs) {
+
+            List<Postings> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    return Scores.EMPTY;
+                }
+                lists.add(list);
+            }
+
+            // 문서 수가 적은 posting list 부터 교집합
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            double avgLength = liveDocs == 0 ? 1.0 : Math.max(1.0, (double) totalLength / liveDocs);
+
+            Scores scores = null;
+            for (Postings list : lists) {
+                Scores termScores = list.score(lengths, liveDocs, avgLength);
+                scores = scores == null ? termScores : scores.intersect(termScores);
+                if (scores.size == 0) {
+                    return Scores.EMPTY;
+                }
+            }
+            return scores;
+        }
+
+    }
+
+    // 문서 번호 차이(delta)와 빈도를 varint 로 기록한 posting list
+    private static class Postings {
+
+        private byte[] bytes = new byte[8];
+        private int length;
+        private int size;
+        private int lastDoc;
+
+        void add(int doc, int frequency) {
+
+            writeVarInt(doc - lastDoc);
+            writeVarInt(frequency);
+            lastDoc = doc;
+            size++;
+        }
+
+        Scores score(int[] lengths, int liveDocs, double avgLength) {
+
+            double idf = Math.log(1 + (liveDocs - size + 0.5) / (size + 0.5));
+            int[] docs = new int[size];
+            double[] scores = new double[size];
+
+            int position = 0;
+            int doc = 0;
+            for (int i = 0; i < size; i++) {
+                // delta 와 빈도 varint 해석
+                int delta = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = bytes[position++];
+                    delta |= (b & 0x7F) << shift;
+                    if (b >= 0) break;
+                }
+                int frequency = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = bytes[position++];
+                    frequency |= (b & 0x7F) << shift;
+                    if (b >= 0) break;
+                }
+
+                doc += delta;
+                docs[i] = doc;
+                scores[i] = idf * frequency * (K1 + 1) / (frequency + K1 * (1 - B + B * lengths[doc] / avgLength));
+            }
+            return new Scores(docs, scores, size);
+        }
+
+        // 삭제된 문서를 뺀 새 posting list (newDocs 가 -1 이면 삭제된 문서)
+        Postings compact(int[] newDocs) {
+
+            Postings compacted = new Postings();
+            int position = 0;
+            int doc = 0;
+            for (int i = 0; i < size; i++) {
+                int delta = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = bytes[position++];
+                    delta |= (b & 0x7F) << shift;
+                    if (b >= 0) break;
+                }
+                int frequency = 0;
+                for (int shift = 0; ; shift += 7) {
+                    byte b = bytes[position++];
+                    frequency |= (b & 0x7F) << shift;
+                    if (b >= 0) break;
+                }
+
+                doc += delta;
+                if (newDocs[doc] >= 0) {
+                    compacted.add(newDocs[doc], frequency);
+                }
+            }
+            return compacted;
+        }
+
+        private void writeVarInt(int value) {
+
+            if (length + 5 > bytes.length) {
+                bytes = Arrays.copyOf(bytes, bytes.length * 2);
+            }
+            while ((value & ~0x7F) != 0) {
+                bytes[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            bytes[length++] = (byte) value;
+        }
+
+    }
+
+    // 문서 번호 오름차순으로 정렬된 (문서 번호, 점수) 목록
+    private static class Scores {
+
+        private static final Scores EMPTY = new Scores(new int[0], new double[0], 0);
+
+        private final int[] docs;
+        private final double[] scores;
+        private final int size;
+
+        Scores(int[] docs, double[] scores, int size) {
+
+            this.docs = docs;
+            this.scores = scores;
+            this.size = size;
+        }
+
+        // 양쪽 모두 있는 문서만 남기고 점수 합산
+        Scores intersect(Scores other) {
+
+            int[] resultDocs = new int[Math.min(size, other.size)];
+            double[] resultScores = new double[resultDocs.length];
+            int count = 0;
+            for (int i = 0, j = 0; i < size && j < other.size; ) {
+                if (docs[i] < other.docs[j]) {
+                    i++;
+                } else if (docs[i] > other.docs[j]) {
+                    j++;
+                } else {
+                    resultDocs[count] = docs[i];
+                    resultScores[count++] = scores[i++] + other.scores[j++];
+                }
+            }
+            return new Scores(resultDocs, resultScores, count);
+        }
+
+        // 어느 한쪽에라도 있는 문서를 모두 남기고 점수 합산
+        Scores union(Scores other) {
+
+            int[] resultDocs = new int[size + other.size];
+            double[] resultScores = new double[resultDocs.length];
+            int count = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < other.size) {
+                if (j >= other.size || (i < size && docs[i] < other.docs[j])) {
+                    resultDocs[count] = docs[i];
+                    resultScores[count++] = scores[i++];
+                } else if (i >= size || docs[i] > other.docs[j]) {
+                    resultDocs[count] = other.docs[j];
+                    resultScores[count++] = other.scores[j++];
+                } else {
+                    resultDocs[count] = docs[i];
+                    resultScores[count++] = scores[i++] + other.scores[j++];
+                }
+            }
+            return new Scores(resultDocs, resultScores, count);
+        }
+
+    }
+
+}
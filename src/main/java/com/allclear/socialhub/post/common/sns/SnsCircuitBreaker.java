@@ -0,0 +1,65 @@
+package com.allclear.socialhub.post.common.sns;
+
+/**
+ * SNS 네트워크별 circuit breaker 입니다.
+ * 연속 실패가 failureThreshold 에 도달하면 openDuration 동안 호출을 막고(OPEN),
+ * 이후 한 건만 시험 호출(HALF_OPEN)하여 성공하면 다시 닫습니다(CLOSED).
+ */
+class SnsCircuitBreaker {
+
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openDuration;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    SnsCircuitBreaker(int failureThreshold, long openDuration) {
+
+        this.failureThreshold = failureThreshold;
+        this.openDuration = openDuration;
+    }
+
+    /**
+     * 호출 가능 여부 (OPEN 상태에서 openDuration 이 지났으면 시험 호출 한 건 허용)
+     */
+    synchronized boolean tryAcquire() {
+
+        return switch (state) {
+            case CLOSED -> true;
+            case HALF_OPEN -> false;
+            case OPEN -> {
+                if (System.currentTimeMillis() - openedAt < openDuration) {
+                    yield false;
+                }
+                state = State.HALF_OPEN;
+                yield true;
+            }
+        };
+    }
+
+    synchronized void onSuccess() {
+
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    synchronized void onFailure() {
+
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    synchronized State getState() {
+
+        return state;
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.allclear.socialhub.post.common.sns;
+
+import com.allclear.socialhub.post.domain.PostType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 SNS API 호출을 요청 스레드와 분리하여 비동기로 전송합니다.
+ * 하나의 keep-alive HttpClient 를 공유하고, 네트워크(PostType)별로 동시 호출 수 제한, circuit breaker,
+ * jitter 를 준 exponential backoff 재시도를 적용합니다.
+ */
+@Slf4j
+@Component
+public class SnsDispatcher {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration requestTimeout;
+    private final int maxAttempts;
+    private final long backoff;
+
+    private final Map<PostType, Network> networks = new EnumMap<>(PostType.class);
+
+    public SnsDispatcher(ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${socialhub.sns.base-url:https://www.{network}.com}") String baseUrl,
+                         @Value("${socialhub.sns.connect-timeout:1000}") long connectTimeout,
+                         @Value("${socialhub.sns.request-timeout:2000}") long requestTimeout,
+                         @Value("${socialhub.sns.max-concurrency:32}") int maxConcurrency,
+                         @Value("${socialhub.sns.max-attempts:3}") int maxAttempts,
+                         @Value("${socialhub.sns.backoff:200}") long backoff,
+                         @Value("${socialhub.sns.circuit.failure-threshold:5}") int failureThreshold,
+                         @Value("${socialhub.sns.circuit.open-duration:30000}") long openDuration) {
+
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(connectTimeout))
+                .build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.requestTimeout = Duration.ofMillis(requestTimeout);
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+
+        for (PostType type : PostType.values()) {
+            networks.put(type, new Network(type, maxConcurrency,
+                    new SnsCircuitBreaker(failureThreshold, openDuration), meterRegistry));
+        }
+    }
+
+    /**
+     * 호출할 외부 API 주소
+     *
+     * @param type    게시물 타입 (SNS 네트워크)
+     * @param apiType likes, share
+     * @return ex. https://www.instagram.com/likes/instagram
+     */
+    public String url(PostType type, String apiType) {
+
+        String network = type.name().toLowerCase();
+        return baseUrl.replace("{network}", network) + "/" + apiType + "/" + network;
+    }
+
+    /**
+     * 외부 API 비동기 호출 (요청 스레드는 기다리지 않음)
+     *
+     * @param type    게시물 타입 (SNS 네트워크)
+     * @param apiType likes, share
+     * @param body    요청 본문
+     * @return 최종 성공 여부 (재시도 포함)
+     */
+    public CompletableFuture<Boolean> dispatch(PostType type, String apiType, Map<String, Object> body) {
+
+        Network network = networks.get(type);
+
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(URI.create(url(type, apiType)))
+                    .timeout(requestTimeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+                    .build();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            network.failure("invalid_request");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // 1. 동시 호출 수를 넘거나 circuit 이 열려 있으면 바로 실패 처리
+        if (!network.permits.tryAcquire()) {
+            network.failure("concurrency_limit");
+            return CompletableFuture.completedFuture(false);
+        }
+        if (!network.circuitBreaker.tryAcquire()) {
+            network.permits.release();
+            network.failure("circuit_open");
+            return CompletableFuture.completedFuture(false);
+        }
+
+        // 2. 전송 (실패 시 재시도), 완료되면 permit 반환
+        return attempt(network, request, 1)
+                .whenComplete((success, e) -> network.permits.release());
+    }
+
+    private CompletableFuture<Boolean> attempt(Network network, HttpRequest request, int attempt) {
+
+        long startedAt = System.nanoTime();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, e) -> {
+                    long elapsed = System.nanoTime() - startedAt;
+
+                    // 1. 성공
+                    if (e == null && response.statusCode() / 100 == 2) {
+                        network.latency("success").record(elapsed, TimeUnit.NANOSECONDS);
+                        network.circuitBreaker.onSuccess();
+                        return CompletableFuture.completedFuture(true);
+                    }
+
+                    network.latency("failure").record(elapsed, TimeUnit.NANOSECONDS);
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+                    // 2. 4xx(429 제외)는 재시도해도 같은 결과이므로 바로 실패
+                    boolean retryable = cause != null || response.statusCode() == 429 || response.statusCode() >= 500;
+                    if (!retryable || attempt >= maxAttempts) {
+                        network.circuitBreaker.onFailure();
+                        network.failure(cause != null ? cause.getClass().getSimpleName() : String.valueOf(response.statusCode()));
+                        log.info("외부 API 호출에 실패하였습니다. url : {}, 시도 : {}", request.uri(), attempt);
+                        return CompletableFuture.completedFuture(false);
+                    }
+
+                    // 3. jitter 를 준 exponential backoff 후 재시도
+                    network.retries.increment();
+                    long delay = (long) (backoff * Math.pow(2, attempt - 1) * ThreadLocalRandom.current().nextDouble(0.5, 1.5));
+                    return CompletableFuture.supplyAsync(() -> null,
+                                    CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS))
+                            .thenCompose(ignored -> attempt(network, request, attempt + 1));
+                })
+                .thenCompose(result -> result);
+    }
+
+    SnsCircuitBreaker.State circuitState(PostType type) {
+
+        return networks.get(type).circuitBreaker.getState();
+    }
+
+    // SNS 네트워크별 동시 호출 제한, circuit breaker, metric
+    private static class Network {
+
+        private final String name;
+        private final Semaphore permits;
+        private final SnsCircuitBreaker circuitBreaker;
+        private final MeterRegistry meterRegistry;
+        private final Counter retries;
+
+        Network(PostType type, int maxConcurrency, SnsCircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+
+            this.name = type.name().toLowerCase();
+            this.permits = new Semaphore(maxConcurrency);
+            this.circuitBreaker = circuitBreaker;
+            this.meterRegistry = meterRegistry;
+            this.retries = Counter.builder("sns.dispatch.retries")
+                    .description("외부 API 재시도 횟수")
+                    .tag("network", name)
+                    .register(meterRegistry);
+
+            Gauge.builder("sns.dispatch.in.flight", permits, p -> maxConcurrency - p.availablePermits())
+                    .description("진행 중인 외부 API 호출 수")
+                    .tag("network", name)
+                    .register(meterRegistry);
+            Gauge.builder("sns.dispatch.circuit.open", circuitBreaker, c -> c.getState() == SnsCircuitBreaker.State.CLOSED ? 0 : 1)
+                    .description("circuit breaker 열림 여부")
+                    .tag("network", name)
+                    .register(meterRegistry);
+        }
+
+        Timer latency(String outcome) {
+
+            return Timer.builder("sns.dispatch.latency")
+                    .description("외부 API 호출 시간")
+                    .tags("network", name, "outcome", outcome)
+                    .register(meterRegistry);
+        }
+
+        void failure(String reason) {
+
+            Counter.builder("sns.dispatch.failures")
+                    .description("외부 API 호출 실패 수")
+                    .tags("network", name, "reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+    }
+
+}
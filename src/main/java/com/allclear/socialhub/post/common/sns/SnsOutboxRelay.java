@@ -0,0 +1,296 @@
+package com.allclear.socialhub.post.common.sns;
+
+import com.allclear.socialhub.post.domain.PostType;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * sns_outbox 에 쌓인 알림을 batch 로 읽어 SnsDispatcher 로 전송합니다.
+ * 여러 인스턴스가 동시에 읽어도 겹치지 않도록 FOR UPDATE SKIP LOCKED 로 row 를 잡고,
+ * next_attempt_at 을 lease 만큼 미뤄 둔 뒤(claim) 트랜잭션 밖에서 전송합니다.
+ * 전송 도중 종료되면 lease 가 끝난 뒤 다시 전송되므로 at-least-once 로 동작하며,
+ * 실패한 알림은 backoff 후 재시도하다가 max-attempts 에 도달하면 FAILED 로 남깁니다.
+ * <p>
+ * coalesce-window 동안 쌓인 알림은 (게시물 타입, 게시물, API 종류) 별로 묶어 개수(count)를 담은 한 번의 호출로 보내므로,
+ * 인기 게시물에 좋아요/공유가 몰려도 외부 호출 수는 window 당 게시물 하나에 한 번으로 유지됩니다.
+ * (알림의 최대 지연 시간 ≒ coalesce-window + 전송 시간)
+ * <p>
+ * 전송은 scheduler 스레드가 아닌 전용 스레드에서 하며, 이전 전송이 끝나기 전에는 새로 claim 하지 않습니다.
+ * 결과는 max-in-flight 개씩 보낸 묶음마다 바로 반영하고, lease 의 절반이 지나면 아직 보내지 않은 알림은
+ * 다른 인스턴스가 바로 가져갈 수 있도록 돌려놓습니다. (이미 보낸 묶음은 SnsDispatcher 의 timeout × 재시도 횟수 안에 끝나므로 lease 안에 반영됨)
+ */
+@Slf4j
+@Component
+public class SnsOutboxRelay {
+
+    private static final String CLAIM_SELECT_SQL = "SELECT id, post_type, post_id, api_type, attempts FROM sns_outbox " +
+            "WHERE status = 'PENDING' AND next_attempt_at <= ? ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String CLAIM_UPDATE_SQL = "UPDATE sns_outbox SET next_attempt_at = ? WHERE id = ?";
+    private static final String DONE_SQL = "UPDATE sns_outbox SET status = 'DONE', attempts = attempts + 1, updated_at = ? WHERE id = ?";
+    private static final String RETRY_SQL = "UPDATE sns_outbox SET attempts = attempts + 1, next_attempt_at = ?, updated_at = ? WHERE id = ?";
+    private static final String FAILED_SQL = "UPDATE sns_outbox SET status = 'FAILED', attempts = attempts + 1, updated_at = ? WHERE id = ?";
+    private static final String PURGE_SQL = "DELETE FROM sns_outbox WHERE status = 'DONE' AND updated_at < ? LIMIT 1000";
+
+    private static final long MAX_RETRY_DELAY = 10 * 60 * 1000L;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final SnsDispatcher snsDispatcher;
+    private final int batchSize;
+    private final long lease;
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final long retention;
+    private final int maxInFlight;
+    private final DistributionSummary coalescedSummary;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "sns-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public SnsOutboxRelay(JdbcTemplate jdbcTemplate,
+                          PlatformTransactionManager transactionManager,
+                          SnsDispatcher snsDispatcher,
+                          MeterRegistry meterRegistry,
+                          @Value("${socialhub.sns.outbox.batch-size:1000}") int batchSize,
+                          @Value("${socialhub.sns.outbox.max-in-flight:16}") int maxInFlight,
+                          @Value("${socialhub.sns.outbox.lease:30000}") long lease,
+                          @Value("${socialhub.sns.outbox.max-attempts:10}") int maxAttempts,
+                          @Value("${socialhub.sns.outbox.retry-delay:1000}") long retryDelay,
+                          @Value("${socialhub.sns.outbox.retention:86400000}") long retention) {
+
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snsDispatcher = snsDispatcher;
+        this.batchSize = batchSize;
+        this.lease = lease;
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay;
+        this.retention = retention;
+        this.maxInFlight = maxInFlight;
+        this.coalescedSummary = DistributionSummary.builder("sns.outbox.coalesced")
+                .description("외부 API 호출 한 번에 묶인 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전용 스레드에서 relayBatch 실행 (이전 전송이 진행 중이면 건너뜀)
+     */
+    @Scheduled(fixedDelayString = "${socialhub.sns.outbox.coalesce-window:1000}")
+    public void relay() {
+
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    relayBatch();
+                } catch (RuntimeException e) {
+                    log.warn("외부 API 알림 전송에 실패하였습니다.", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 전송할 알림을 claim 하고 전송 결과에 따라 상태 변경
+     */
+    void relayBatch() {
+
+        // 1. claim
+        long claimedAt = System.currentTimeMillis();
+        List<OutboxRow> rows = claim();
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        // 2. (게시물 타입, 게시물, API 종류) 별로 묶기
+        Map<NotificationKey, List<OutboxRow>> groups = new LinkedHashMap<>();
+        for (OutboxRow row : rows) {
+            groups.computeIfAbsent(new NotificationKey(row.getPostType(), row.getPostId(), row.getApiType()),
+                    key -> new ArrayList<>()).add(row);
+        }
+        List<Map.Entry<NotificationKey, List<OutboxRow>>> entries = new ArrayList<>(groups.entrySet());
+
+        // 3. 묶음마다 한 번씩 전송 (트랜잭션 밖에서 max-in-flight 개씩 비동기로 보내고 끝날 때까지 대기)
+        long deadline = claimedAt + lease / 2;
+        int failedCount = 0;
+
+        for (int from = 0; from < entries.size(); from += maxInFlight) {
+            // lease 가 끝나기 전에 반영할 수 있도록 남은 알림은 돌려놓음
+            if (System.currentTimeMillis() >= deadline) {
+                release(entries.subList(from, entries.size()));
+                break;
+            }
+
+            List<Map.Entry<NotificationKey, List<OutboxRow>>> wave = entries.subList(from, Math.min(from + maxInFlight, entries.size()));
+
+            List<CompletableFuture<Boolean>> results = new ArrayList<>(wave.size());
+            for (Map.Entry<NotificationKey, List<OutboxRow>> entry : wave) {
+                results.add(send(entry.getKey(), entry.getValue().size()));
+            }
+
+            // 4. 결과 반영 (묶음의 모든 알림에 같은 결과 적용)
+            long now = System.currentTimeMillis();
+            Timestamp updatedAt = new Timestamp(now);
+            List<Object[]> done = new ArrayList<>();
+            List<Object[]> retry = new ArrayList<>();
+            List<Object[]> failed = new ArrayList<>();
+
+            for (int i = 0; i < wave.size(); i++) {
+                boolean success = results.get(i).join();
+                for (OutboxRow row : wave.get(i).getValue()) {
+                    if (success) {
+                        done.add(new Object[]{updatedAt, row.getId()});
+                    } else if (row.getAttempts() + 1 >= maxAttempts) {
+                        failed.add(new Object[]{updatedAt, row.getId()});
+                    } else {
+                        retry.add(new Object[]{new Timestamp(now + nextRetryDelay(row.getAttempts())), updatedAt, row.getId()});
+                    }
+                }
+            }
+
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!done.isEmpty()) jdbcTemplate.batchUpdate(DONE_SQL, done);
+                if (!retry.isEmpty()) jdbcTemplate.batchUpdate(RETRY_SQL, retry);
+                if (!failed.isEmpty()) jdbcTemplate.batchUpdate(FAILED_SQL, failed);
+            });
+            failedCount += failed.size();
+        }
+
+        if (failedCount > 0) {
+            log.warn("외부 API 알림 {}건이 최대 시도 횟수를 넘어 FAILED 로 변경되었습니다.", failedCount);
+        }
+    }
+
+    /**
+     * 전송이 끝난 알림 정리
+     */
+    @Scheduled(fixedDelayString = "${socialhub.sns.outbox.purge-interval:3600000}")
+    public void purge() {
+
+        jdbcTemplate.update(PURGE_SQL, new Timestamp(System.currentTimeMillis() - retention));
+    }
+
+    @PreDestroy
+    public void stop() {
+
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // 보내지 못한 알림을 시도 횟수 증가 없이 바로 다시 claim 할 수 있도록 돌려놓음
+    private void release(List<Map.Entry<NotificationKey, List<OutboxRow>>> entries) {
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        List<Object[]> batchArgs = entries.stream()
+                .flatMap(entry -> entry.getValue().stream())
+                .map(row -> new Object[]{now, row.getId()})
+                .toList();
+        jdbcTemplate.batchUpdate(CLAIM_UPDATE_SQL, batchArgs);
+        log.info("lease 안에 보내지 못한 외부 API 알림 {}건을 돌려놓았습니다.", batchArgs.size());
+    }
+
+    // 묶인 알림 개수를 담아 한 번 호출
+    private CompletableFuture<Boolean> send(NotificationKey key, int count) {
+
+        coalescedSummary.record(count);
+
+        Map<String, Object> body = Map.of(
+                "contentId", key.getPostType().name().toLowerCase(),
+                "postId", key.getPostId(),
+                "count", count);
+        return snsDispatcher.dispatch(key.getPostType(), key.getApiType(), body);
+    }
+
+    // 전송할 row 를 잠그고 lease 만큼 next_attempt_at 을 미룸
+    private List<OutboxRow> claim() {
+
+        return transactionTemplate.execute(status -> {
+            long now = System.currentTimeMillis();
+            List<OutboxRow> rows = jdbcTemplate.query(CLAIM_SELECT_SQL,
+                    (rs, rowNum) -> new OutboxRow(
+                            rs.getLong("id"),
+                            PostType.valueOf(rs.getString("post_type")),
+                            rs.getLong("post_id"),
+                            rs.getString("api_type"),
+                            rs.getInt("attempts")),
+                    new Timestamp(now), batchSize);
+
+            if (!rows.isEmpty()) {
+                Timestamp leaseUntil = new Timestamp(now + lease);
+                List<Object[]> batchArgs = rows.stream()
+                        .map(row -> new Object[]{leaseUntil, row.getId()})
+                        .toList();
+                jdbcTemplate.batchUpdate(CLAIM_UPDATE_SQL, batchArgs);
+            }
+            return rows;
+        });
+    }
+
+    // 재시도 대기 시간 (시도마다 2배, 최대 10분)
+    long nextRetryDelay(int attempts) {
+
+        return Math.min(MAX_RETRY_DELAY, retryDelay << Math.min(attempts, 20));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    static class OutboxRow {
+
+        private final Long id;
+        private final PostType postType;
+        private final Long postId;
+        private final String apiType;
+        private final int attempts;
+
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    private static class NotificationKey {
+
+        private final PostType postType;
+        private final Long postId;
+        private final String apiType;
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.allclear.socialhub.post.common.sns.domain;
+
+import com.allclear.socialhub.common.domain.Timestamped;
+import com.allclear.socialhub.post.domain.PostType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 SNS API 로 보낼 좋아요/공유 알림입니다.
+ * 좋아요/공유 row 와 같은 트랜잭션에서 기록되고, SnsOutboxRelay 가 전송 후 상태를 변경합니다.
+ */
+@Entity
+@Table(name = "sns_outbox", indexes = {
+        @Index(name = "idx_sns_outbox_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SnsOutbox extends Timestamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PostType postType;
+
+    @Column(nullable = false)
+    private Long postId;
+
+    // likes, share
+    @Column(nullable = false)
+    private String apiType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SnsOutboxStatus status;
+
+    // 전송 시도 횟수
+    @Column(nullable = false)
+    private int attempts;
+
+    // 다음 전송 시각 (전송 중인 row 는 lease 만료 시각)
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+}
@@ -0,0 +1,9 @@
+package com.allclear.socialhub.post.common.sns.domain;
+
+public enum SnsOutboxStatus {
+
+    PENDING,
+    DONE,
+    FAILED;
+
+}
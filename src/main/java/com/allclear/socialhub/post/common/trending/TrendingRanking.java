@@ -0,0 +1,199 @@
+package com.allclear.socialhub.post.common.trending;
+
+import com.allclear.socialhub.post.common.engagement.EngagementType;
+import com.allclear.socialhub.post.common.hashtag.repository.PostHashtagRepository;
+import com.allclear.socialhub.post.common.trending.repository.TrendingRedisRepository;
+import com.allclear.socialhub.post.domain.PostType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * 조회/좋아요/공유 이벤트로 게시물의 인기 점수를 갱신하고 점수가 높은 게시물을 조회합니다.
+ * <p>
+ * 점수는 이벤트마다 가중치 × 2^((이벤트 시각 - 구간 시작) / half-life) 를 더하는 forward decay 로 계산합니다.
+ * 모든 게시물의 점수에 같은 비율로 감쇠가 적용되므로 저장된 점수를 다시 계산하지 않아도 순서가 유지되며,
+ * 값이 커지지 않도록 half-life 의 32배마다 구간(epoch)을 나누어 새 key 에 쌓습니다.
+ * <p>
+ * 이벤트는 JVM 안에서 모았다가 flush-interval 마다 한 번의 pipeline 으로 Redis 에 더하므로 요청 스레드는 Redis 를 호출하지 않습니다.
+ * 조회는 Redis 에서만 이루어지며, 순위용이므로 종료 직전 또는 flush 도중 들어온 일부 증가분은 유실될 수 있습니다.
+ */
+@Slf4j
+@Component
+public class TrendingRanking {
+
+    // 구간 길이 (half-life 배수), 구간 끝의 가중치 배율은 2^32
+    private static final int EPOCH_HALF_LIVES = 32;
+
+    private final TrendingRedisRepository trendingRedisRepository;
+    private final PostHashtagRepository postHashtagRepository;
+    private final long halfLife;
+    private final long epochLength;
+    private final Map<EngagementType, Double> weights;
+    private final Timer flushTimer;
+
+    // (구간, 게시물 Id) -> 아직 Redis 에 반영되지 않은 점수
+    private final Map<PendingKey, PendingScore> pending = new ConcurrentHashMap<>();
+
+    public TrendingRanking(TrendingRedisRepository trendingRedisRepository,
+                           PostHashtagRepository postHashtagRepository,
+                           MeterRegistry meterRegistry,
+                           @Value("${socialhub.trending.half-life:21600000}") long halfLife,
+                           @Value("${socialhub.trending.weight.view:1}") double viewWeight,
+                           @Value("${socialhub.trending.weight.like:5}") double likeWeight,
+                           @Value("${socialhub.trending.weight.share:10}") double shareWeight) {
+
+        this.trendingRedisRepository = trendingRedisRepository;
+        this.postHashtagRepository = postHashtagRepository;
+        this.halfLife = halfLife;
+        this.epochLength = halfLife * EPOCH_HALF_LIVES;
+        this.weights = Map.of(EngagementType.VIEW, viewWeight, EngagementType.LIKE, likeWeight, EngagementType.SHARE, shareWeight);
+        this.flushTimer = Timer.builder("post.trending.flush")
+                .description("인기 점수 증가분을 Redis 에 반영하는 데 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이벤트 점수 누적
+     *
+     * @param postId 게시물 Id
+     * @param type   게시물 타입
+     * @param event  조회, 좋아요, 공유
+     */
+    public void record(Long postId, PostType type, EngagementType event) {
+
+        record(postId, type, event, System.currentTimeMillis());
+    }
+
+    void record(Long postId, PostType type, EngagementType event, long now) {
+
+        Double weight = weights.get(event);
+        if (weight == null) {
+            return;
+        }
+
+        long epoch = now / epochLength;
+        double score = weight * Math.pow(2, (double) (now - epoch * epochLength) / halfLife);
+        pending.computeIfAbsent(new PendingKey(epoch, postId), key -> new PendingScore(type)).add(score);
+    }
+
+    /**
+     * 점수가 높은 게시물 Id
+     *
+     * @param type    게시물 타입 (전체면 null)
+     * @param hashtag 해시태그 (전체면 null)
+     * @param size    최대 개수
+     * @return 게시물 Id 목록 (점수 내림차순)
+     */
+    public List<Long> top(PostType type, String hashtag, int size) {
+
+        return trendingRedisRepository.top(currentEpoch(), Math.pow(2, -EPOCH_HALF_LIVES), type, hashtag, size);
+    }
+
+    /**
+     * 삭제된 게시물 제거
+     *
+     * @param postId   게시물 Id
+     * @param type     게시물 타입
+     * @param hashtags 게시물의 해시태그
+     */
+    public void discard(Long postId, PostType type, List<String> hashtags) {
+
+        pending.keySet().removeIf(key -> key.getPostId().equals(postId));
+        trendingRedisRepository.remove(currentEpoch(), postId, type, hashtags);
+    }
+
+    /**
+     * 누적된 점수를 구간별로 모아 Redis 에 반영합니다. 실패하면 점수를 다시 누적해 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${socialhub.trending.flush-interval:1000}")
+    public void flush() {
+
+        // 1. 누적 점수 drain (제거 후 합산하므로 그 사이 더해진 점수는 드물게 유실될 수 있음)
+        Map<PendingKey, PendingScore> drained = new HashMap<>();
+        for (PendingKey key : new ArrayList<>(pending.keySet())) {
+            PendingScore score = pending.remove(key);
+            if (score != null) {
+                drained.put(key, score);
+            }
+        }
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        flushTimer.record(() -> {
+            // 2. 게시물 해시태그 조회 (flush 한 번에 IN 쿼리 한 번)
+            Map<Long, List<String>> hashtagsByPostId = postHashtagRepository.findHashtagContentsByPostIds(
+                    drained.keySet().stream().map(PendingKey::getPostId).distinct().toList());
+
+            // 3. 구간별 반영
+            Map<Long, List<TrendingRedisRepository.Increment>> incrementsByEpoch = new HashMap<>();
+            drained.forEach((key, score) -> incrementsByEpoch.computeIfAbsent(key.getEpoch(), epoch -> new ArrayList<>())
+                    .add(new TrendingRedisRepository.Increment(key.getPostId(), score.getType(),
+                            hashtagsByPostId.getOrDefault(key.getPostId(), List.of()), score.sum())));
+
+            incrementsByEpoch.forEach((epoch, increments) -> {
+                try {
+                    trendingRedisRepository.increment(epoch, epochLength * 2, increments);
+                } catch (RuntimeException e) {
+                    log.warn("인기 점수 반영에 실패하였습니다. 게시물 수 : {}", increments.size(), e);
+                    increments.forEach(increment -> pending.computeIfAbsent(new PendingKey(epoch, increment.getPostId()),
+                            key -> new PendingScore(increment.getType())).add(increment.getScore()));
+                }
+            });
+        });
+    }
+
+    private long currentEpoch() {
+
+        return System.currentTimeMillis() / epochLength;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @AllArgsConstructor
+    static class PendingKey {
+
+        private final long epoch;
+        private final Long postId;
+
+    }
+
+    @Getter
+    static class PendingScore {
+
+        private final PostType type;
+        private final DoubleAdder score = new DoubleAdder();
+
+        PendingScore(PostType type) {
+
+            this.type = type;
+        }
+
+        void add(double delta) {
+
+            score.add(delta);
+        }
+
+        double sum() {
+
+            return score.sum();
+        }
+
+    }
+
+}
@@ -0,0 +1,184 @@
+package com.allclear.socialhub.post.common.trending.repository;
+
+import com.allclear.socialhub.post.domain.PostType;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 인기 게시물 점수를 구간(epoch)별 Redis sorted set 으로 관리합니다.
+ * 전체, 게시물 타입별, 해시태그별, 게시물 타입 + 해시태그별 sorted set 에 같은 점수를 더하고 각각 상위 max-size 개만 유지합니다.
+ * 구간이 바뀌면 새 key 에 쌓이며, 조회 시 직전 구간 점수를 구간 길이만큼 감쇠시켜 합칩니다. (지난 key 는 TTL 로 삭제)
+ */
+@Repository
+public class TrendingRedisRepository {
+
+    private static final String KEY_PREFIX = "trending:";
+
+    private static final RedisSerializer<String> SERIALIZER = RedisSerializer.string();
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final int maxSize;
+
+    public TrendingRedisRepository(RedisTemplate<String, String> redisTemplate,
+                                   @Value("${socialhub.trending.max-size:1000}") int maxSize) {
+
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 게시물 점수 증가 (한 번의 pipeline 으로 전송)
+     *
+     * @param epoch      점수를 계산한 구간
+     * @param ttl        key 보관 시간 (ms)
+     * @param increments 게시물별 증가분
+     */
+    public void increment(long epoch, long ttl, Collection<Increment> increments) {
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            Set<String> touchedKeys = new LinkedHashSet<>();
+            for (Increment increment : increments) {
+                byte[] member = serialize(String.valueOf(increment.getPostId()));
+                for (String key : keys(epoch, increment.getType(), increment.getHashtags())) {
+                    connection.zSetCommands().zIncrBy(serialize(key), increment.getScore(), member);
+                    touchedKeys.add(key);
+                }
+            }
+
+            for (String key : touchedKeys) {
+                connection.zSetCommands().zRemRange(serialize(key), 0, -(maxSize + 1L));
+                connection.keyCommands().pExpire(serialize(key), ttl);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 점수가 높은 게시물 Id (현재 구간과 직전 구간 점수를 합쳐 내림차순)
+     *
+     * @param epoch          현재 구간
+     * @param previousWeight 직전 구간 점수에 곱할 감쇠 비율
+     * @param type           게시물 타입 (전체면 null)
+     * @param hashtag        해시태그 (전체면 null)
+     * @param size           최대 개수
+     * @return 게시물 Id 목록 (점수 내림차순)
+     */
+    public List<Long> top(long epoch, double previousWeight, PostType type, String hashtag, int size) {
+
+        byte[] currentKey = serialize(key(epoch, type, hashtag));
+        byte[] previousKey = serialize(key(epoch - 1, type, hashtag));
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRevRangeWithScores(currentKey, 0, size - 1);
+            connection.zSetCommands().zRevRangeWithScores(previousKey, 0, size - 1);
+            return null;
+        }, SERIALIZER);
+
+        Map<Long, Double> scores = new HashMap<>();
+        addScores(scores, results.get(0), 1.0);
+        addScores(scores, results.get(1), previousWeight);
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed())
+                .limit(size)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 삭제된 게시물을 현재 구간과 직전 구간에서 제거
+     *
+     * @param epoch    현재 구간
+     * @param postId   게시물 Id
+     * @param type     게시물 타입
+     * @param hashtags 게시물의 해시태그
+     */
+    public void remove(long epoch, Long postId, PostType type, List<String> hashtags) {
+
+        byte[] member = serialize(String.valueOf(postId));
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (long e = epoch - 1; e <= epoch; e++) {
+                for (String key : keys(e, type, hashtags)) {
+                    connection.zSetCommands().zRem(serialize(key), member);
+                }
+            }
+            return null;
+        });
+    }
+
+    // 게시물 점수를 더할 key (전체, 타입, 해시태그, 타입 + 해시태그)
+    private List<String> keys(long epoch, PostType type, List<String> hashtags) {
+
+        List<String> keys = new ArrayList<>();
+        keys.add(key(epoch, null, null));
+        keys.add(key(epoch, type, null));
+        for (String hashtag : hashtags) {
+            keys.add(key(epoch, null, hashtag));
+            keys.add(key(epoch, type, hashtag));
+        }
+        return keys;
+    }
+
+    private String key(long epoch, PostType type, String hashtag) {
+
+        StringBuilder key = new StringBuilder(KEY_PREFIX).append(epoch);
+        if (type == null && hashtag == null) {
+            return key.append(":all").toString();
+        }
+        if (type != null) {
+            key.append(":type:").append(type.name());
+        }
+        if (hashtag != null) {
+            key.append(":hashtag:").append(hashtag);
+        }
+        return key.toString();
+    }
+
+    private void addScores(Map<Long, Double> scores, Object result, double weight) {
+
+        if (!(result instanceof Collection<?> tuples)) {
+            return;
+        }
+        for (Object tuple : tuples) {
+            if (tuple instanceof ZSetOperations.TypedTuple<?> typedTuple && typedTuple.getValue() != null) {
+                double score = typedTuple.getScore() == null ? 0 : typedTuple.getScore() * weight;
+                scores.merge(Long.valueOf(String.valueOf(typedTuple.getValue())), score, Double::sum);
+            }
+        }
+    }
+
+    private static byte[] serialize(String value) {
+
+        return SERIALIZER.serialize(value);
+    }
+
+    /**
+     * 게시물 하나의 점수 증가분
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Increment {
+
+        private final Long postId;
+        private final PostType type;
+        private final List<String> hashtags;
+        private final double score;
+
+    }
+
+}
@@ -0,0 +1,55 @@
+package com.allclear.socialhub.post.common.version;
+
+import com.allclear.socialhub.post.common.event.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 게시물 목록의 버전을 Redis 에 보관합니다. 게시물이 등록/수정/삭제되어 commit 되면 1 증가하며,
+ * 모든 서버가 같은 값을 보므로 목록 응답의 ETag 를 목록 조회 없이 계산할 수 있습니다.
+ * Redis 를 사용할 수 없으면 버전 없이(항상 새로 조회) 응답하고, 증가에 실패한 변경은 ETag 의 시간 구간이 바뀌면 반영됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostListVersion {
+
+    private static final String KEY = "post:version:list";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 현재 목록 버전
+     *
+     * @return 버전 (변경된 적이 없으면 0), Redis 오류면 null
+     */
+    public Long current() {
+
+        try {
+            String version = redisTemplate.opsForValue().get(KEY);
+            return version == null ? 0L : Long.valueOf(version);
+        } catch (RuntimeException e) {
+            log.warn("게시물 목록 버전 조회에 실패하였습니다.", e);
+            return null;
+        }
+    }
+
+    /**
+     * 게시물 변경 이벤트 반영 (commit 후 실행, 트랜잭션 밖에서 발행되면 바로 실행)
+     *
+     * @param event 변경된 게시물
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(PostChangedEvent event) {
+
+        try {
+            redisTemplate.opsForValue().increment(KEY);
+        } catch (RuntimeException e) {
+            log.warn("게시물 목록 버전 갱신에 실패하였습니다. postId : {}", event.getPostId(), e);
+        }
+    }
+
+}
@@ -10,7 +10,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post_view")
+@Table(name = "post_view", indexes = {
+        @Index(name = "idx_post_view_post_created_at", columnList = "post_id, created_at")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,137 @@
+package com.allclear.socialhub.post.common.view.repository;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 게시물별, (해시태그, 시간) 버킷별 순 조회자 수를 Redis HyperLogLog 로 관리합니다.
+ * 조회 건수와 관계없이 key 하나당 최대 12KB 로 고정되며, 오차는 약 0.81% 입니다.
+ */
+@Repository
+public class UniqueViewerRedisRepository {
+
+    private static final String POST_KEY_PREFIX = "hll:post:";
+    private static final String HASHTAG_KEY_PREFIX = "hll:hashtag:";
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
+
+    // 통계 조회 가능 기간(최대 30일)보다 조금 길게 보관
+    private static final Duration HASHTAG_BUCKET_TTL = Duration.ofDays(35);
+
+    // 마지막 조회 후 1년 동안 보관 (조회될 때마다 연장, 게시물 삭제 시 즉시 삭제)
+    private static final Duration POST_TTL = Duration.ofDays(365);
+
+    private static final RedisSerializer<String> SERIALIZER = RedisSerializer.string();
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public UniqueViewerRedisRepository(RedisTemplate<String, String> redisTemplate) {
+
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 게시물과 게시물의 해시태그 시간 버킷에 조회자를 추가하고 게시물의 순 조회자 수를 반환합니다. (한 번의 pipeline 으로 전송)
+     *
+     * @param postId   게시물 Id
+     * @param hashtags 게시물의 해시태그 목록
+     * @param userId   조회한 유저 Id
+     * @param viewedAt 조회 시각
+     * @return 조회자를 추가한 후의 게시물 추정 순 조회자 수
+     */
+    public long addViewer(Long postId, List<String> hashtags, Long userId, LocalDateTime viewedAt) {
+
+        byte[] viewer = serialize(String.valueOf(userId));
+        byte[] postKey = serialize(POST_KEY_PREFIX + postId);
+        String bucket = viewedAt.format(BUCKET_FORMATTER);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hyperLogLogCommands().pfAdd(postKey, viewer);
+            connection.keyCommands().expire(postKey, POST_TTL.getSeconds());
+            if (hashtags != null) {
+                for (String hashtag : hashtags) {
+                    byte[] key = serialize(hashtagKey(hashtag, bucket));
+                    connection.hyperLogLogCommands().pfAdd(key, viewer);
+                    connection.keyCommands().expire(key, HASHTAG_BUCKET_TTL.getSeconds());
+                }
+            }
+            connection.hyperLogLogCommands().pfCount(postKey);
+            return null;
+        });
+
+        Object count = results.get(results.size() - 1);
+        return count == null ? 0L : (Long) count;
+    }
+
+    /**
+     * 게시물별 순 조회자 수 (한 번의 pipeline 으로 조회)
+     *
+     * @param postIds 게시물 Id 목록
+     * @return 게시물 Id 순서대로 추정 순 조회자 수
+     */
+    public List<Long> countPostViewers(List<Long> postIds) {
+
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.hyperLogLogCommands().pfCount(serialize(POST_KEY_PREFIX + postId));
+            }
+            return null;
+        });
+
+        return counts.stream()
+                .map(count -> count == null ? 0L : (Long) count)
+                .toList();
+    }
+
+    /**
+     * 통계 구간별 해시태그 순 조회자 수 (구간에 속한 시간 버킷들의 합집합 크기, 한 번의 pipeline 으로 조회)
+     *
+     * @param hashtag     해시태그
+     * @param hourBuckets 통계 구간별 시간 버킷 목록 (ex. 일자별이면 구간당 24개)
+     * @return 구간별 추정 순 조회자 수
+     */
+    public List<Long> countHashtagViewers(String hashtag, List<List<LocalDateTime>> hourBuckets) {
+
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (List<LocalDateTime> hours : hourBuckets) {
+                byte[][] keys = hours.stream()
+                        .map(hour -> serialize(hashtagKey(hashtag, hour.format(BUCKET_FORMATTER))))
+                        .toArray(byte[][]::new);
+                connection.hyperLogLogCommands().pfCount(keys);
+            }
+            return null;
+        });
+
+        return counts.stream()
+                .map(count -> count == null ? 0L : (Long) count)
+                .toList();
+    }
+
+    /**
+     * 삭제된 게시물의 순 조회자 sketch 삭제
+     *
+     * @param postId 게시물 Id
+     */
+    public void deletePost(Long postId) {
+
+        redisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.keyCommands().del(serialize(POST_KEY_PREFIX + postId)));
+    }
+
+    private String hashtagKey(String hashtag, String bucket) {
+
+        return HASHTAG_KEY_PREFIX + hashtag + ":" + bucket;
+    }
+
+    private static byte[] serialize(String value) {
+
+        return SERIALIZER.serialize(value);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.allclear.socialhub.post.controller;
+
+import com.allclear.socialhub.auth.dto.UserDetailsImpl;
+import com.allclear.socialhub.post.common.hashtag.service.HashtagService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/hashtags")
+@Tag(name = "Hashtag", description = "해시태그 API")
+public class HashtagController {
+
+    private final HashtagService hashtagService;
+
+    @Operation(summary = "해시태그 자동완성", description = "접두어로 시작하는 해시태그를 사용 횟수가 많은 순으로 조회합니다. (최대 10개)")
+    @GetMapping("/suggest")
+    public ResponseEntity<List<String>> suggest(
+            @RequestParam("prefix") String prefix,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+
+        return ResponseEntity.status(200).body(hashtagService.suggestHashtags(prefix, size));
+    }
+
+    @Operation(summary = "해시태그 구독", description = "해시태그를 구독합니다. 구독한 해시태그의 게시물은 피드에 추가됩니다.")
+    @PostMapping("/{hashtag}/subscription")
+    public ResponseEntity<String> subscribe(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable("hashtag") String hashtag) {
+
+        hashtagService.subscribe(userDetails.getUsername(), hashtag);
+        return ResponseEntity.status(200).body("구독되었습니다.");
+    }
+
+    @Operation(summary = "해시태그 구독 취소", description = "해시태그 구독을 취소합니다.")
+    @DeleteMapping("/{hashtag}/subscription")
+    public ResponseEntity<String> unsubscribe(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable("hashtag") String hashtag) {
+
+        hashtagService.unsubscribe(userDetails.getUsername(), hashtag);
+        return ResponseEntity.status(200).body("구독이 취소되었습니다.");
+    }
+
+}
@@ -2,6 +2,7 @@ package com.allclear.socialhub.post.controller;
 
 import com.allclear.socialhub.auth.dto.UserDetailsImpl;
 import com.allclear.socialhub.auth.util.AccessTokenUtil;
+import com.allclear.socialhub.post.common.export.PostExportFormat;
 import com.allclear.socialhub.post.common.like.dto.PostLikeResponse;
 import com.allclear.socialhub.post.common.share.dto.PostShareResponse;
 import com.allclear.socialhub.post.domain.PostType;
@@ -14,9 +15,17 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -58,7 +67,7 @@ public class PostController {
         return ResponseEntity.status(200).body("성공적으로 삭제되었습니다.");
     }
 
-    @Operation(summary = "게시물 검색 목록 조회", description = "게시물 검색 목록을 조회합니다.")
+    @Operation(summary = "게시물 검색 목록 조회", description = "게시물 검색 목록을 조회합니다. hashtag 에는 해시태그 하나 또는 검색식(ex. #ootd AND #summer NOT #ad)을 전달할 수 있습니다. orderBy=relevance 이면 검색어 관련도순으로 정렬하고, withTotal=false 이면 전체 건수 없이 다음 페이지 여부만 반환합니다.")
     @GetMapping("/search")
     public ResponseEntity<PostPaging> searchPosts(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
@@ -68,31 +77,139 @@ public class PostController {
             @RequestParam(value = "query", required = false, defaultValue = "") String query,
             @RequestParam(value = "orderBy", required = false, defaultValue = "created_at") String orderBy,
             @RequestParam(value = "sort", required = false, defaultValue = "desc") String sort,
+            @RequestParam(value = "searchBy", required = false, defaultValue = "title") String searchBy,
+            @RequestParam(value = "withTotal", required = false, defaultValue = "true") boolean withTotal) {
+
+        String username = userDetails.getUsername();
+
+        return ResponseEntity.status(200)
+                .body(postService.searchPosts(pageable, username, hashtag, type, query, orderBy, sort, searchBy, withTotal));
+    }
+
+    @Operation(summary = "게시물 검색 목록 조회 (cursor)",
+            description = "after 파라미터가 있으면 cursor 방식으로 조회합니다. 첫 페이지는 빈 값, 다음 페이지는 응답의 nextCursor 를 전달합니다.")
+    @GetMapping(value = "/search", params = "after")
+    public ResponseEntity<PostCursorPaging> searchPostsByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "after") String after,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size,
+            @RequestParam(value = "hashtag", required = false) String hashtag,
+            @RequestParam(value = "type", required = false) PostType type,
+            @RequestParam(value = "query", required = false, defaultValue = "") String query,
+            @RequestParam(value = "orderBy", required = false, defaultValue = "created_at") String orderBy,
+            @RequestParam(value = "sort", required = false, defaultValue = "desc") String sort,
+            @RequestParam(value = "searchBy", required = false, defaultValue = "title") String searchBy) {
+
+        String username = userDetails.getUsername();
+
+        return ResponseEntity.status(200)
+                .body(postService.searchPostsByCursor(after, size, username, hashtag, type, query, orderBy, sort, searchBy));
+    }
+
+    @Operation(summary = "게시물 검색 결과 내보내기",
+            description = "검색 조건에 맞는 모든 게시물을 NDJSON(게시물당 JSON 한 줄) 또는 CSV 로 내려받습니다. 전체 건수 없이 조회하는 대로 전송하며, orderBy=relevance 는 ID 순으로 내보냅니다.")
+    @GetMapping("/search/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "format", required = false, defaultValue = "NDJSON") PostExportFormat format,
+            @RequestParam(value = "hashtag", required = false) String hashtag,
+            @RequestParam(value = "type", required = false) PostType type,
+            @RequestParam(value = "query", required = false, defaultValue = "") String query,
+            @RequestParam(value = "orderBy", required = false, defaultValue = "created_at") String orderBy,
+            @RequestParam(value = "sort", required = false, defaultValue = "desc") String sort,
             @RequestParam(value = "searchBy", required = false, defaultValue = "title") String searchBy) {
 
         String username = userDetails.getUsername();
+        StreamingResponseBody body = postService.exportPosts(format, username, hashtag, type, query, orderBy, sort, searchBy);
 
         return ResponseEntity.status(200)
-                .body(postService.searchPosts(pageable, username, hashtag, type, query, orderBy, sort, searchBy));
+                .contentType(MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts." + format.getExtension() + "\"")
+                .body(body);
     }
 
-    @Operation(summary = "게시물 목록 조회", description = "게시물 목록을 조회합니다.")
+    @Operation(summary = "게시물 목록 조회", description = "게시물 목록을 조회합니다. withTotal=false 이면 전체 건수 없이 다음 페이지 여부만 반환합니다. 응답의 ETag 를 If-None-Match 로 전달하면 게시물이 등록/수정/삭제되지 않은 경우 본문 없이 304 를 반환합니다. (좋아요/조회/공유 수는 최대 10초 이전 값)")
     @GetMapping
     public ResponseEntity<PostPaging> getPosts(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @PageableDefault Pageable pageable) {
+            @PageableDefault Pageable pageable,
+            @RequestParam(value = "withTotal", required = false, defaultValue = "true") boolean withTotal,
+            WebRequest webRequest) {
 
-        return ResponseEntity.status(200).body(postService.getPosts(pageable));
+        String username = userDetails.getUsername();
+
+        // checkNotModified 가 ETag 헤더를 설정하고, If-None-Match 와 같으면 true
+        PostPaging posts = postService.getPosts(pageable, username, withTotal, webRequest::checkNotModified);
+        if (posts == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.status(200).cacheControl(CacheControl.noCache().cachePrivate()).body(posts);
+    }
+
+    @Operation(summary = "게시물 목록 조회 (cursor)",
+            description = "after 파라미터가 있으면 cursor 방식으로 조회합니다. 첫 페이지는 빈 값, 다음 페이지는 응답의 nextCursor 를 전달합니다.")
+    @GetMapping(params = "after")
+    public ResponseEntity<PostCursorPaging> getPostsByCursor(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "after") String after,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size) {
+
+        String username = userDetails.getUsername();
+        return ResponseEntity.status(200).body(postService.getPostsByCursor(after, size, username));
+    }
+
+    @Operation(summary = "피드 조회",
+            description = "내 게시물과 구독한 해시태그의 게시물을 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor 를 after 로 전달합니다.")
+    @GetMapping("/feed")
+    public ResponseEntity<PostCursorPaging> getFeed(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "after", required = false) String after,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size) {
+
+        String username = userDetails.getUsername();
+        return ResponseEntity.status(200).body(postService.getFeed(after, size, username));
+    }
+
+    @Operation(summary = "인기 게시물 조회",
+            description = "최근 조회/좋아요/공유가 많은 게시물을 조회합니다. type, hashtag 로 범위를 좁힐 수 있습니다. (최대 100개)")
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostListResponse>> getTrendingPosts(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "type", required = false) PostType type,
+            @RequestParam(value = "hashtag", required = false) String hashtag,
+            @RequestParam(value = "size", required = false, defaultValue = "10") int size) {
+
+        String username = userDetails.getUsername();
+        return ResponseEntity.status(200).body(postService.getTrendingPosts(type, hashtag, size, username));
+    }
+
+    @Operation(summary = "게시물 여러 건 조회",
+            description = "ids 로 전달한 게시물(최대 100개)을 요청 순서대로 조회합니다. 존재하지 않는 게시물은 제외하며, recordView=false 이면 조회로 기록하지 않습니다.")
+    @GetMapping("/batch")
+    public ResponseEntity<List<PostDetailResponse>> getPostDetails(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @RequestParam(value = "ids") List<Long> ids,
+            @RequestParam(value = "recordView", required = false, defaultValue = "true") boolean recordView) {
+
+        String username = userDetails.getUsername();
+        return ResponseEntity.status(200).body(postService.getPostDetails(ids, username, recordView));
     }
 
     @GetMapping("/{postId}")
-    @Operation(summary = "게시물 상세 조회", description = "게시물 상세를 조회합니다.")
+    @Operation(summary = "게시물 상세 조회", description = "게시물 상세를 조회합니다. 응답의 ETag 를 If-None-Match 로 전달하면 변경되지 않은 경우 본문 없이 304 를 반환합니다. (조회수, 순 조회자 수는 포함되지 않은 weak ETag)")
     public ResponseEntity<PostDetailResponse> getPostDetail(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @PathVariable("postId") Long postId) {
+            @PathVariable("postId") Long postId,
+            WebRequest webRequest) {
 
         String username = userDetails.getUsername();
-        return ResponseEntity.status(200).body(postService.getPostDetail(postId, username));
+
+        // checkNotModified 가 ETag 헤더를 설정하고, If-None-Match 와 같으면 true
+        PostDetailResponse postDetailResponse = postService.getPostDetail(postId, username, webRequest::checkNotModified);
+        if (postDetailResponse == null) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        return ResponseEntity.status(200).cacheControl(CacheControl.noCache().cachePrivate()).body(postDetailResponse);
     }
 
     @Operation(summary = "게시물 좋아요", description = "게시물 좋아요를 추가합니다.")
@@ -105,6 +222,16 @@ public class PostController {
         return ResponseEntity.status(201).body(postService.likePost(postId, username));
     }
 
+    @Operation(summary = "게시물 좋아요 취소", description = "게시물 좋아요를 취소합니다.")
+    @DeleteMapping("/like/{postId}")
+    public ResponseEntity<PostLikeResponse> unlikePost(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable("postId") Long postId) {
+
+        String username = userDetails.getUsername();
+        return ResponseEntity.status(200).body(postService.unlikePost(postId, username));
+    }
+
     @Operation(summary = "게시물 공유", description = "게시물 공유를 추가합니다.")
     @PostMapping("/share/{postId}")
     public ResponseEntity<PostShareResponse> sharePost(
@@ -42,7 +42,7 @@ public class StatisticController {
 			@ApiResponse(responseCode = "200", description = "통계 일자별, 시간별 데이터 조회됨",
 					content = @Content(mediaType = "application/json")),
 			@ApiResponse(responseCode = "400", description = "type 이 date, hour 가 아닐 경우\n\n" +
-					"value 가 count, view_count, like_count, share_count 가 아닐 경우\n\n" +
+					"value 가 count, view_count, like_count, share_count, unique_view_count 가 아닐 경우\n\n" +
 					"날짜 형식이 yyyy-MM-DD로 파싱 불가능한 경우\n\n" +
 					"end 가 오늘보다 미래일 경우\n\n" +
 					"start, end 가 올바른 날짜가 아닐 경우  ex. 23-02-31\n\n" +
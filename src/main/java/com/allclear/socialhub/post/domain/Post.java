@@ -9,7 +9,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_user_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_post_type_created_at", columnList = "type, created_at"),
+        @Index(name = "idx_post_created_at", columnList = "created_at"),
+        @Index(name = "idx_post_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_post_like_cnt", columnList = "like_cnt"),
+        @Index(name = "idx_post_share_cnt", columnList = "share_cnt"),
+        @Index(name = "idx_post_view_cnt", columnList = "view_cnt")
+})
 @Getter
 @Builder
 @NoArgsConstructor
@@ -34,13 +42,14 @@ public class Post extends Timestamped {
     @Enumerated(EnumType.STRING)
     private PostType type;
 
-    @Column(nullable = false)
+    // 카운터는 EngagementCounterBuffer 의 batch UPDATE 로만 증가시키므로 엔티티 UPDATE 대상에서 제외
+    @Column(nullable = false, updatable = false)
     private int viewCnt;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int likeCnt;
 
-    @Column(nullable = false)
+    @Column(nullable = false, updatable = false)
     private int shareCnt;
 
     public void update(Post updatePost) {
@@ -49,19 +58,4 @@ public class Post extends Timestamped {
         this.content = updatePost.getContent();
     }
 
-    public void updateLikeCnt(Post post) {
-
-        this.likeCnt = post.getLikeCnt() + 1;
-    }
-
-    public void updateShareCnt(Post post) {
-
-        this.shareCnt = post.getShareCnt() + 1;
-    }
-
-    public void updateViewCnt(Post post) {
-
-        this.viewCnt = post.getViewCnt() + 1;
-    }
-
 }
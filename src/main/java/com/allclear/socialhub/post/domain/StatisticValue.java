@@ -10,6 +10,7 @@ public enum StatisticValue {
     COUNT,
     VIEW_COUNT,
     LIKE_COUNT,
-    SHARE_COUNT;
+    SHARE_COUNT,
+    UNIQUE_VIEW_COUNT;
     
 }
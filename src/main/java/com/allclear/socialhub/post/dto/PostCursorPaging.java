@@ -0,0 +1,20 @@
+package com.allclear.socialhub.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostCursorPaging {
+
+    private List<PostListResponse> postList = new ArrayList<>();
+    private int pageSize;
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 after 로 전달 (마지막 페이지면 null)
+
+}
@@ -23,6 +23,7 @@ public class PostDetailResponse {
     private int viewCnt;
     private int likeCnt;
     private int shareCnt;
+    private Long uniqueViewCnt; // 순 조회자 수 (HyperLogLog 추정값, Redis 를 사용할 수 없으면 null)
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
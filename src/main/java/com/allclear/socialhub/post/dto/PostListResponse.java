@@ -9,7 +9,7 @@ import java.util.List;
 
 @Getter
 @Setter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostListResponse {
@@ -22,6 +22,7 @@ public class PostListResponse {
     private int viewCnt;
     private int likeCnt;
     private int shareCnt;
+    private boolean likedByMe;
 
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
@@ -1,23 +1,35 @@
 package com.allclear.socialhub.post.dto;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @NoArgsConstructor
-@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PostPaging {
 
-    private int postCnt;
+    private Integer postCnt; // withTotal=false 이면 null (응답에서 제외)
     private List<?> postList = new ArrayList<>();
     private int pageSize;
     private int page;
-    private int totalPage;
+    private Integer totalPage; // withTotal=false 이면 null (응답에서 제외)
+    private boolean hasNext;
+
+    public PostPaging(int postCnt, List<?> postList, int pageSize, int page, int totalPage) {
+
+        this.postCnt = postCnt;
+        this.postList = postList;
+        this.pageSize = pageSize;
+        this.page = page;
+        this.totalPage = totalPage;
+        this.hasNext = page + 1 < totalPage;
+    }
 
     public PostPaging(Page<?> pageList) {
 
@@ -26,6 +38,26 @@ public class PostPaging {
         this.pageSize = pageList.getSize();
         this.page = pageList.getPageable().getPageNumber();
         this.totalPage = pageList.getTotalPages();
+        this.hasNext = pageList.hasNext();
+    }
+
+    public PostPaging(Slice<?> slice) {
+
+        this.postList = slice.getContent();
+        this.pageSize = slice.getSize();
+        this.page = slice.getPageable().getPageNumber();
+        this.hasNext = slice.hasNext();
+    }
+
+    // 페이지 정보는 그대로 두고 목록만 바꾼 복사본
+    public PostPaging(PostPaging source, List<?> postList) {
+
+        this.postCnt = source.postCnt;
+        this.postList = postList;
+        this.pageSize = source.pageSize;
+        this.page = source.page;
+        this.totalPage = source.totalPage;
+        this.hasNext = source.hasNext;
     }
 
 }
@@ -1,5 +1,6 @@
 package com.allclear.socialhub.post.repository;
 
+import com.allclear.socialhub.post.common.response.PostVersion;
 import com.allclear.socialhub.post.common.response.StatisticQueryResponse;
 import com.allclear.socialhub.post.domain.Post;
 import com.allclear.socialhub.post.repository.querydsl.PostRepositoryQuerydsl;
@@ -9,6 +10,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long>, PostRepositoryQuerydsl {
 
@@ -24,4 +26,10 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
             @Param("end") LocalDate end,
             @Param("dateFormatPattern") String dateFormatPattern);
 
+    // 상세 응답의 ETag 계산용 값 (본문, 해시태그 내용은 읽지 않음)
+    @Query("SELECT p.type AS type, p.updatedAt AS updatedAt, p.likeCnt AS likeCnt, p.shareCnt AS shareCnt " +
+            "FROM Post AS p " +
+            "WHERE p.id = :postId")
+    Optional<PostVersion> findVersionById(@Param("postId") Long postId);
+
 }
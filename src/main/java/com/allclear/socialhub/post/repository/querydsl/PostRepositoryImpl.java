@@ -1,127 +1,259 @@
 package com.allclear.socialhub.post.repository.querydsl;
 
-import com.allclear.socialhub.post.common.hashtag.domain.QHashtag;
-import com.allclear.socialhub.post.common.hashtag.domain.QPostHashtag;
-import com.allclear.socialhub.post.domain.Post;
+import com.allclear.socialhub.post.common.cursor.PostCursor;
+import com.allclear.socialhub.post.common.hashtag.expression.HashtagExpression;
+import com.allclear.socialhub.post.common.hashtag.index.HashtagPostIndex;
+import com.allclear.socialhub.post.common.hashtag.repository.PostHashtagRepository;
+import com.allclear.socialhub.post.common.readmodel.PostReadModelProjector;
+import com.allclear.socialhub.post.common.readmodel.domain.PostReadModel;
+import com.allclear.socialhub.post.common.search.FulltextQuery;
+import com.allclear.socialhub.post.common.search.PostSearchBackend;
+import com.allclear.socialhub.post.common.search.PostSearchIndex;
 import com.allclear.socialhub.post.domain.PostType;
 import com.allclear.socialhub.post.domain.QPost;
 import com.allclear.socialhub.post.domain.SearchByType;
+import com.allclear.socialhub.post.dto.PostCursorPaging;
 import com.allclear.socialhub.post.dto.PostDetailResponse;
 import com.allclear.socialhub.post.dto.PostListResponse;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.QBean;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.DateTimePath;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static com.allclear.socialhub.post.common.hashtag.domain.QHashtag.hashtag;
 import static com.allclear.socialhub.post.common.hashtag.domain.QPostHashtag.postHashtag;
+import static com.allclear.socialhub.post.common.readmodel.domain.QPostReadModel.postReadModel;
 import static com.allclear.socialhub.post.domain.QPost.post;
 
 @Slf4j
 public class PostRepositoryImpl implements PostRepositoryQuerydsl {
 
+    private static final String ESTIMATE_COUNT_SQL = "SELECT TABLE_ROWS FROM information_schema.TABLES " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'post'";
+
+    private static final NumberExpression<Long> WINDOW_COUNT = Expressions.numberTemplate(Long.class, "count(*) over()");
+
+    private static final long ESTIMATE_REFRESH_INTERVAL = 10 * 60 * 1000L;
+
+    private static final int CONTENT_PREVIEW_LENGTH = 20;
+
+    // 목록 조회 projection (엔티티를 영속성 컨텍스트에 올리지 않고, 본문은 DB 에서 20자로 잘라 조회)
+    private static final QBean<PostListResponse> POST_LIST = Projections.bean(
+            PostListResponse.class,
+            post.id.as("postId"),
+            post.type,
+            post.title,
+            post.content.substring(0, CONTENT_PREVIEW_LENGTH).as("content"),
+            post.viewCnt,
+            post.likeCnt,
+            post.shareCnt,
+            post.createdAt,
+            post.updatedAt
+    );
+
+    // 내보내기 projection (목록과 같은 컬럼이지만 본문은 전체를 조회, 20자로 자르는 setter 를 거치지 않도록 field 에 직접 설정)
+    private static final QBean<PostListResponse> POST_EXPORT = Projections.fields(
+            PostListResponse.class,
+            post.id.as("postId"),
+            post.type,
+            post.title,
+            post.content,
+            post.viewCnt,
+            post.likeCnt,
+            post.shareCnt,
+            post.createdAt,
+            post.updatedAt
+    );
+
+    // 상세 조회 projection (해시태그는 따로 조회)
+    private static final ConstructorExpression<PostDetailResponse> POST_DETAIL = Projections.constructor(
+            PostDetailResponse.class,
+            post.id.as("postId"),
+            post.user.id,
+            post.type,
+            post.title,
+            post.content,
+            post.viewCnt,
+            post.likeCnt,
+            post.shareCnt,
+            post.createdAt,
+            post.updatedAt
+    );
+
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
-
-    public PostRepositoryImpl(EntityManager em) {
-
+    private final PostHashtagRepository postHashtagRepository;
+    private final PostSearchIndex postSearchIndex;
+    private final HashtagPostIndex hashtagPostIndex;
+    private final PostReadModelProjector postReadModelProjector;
+    private final int hashtagMaxInList;
+    private final PostSearchBackend searchBackend;
+    private final long fulltextMinRows;
+
+    private volatile long estimatedRows;
+    private volatile long estimatedAt;
+
+    public PostRepositoryImpl(EntityManager em,
+                              PostHashtagRepository postHashtagRepository,
+                              ObjectProvider<PostSearchIndex> postSearchIndexProvider,
+                              ObjectProvider<HashtagPostIndex> hashtagPostIndexProvider,
+                              ObjectProvider<PostReadModelProjector> postReadModelProjectorProvider,
+                              @Value("${socialhub.hashtag.index.max-in-list:10000}") int hashtagMaxInList,
+                              @Value("${socialhub.post.search.backend:FULLTEXT}") PostSearchBackend searchBackend,
+                              @Value("${socialhub.post.search.fulltext-min-rows:10000}") long fulltextMinRows) {
+
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
+        this.postHashtagRepository = postHashtagRepository;
+        this.postSearchIndex = postSearchIndexProvider.getIfAvailable();
+        this.hashtagPostIndex = hashtagPostIndexProvider.getIfAvailable();
+        this.postReadModelProjector = postReadModelProjectorProvider.getIfAvailable();
+        this.hashtagMaxInList = hashtagMaxInList;
+        this.searchBackend = searchBackend;
+        this.fulltextMinRows = fulltextMinRows;
     }
 
-    // 게시물 목록 조회
-    public Page<PostListResponse> getPosts(Pageable pageable) {
+    // 게시물 목록 조회 (전체 게시물 수는 호출 측에서 cache 또는 추정치로 전달)
+    public Page<PostListResponse> getPosts(Pageable pageable, long total) {
 
-        QPost post = QPost.post;
-        QHashtag hashtag = QHashtag.hashtag;
-        QPostHashtag postHashtag = QPostHashtag.postHashtag;
-
-        List<PostListResponse> postList = queryFactory
-                .select(
-                        Projections.bean(
-                                PostListResponse.class,
-                                post.id.as("postId"),
-                                post.type,
-                                post.title,
-                                post.content,
-                                post.viewCnt,
-                                post.likeCnt,
-                                post.shareCnt,
-                                post.createdAt,
-                                post.updatedAt
-                        )
-                )
-                .from(post)
-                .leftJoin(postHashtag).on(postHashtag.post.id.eq(post.id))
-                .leftJoin(hashtag).on(hashtag.id.eq(postHashtag.hashtag.id))
-                .groupBy(post.id)
+        if (useReadModel(null)) {
+            List<PostListResponse> postList = toReadModelResponses(selectReadModelList()
+                    .orderBy(postReadModel.postId.desc())
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch());
+            return new PageImpl<>(postList, pageable, total);
+        }
+
+        List<PostListResponse> postList = selectPostList()
                 .orderBy(post.id.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
-                .fetch()
-                .stream()
-                .map(postListResponse -> {
-                    List<String> hashtagList = queryFactory
-                            .select(hashtag.content)
-                            .from(postHashtag)
-                            .join(hashtag).on(hashtag.id.eq(postHashtag.hashtag.id))
-                            .where(postHashtag.post.id.eq(postListResponse.getPostId()))
-                            .fetch();
-                    postListResponse.setHashtagList(hashtagList);
-
-                    return postListResponse;
-                })
-                .collect(Collectors.toList());
-
-        long total = queryFactory
-                .selectFrom(post)
-                .fetchCount();
+                .fetch();
+        applyHashtags(postList);
 
         return new PageImpl<>(postList, pageable, total);
     }
 
+    // 게시물 목록 조회 (전체 게시물 수 없이 다음 페이지 여부만 확인)
+    public Slice<PostListResponse> getPostSlice(Pageable pageable) {
+
+        if (useReadModel(null)) {
+            return toSlice(toReadModelResponses(selectReadModelList()
+                    .orderBy(postReadModel.postId.desc())
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize() + 1)
+                    .fetch()), pageable);
+        }
+
+        List<PostListResponse> postList = selectPostList()
+                .orderBy(post.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1)
+                .fetch();
+
+        Slice<PostListResponse> slice = toSlice(postList, pageable);
+        applyHashtags(slice.getContent());
+
+        return slice;
+    }
+
+    // 전체 게시물 수
+    public long countPosts() {
+
+        Long total = queryFactory
+                .select(post.count())
+                .from(post)
+                .fetchOne();
+
+        return total == null ? 0L : total;
+    }
+
+    // 테이블 통계 기반 전체 게시물 수 추정치 (InnoDB 통계이므로 정확하지 않음)
+    public long estimatePostCount() {
+
+        Object rows = em.createNativeQuery(ESTIMATE_COUNT_SQL).getSingleResult();
+        return rows == null ? 0L : ((Number) rows).longValue();
+    }
+
+    // 게시물 목록 조회 (cursor 페이징, ID 내림차순)
+    public PostCursorPaging getPostsByCursor(PostCursor after, int size) {
+
+        if (useReadModel(null)) {
+            JPAQuery<Tuple> query = selectReadModelList()
+                    .orderBy(postReadModel.postId.desc())
+                    .limit(size + 1);
+            if (after != null) {
+                query.where(postReadModel.postId.lt(after.getId()));
+            }
+            return toCursorPaging(toReadModelResponses(query.fetch()), size, "id", "desc");
+        }
+
+        JPAQuery<PostListResponse> query = selectPostList()
+                .orderBy(post.id.desc())
+                .limit(size + 1);
+        if (after != null) {
+            query.where(post.id.lt(after.getId()));
+        }
+
+        PostCursorPaging paging = toCursorPaging(query.fetch(), size, "id", "desc");
+        applyHashtags(paging.getPostList());
+
+        return paging;
+    }
+
+    // 게시물 Id 목록 순서대로 목록 조회 (삭제된 게시물은 제외)
+    public List<PostListResponse> getPostsByIds(List<Long> postIds) {
+
+        return findPostsInOrder(postIds);
+    }
+
     // 게시물 상세 조회
     public PostDetailResponse getPostDetail(Long postId, String username) {
 
         QPost post = QPost.post;
-        QHashtag hashtag = QHashtag.hashtag;
-        QPostHashtag postHashtag = QPostHashtag.postHashtag;
 
         // 1. PostDetailResponse 쿼리 실행
         PostDetailResponse postDetailResponse = queryFactory
-                .select(
-                        Projections.constructor(
-                                PostDetailResponse.class,
-                                post.id.as("postId"),
-                                post.user.id,
-                                post.type,
-                                post.title,
-                                post.content,
-                                post.viewCnt,
-                                post.likeCnt,
-                                post.shareCnt,
-                                post.createdAt,
-                                post.updatedAt
-                        )
-                )
+                .select(POST_DETAIL)
                 .from(post)
                 .where(post.id.eq(postId))
                 .fetchOne();
 
+        if (postDetailResponse == null) {
+            return null;
+        }
+
         // 2. 해시태그 리스트 쿼리 실행
-        List<String> hashtagList = queryFactory
-                .select(hashtag.content)
-                .from(postHashtag)
-                .join(hashtag).on(hashtag.id.eq(postHashtag.hashtag.id))
-                .where(postHashtag.post.id.eq(postId))
-                .fetch();
+        List<String> hashtagList = postHashtagRepository.findHashtagContentsByPostIds(List.of(postId)).get(postId);
 
         // 3. PostDetailResponse 에 해시태그 리스트 저장
         postDetailResponse.setHashtagList(hashtagList);
@@ -129,48 +261,207 @@ public class PostRepositoryImpl implements PostRepositoryQuerydsl {
         return postDetailResponse;
     }
 
-    public Page<PostListResponse> searchPosts(Pageable pageable, String username, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy) {
+    // 게시물 Id 목록 순서대로 상세 조회 (게시물과 해시태그를 각각 IN 쿼리 한 번으로 조회, 삭제된 게시물은 제외)
+    public List<PostDetailResponse> getPostDetails(List<Long> postIds) {
+
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostDetailResponse> postsById = queryFactory
+                .select(POST_DETAIL)
+                .from(post)
+                .where(post.id.in(postIds))
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(PostDetailResponse::getPostId, Function.identity()));
+
+        Map<Long, List<String>> hashtagsByPostId = postHashtagRepository.findHashtagContentsByPostIds(new ArrayList<>(postsById.keySet()));
+        postsById.values().forEach(postDetailResponse -> postDetailResponse.setHashtagList(hashtagsByPostId.get(postDetailResponse.getPostId())));
+
+        return postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 게시물 검색 (total 이 없으면 COUNT(*) OVER() 로 페이지 조회와 함께 전체 건수 계산)
+    public Page<PostListResponse> searchPosts(Pageable pageable, String username, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy, Long total) {
+
+        // 해시태그 검색식만으로 조회하면 건수는 bitmap 에서 계산 (ID 순이면 페이지의 게시물 Id 도 bitmap 에서 계산)
+        HashtagExpression.PostIdSet hashtagOnlyPostIds = hashtagOnlyPostIds(hashtagQuery, type, query);
+        if (hashtagOnlyPostIds != null) {
+            if (isIdDescOrder(orderBy)) {
+                List<Long> pageIds = hashtagOnlyPostIds.pageDescending(pageable.getOffset(), pageable.getPageSize());
+                return new PageImpl<>(findPostsInOrder(pageIds), pageable, hashtagOnlyPostIds.cardinality());
+            }
+            if (total == null) {
+                total = hashtagOnlyPostIds.cardinality();
+            }
+        }
+
+        // 검색어가 없으면 읽기 모델 한 테이블에서 조회
+        if (useReadModel(query)) {
+            return searchReadModel(pageable, username, hashtagQuery, type, orderBy, sort, total);
+        }
+
+        // 인메모리 색인으로 찾은 게시물을 관련도순으로 조회하면 해당 페이지의 row 만 조회
+        PostSearchIndex.Hits hits = indexSearch(query, searchBy);
+        if (hits != null && "relevance".equals(orderBy)) {
+            List<Long> postIds = rankedPostIds(hits, username, hashtagQuery, type, searchBy);
+            List<Long> pageIds = subList(postIds, pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(findPostsInOrder(pageIds), pageable, postIds.size());
+        }
 
         // 기본 쿼리 설정을 위한 메소드 호출
-        JPAQuery<Post> queryBase = buildBaseQuery(username, hashtagQuery, type, query, searchBy);
+        JPAQuery<?> queryBase = buildBaseQuery(authorIs(username), hashtagQuery, type, query, searchBy, hits);
 
         // 정렬 조건 설정
-        OrderSpecifier<?> orderSpecifier = getOrderSpecifier(orderBy, sort);
-        queryBase.orderBy(orderSpecifier);
+        queryBase.orderBy(getOrderSpecifiers(orderBy, sort, query, searchBy));
 
         // 페이징 및 데이터 조회
-        List<Post> posts = queryBase
+        List<PostListResponse> postList;
+        long totalCount;
+        if (total != null) {
+            postList = queryBase
+                    .select(POST_LIST)
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch();
+            totalCount = total;
+        } else {
+            List<Tuple> rows = queryBase
+                    .select(POST_LIST, WINDOW_COUNT)
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize())
+                    .fetch();
+            postList = rows.stream().map(row -> row.get(POST_LIST)).toList();
+
+            // 마지막 페이지를 넘어 조회된 row 가 없으면 전체 건수를 따로 조회
+            totalCount = rows.isEmpty()
+                    ? countSearchPosts(username, hashtagQuery, type, query, searchBy)
+                    : rows.get(0).get(WINDOW_COUNT);
+        }
+
+        // 페이지의 해시태그 설정
+        applyHashtags(postList);
+
+        // 결과를 Page 형태로 반환
+        return new PageImpl<>(postList, pageable, totalCount);
+    }
+
+    // 게시물 검색 (전체 건수 없이 다음 페이지 여부만 확인)
+    public Slice<PostListResponse> searchPostSlice(Pageable pageable, String username, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy) {
+
+        // 해시태그 검색식만으로 ID 순 조회하면 페이지의 게시물 Id 를 bitmap 에서 계산
+        HashtagExpression.PostIdSet hashtagOnlyPostIds = hashtagOnlyPostIds(hashtagQuery, type, query);
+        if (hashtagOnlyPostIds != null && isIdDescOrder(orderBy)) {
+            List<Long> pageIds = hashtagOnlyPostIds.pageDescending(pageable.getOffset(), pageable.getPageSize() + 1);
+            boolean hasNext = pageIds.size() > pageable.getPageSize();
+            List<Long> content = hasNext ? pageIds.subList(0, pageable.getPageSize()) : pageIds;
+            return new SliceImpl<>(findPostsInOrder(content), pageable, hasNext);
+        }
+
+        // 검색어가 없으면 읽기 모델 한 테이블에서 조회
+        if (useReadModel(query)) {
+            return toSlice(toReadModelResponses(buildReadModelQuery(username, hashtagQuery, type)
+                    .select(readModelColumns())
+                    .orderBy(getReadModelOrderSpecifiers(orderBy, sort))
+                    .offset(pageable.getOffset())
+                    .limit(pageable.getPageSize() + 1)
+                    .fetch()), pageable);
+        }
+
+        PostSearchIndex.Hits hits = indexSearch(query, searchBy);
+        if (hits != null && "relevance".equals(orderBy)) {
+            List<Long> postIds = rankedPostIds(hits, username, hashtagQuery, type, searchBy);
+            List<Long> pageIds = subList(postIds, pageable.getOffset(), pageable.getPageSize());
+            boolean hasNext = pageable.getOffset() + pageIds.size() < postIds.size();
+            return new SliceImpl<>(findPostsInOrder(pageIds), pageable, hasNext);
+        }
+
+        List<PostListResponse> postList = buildBaseQuery(authorIs(username), hashtagQuery, type, query, searchBy, hits)
+                .select(POST_LIST)
+                .orderBy(getOrderSpecifiers(orderBy, sort, query, searchBy))
                 .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .limit(pageable.getPageSize() + 1)
                 .fetch();
 
-        // Post 엔티티를 PostListResponse로 변환
-        List<PostListResponse> postList = posts.stream()
-                .map(this::mapToPostListResponse)
-                .collect(Collectors.toList());
+        Slice<PostListResponse> slice = toSlice(postList, pageable);
+        applyHashtags(slice.getContent());
 
-        // 총 게시물 수 조회
-        long total = queryBase.fetchCount();
+        return slice;
+    }
 
-        // 결과를 Page 형태로 반환
-        return new PageImpl<>(postList, pageable, total);
+    // 검색 조건에 맞는 전체 게시물 수
+    public long countSearchPosts(String username, String hashtagQuery, PostType type, String query, String searchBy) {
+
+        // 해시태그 검색식만으로 조회하면 bitmap 의 게시물 수
+        HashtagExpression.PostIdSet hashtagOnlyPostIds = hashtagOnlyPostIds(hashtagQuery, type, query);
+        if (hashtagOnlyPostIds != null) {
+            return hashtagOnlyPostIds.cardinality();
+        }
+
+        Long total = useReadModel(query)
+                ? buildReadModelQuery(username, hashtagQuery, type).select(postReadModel.count()).fetchOne()
+                : buildBaseQuery(authorIs(username), hashtagQuery, type, query, searchBy, indexSearch(query, searchBy)).select(post.count()).fetchOne();
+
+        return total == null ? 0L : total;
     }
 
-    // 기본 쿼리 설정 메소드 (해당 게시물에서 조건 필터링 진행)
-    private JPAQuery<Post> buildBaseQuery(String username, String hashtagQuery, PostType type, String query, String searchBy) {
+    // 게시물 검색 (cursor 페이징, offset 없이 마지막 정렬 값 이후부터 조회)
+    // 작성자는 호출 측에서 한 번 확인한 유저 Id 로 받아 chunk 마다 유저를 다시 조회하지 않음
+    public PostCursorPaging searchPostsByCursor(PostCursor after, int size, Long userId, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy) {
 
-        JPAQuery<Post> queryBase = queryFactory
-                .selectFrom(post)
-                .leftJoin(postHashtag).on(postHashtag.post.id.eq(post.id))
-                .leftJoin(hashtag).on(hashtag.id.eq(postHashtag.hashtag.id))
-                .distinct();
+        return searchPostsByCursor(POST_LIST, after, size, userId, hashtagQuery, type, query, orderBy, sort, searchBy);
+    }
 
-        // 해시태그 필터 적용
-        if (hashtagQuery != null && !hashtagQuery.isEmpty()) {
-            queryBase.where(hashtag.content.eq(hashtagQuery));
-        } else if (username != null && !username.isEmpty()) {
-            // 해시태그가 없으면 username으로 검색
-            queryBase.where(post.user.username.eq(username));
+    // 게시물 내보내기 (cursor 검색과 같은 조건/순서로 조회하되 본문은 자르지 않음)
+    public PostCursorPaging exportPostsByCursor(PostCursor after, int size, Long userId, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy) {
+
+        return searchPostsByCursor(POST_EXPORT, after, size, userId, hashtagQuery, type, query, orderBy, sort, searchBy);
+    }
+
+    private PostCursorPaging searchPostsByCursor(QBean<PostListResponse> projection, PostCursor after, int size, Long userId, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy) {
+
+        JPAQuery<?> queryBase = buildBaseQuery(authorIs(userId), hashtagQuery, type, query, searchBy, indexSearch(query, searchBy));
+        if (after != null) {
+            queryBase.where(afterCursor(after));
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<PostListResponse> postList = queryBase
+                .select(projection)
+                .orderBy(getOrderSpecifiers(orderBy, sort, query, searchBy))
+                .limit(size + 1)
+                .fetch();
+
+        PostCursorPaging paging = toCursorPaging(postList, size, orderBy, sort);
+        applyHashtags(paging.getPostList());
+
+        return paging;
+    }
+
+    // 기본 쿼리 설정 메소드 (해당 게시물에서 조건 필터링 진행, 조회 대상은 호출 측에서 select 로 지정)
+    // user 는 username 으로 작성자를 거를 때만 join
+    private JPAQuery<?> buildBaseQuery(BooleanExpression author, String hashtagQuery, PostType type, String query, String searchBy, PostSearchIndex.Hits hits) {
+
+        JPAQuery<?> queryBase = queryFactory
+                .from(post);
+
+        // 해시태그 검색식 필터 적용 (인덱스가 있으면 bitmap 으로 계산한 게시물 Id 로 거르고, 텍스트 색인 결과와는 메모리에서 교집합)
+        HashtagExpression hashtagExpression = HashtagExpression.parse(hashtagQuery);
+        HashtagExpression.PostIdSet hashtagPostIds = hashtagPostIds(hashtagExpression);
+        if (hashtagPostIds != null && hits != null) {
+            hits = hits.filter(hashtagPostIds::contains);
+        } else if (hashtagPostIds != null && hashtagPostIds.cardinality() <= hashtagMaxInList) {
+            queryBase.where(postIdFilter(post.id, hashtagPostIds));
+        } else if (hashtagExpression != null) {
+            // 인덱스가 없거나 게시물이 너무 많으면 해시태그마다 EXISTS semi-join 을 조합 (join 없이 게시물당 한 row 유지)
+            queryBase.where(hashtagExpression.toPredicate(this::hashtagExists));
+        } else if (author != null) {
+            // 해시태그가 없으면 작성자로 검색
+            queryBase.where(author);
         }
 
         // 게시물 타입 필터 적용
@@ -179,17 +470,42 @@ public class PostRepositoryImpl implements PostRepositoryQuerydsl {
         }
 
         // 검색 필터 적용 (searchBy에 따라 title 또는 content에서 검색, 미입력 시 title과 content 모두에서 검색)
-        applySearchFilter(queryBase, query, searchBy);
+        applySearchFilter(queryBase, query, searchBy, hits);
 
         return queryBase;
     }
 
+    // 작성자 조건 (username 이 없으면 조건 없음)
+    private BooleanExpression authorIs(String username) {
+
+        return username == null || username.isEmpty() ? null : post.user.username.eq(username);
+    }
+
+    // 작성자 조건 (유저 Id 로 비교하므로 user join 이 필요 없음)
+    private BooleanExpression authorIs(Long userId) {
+
+        return userId == null ? null : post.user.id.eq(userId);
+    }
+
     // 검색 필터 적용 메소드
-    private void applySearchFilter(JPAQuery<Post> queryBase, String query, String searchBy) {
+    private void applySearchFilter(JPAQuery<?> queryBase, String query, String searchBy, PostSearchIndex.Hits hits) {
 
         log.info("searchBy : {}", searchBy);
         EnumSet<SearchByType> searchByTypes = SearchByType.fromString(searchBy);
 
+        // 인메모리 색인에서 찾은 게시물 ID 로만 필터링 (DB 에서는 텍스트 검색을 하지 않음)
+        if (hits != null) {
+            queryBase.where(hits.size() == 0 ? post.id.isNull() : post.id.in(hits.getPostIds()));
+            return;
+        }
+
+        // FULLTEXT index 로 검색할 수 있으면 MATCH ... AGAINST 사용 (검색 범위마다 일치해야 함)
+        List<NumberExpression<Double>> matches = fulltextMatches(query, searchByTypes);
+        if (!matches.isEmpty()) {
+            matches.forEach(match -> queryBase.where(match.gt(0)));
+            return;
+        }
+
         if (searchByTypes.isEmpty()) {
             queryBase.where(post.title.containsIgnoreCase(query)
                     .or(post.content.containsIgnoreCase(query)));
@@ -204,52 +520,358 @@ public class PostRepositoryImpl implements PostRepositoryQuerydsl {
         }
     }
 
-    // 정렬 조건 설정 메소드
-    private OrderSpecifier<?> getOrderSpecifier(String orderBy, String sort) {
+    // 인메모리 색인 검색 (INDEX 가 아니거나 색인을 사용할 수 없으면 null 이고 FULLTEXT/LIKE 로 검색)
+    private PostSearchIndex.Hits indexSearch(String query, String searchBy) {
+
+        // JPA slice test 처럼 색인 bean 이 없는 경우도 DB 로 검색
+        if (searchBackend != PostSearchBackend.INDEX || postSearchIndex == null) {
+            return null;
+        }
+        return postSearchIndex.search(query, SearchByType.fromString(searchBy));
+    }
+
+    // 색인 검색 결과 중 나머지 조건(해시태그, 작성자, 타입)에 맞는 게시물 ID 를 관련도순으로 정렬
+    private List<Long> rankedPostIds(PostSearchIndex.Hits hits, String username, String hashtagQuery, PostType type, String searchBy) {
+
+        List<Long> postIds = new ArrayList<>(buildBaseQuery(authorIs(username), hashtagQuery, type, null, searchBy, hits)
+                .select(post.id)
+                .fetch());
+        postIds.sort(hits.byRelevance());
+        return postIds;
+    }
+
+    private List<Long> subList(List<Long> postIds, long offset, int size) {
+
+        int from = (int) Math.min(offset, postIds.size());
+        return postIds.subList(from, Math.min(from + size, postIds.size()));
+    }
+
+    // 해시태그 검색식을 인덱스로 계산 (검색식이 없거나 인덱스를 사용할 수 없으면 null)
+    private HashtagExpression.PostIdSet hashtagPostIds(HashtagExpression expression) {
+
+        if (expression == null || hashtagPostIndex == null) {
+            return null;
+        }
+        return expression.evaluate(hashtagPostIndex::postIds);
+    }
+
+    // 해시태그 검색식 외의 조건이 없을 때 인덱스로 계산한 게시물 Id 집합 (NOT 만 남아 전체 게시물이 필요하면 null)
+    private HashtagExpression.PostIdSet hashtagOnlyPostIds(String hashtagQuery, PostType type, String query) {
+
+        if (type != null || (query != null && !query.isEmpty())) {
+            return null;
+        }
+
+        HashtagExpression.PostIdSet postIds = hashtagPostIds(HashtagExpression.parse(hashtagQuery));
+        return postIds == null || postIds.isNegated() ? null : postIds;
+    }
+
+    // 게시물 Id 집합 조건 (여집합이면 NOT IN, 빈 여집합이면 조건 없음)
+    private BooleanExpression postIdFilter(NumberPath<Long> id, HashtagExpression.PostIdSet postIds) {
+
+        if (postIds.cardinality() == 0) {
+            return postIds.isNegated() ? null : id.isNull();
+        }
+        return postIds.isNegated() ? id.notIn(postIds.toList()) : id.in(postIds.toList());
+    }
+
+    // 해시태그 하나의 EXISTS semi-join 조건
+    private BooleanExpression hashtagExists(String content) {
+
+        return JPAExpressions
+                .selectOne()
+                .from(postHashtag)
+                .join(hashtag).on(hashtag.id.eq(postHashtag.hashtag.id))
+                .where(postHashtag.post.id.eq(post.id), hashtag.content.eq(content))
+                .exists();
+    }
+
+    // 정렬 조건이 기본 정렬(ID 내림차순)인지 여부
+    private boolean isIdDescOrder(String orderBy) {
+
+        return !List.of("created_at", "updated_at", "like_count", "share_count", "view_count", "relevance").contains(orderBy);
+    }
+
+    // ID 순서를 유지하여 게시물 조회 (해시태그 포함)
+    private List<PostListResponse> findPostsInOrder(List<Long> postIds) {
+
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        // 읽기 모델이면 해시태그까지 한 번에 조회
+        boolean readModel = useReadModel(null);
+        List<PostListResponse> rows = readModel
+                ? toReadModelResponses(selectReadModelList().where(postReadModel.postId.in(postIds)).fetch())
+                : selectPostList().where(post.id.in(postIds)).fetch();
+        Map<Long, PostListResponse> postsById = rows.stream()
+                .collect(Collectors.toMap(PostListResponse::getPostId, Function.identity()));
+
+        List<PostListResponse> postList = postIds.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+        if (!readModel) {
+            applyHashtags(postList);
+        }
+
+        return postList;
+    }
+
+    // 읽기 모델에서 조회할 수 있는지 여부 (제목/내용 검색어가 있으면 원본 테이블에서 검색)
+    private boolean useReadModel(String query) {
+
+        return postReadModelProjector != null && postReadModelProjector.isReady()
+                && (query == null || query.isEmpty());
+    }
+
+    // 읽기 모델 검색 (total 이 없으면 COUNT(*) OVER() 로 페이지 조회와 함께 전체 건수 계산)
+    private Page<PostListResponse> searchReadModel(Pageable pageable, String username, String hashtagQuery, PostType type, String orderBy, String sort, Long total) {
+
+        JPAQuery<?> queryBase = buildReadModelQuery(username, hashtagQuery, type)
+                .orderBy(getReadModelOrderSpecifiers(orderBy, sort))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+
+        if (total != null) {
+            return new PageImpl<>(toReadModelResponses(queryBase.select(readModelColumns()).fetch()), pageable, total);
+        }
+
+        List<Tuple> rows = queryBase.select(readModelColumns(WINDOW_COUNT)).fetch();
+        long totalCount = rows.isEmpty()
+                ? countSearchPosts(username, hashtagQuery, type, null, null)
+                : rows.get(0).get(WINDOW_COUNT);
+
+        return new PageImpl<>(toReadModelResponses(rows), pageable, totalCount);
+    }
+
+    // 읽기 모델 기본 쿼리 (해시태그 검색식, 작성자, 타입 조건)
+    private JPAQuery<?> buildReadModelQuery(String username, String hashtagQuery, PostType type) {
+
+        JPAQuery<?> queryBase = queryFactory
+                .from(postReadModel);
+
+        // 해시태그 검색식 필터 적용 (인덱스가 있으면 bitmap 으로 계산한 게시물 Id, 없으면 hashtags 컬럼에서 검색)
+        HashtagExpression hashtagExpression = HashtagExpression.parse(hashtagQuery);
+        HashtagExpression.PostIdSet hashtagPostIds = hashtagPostIds(hashtagExpression);
+        if (hashtagPostIds != null && hashtagPostIds.cardinality() <= hashtagMaxInList) {
+            queryBase.where(postIdFilter(postReadModel.postId, hashtagPostIds));
+        } else if (hashtagExpression != null) {
+            queryBase.where(hashtagExpression.toPredicate(
+                    content -> postReadModel.hashtags.contains(PostReadModel.hashtagToken(content))));
+        } else if (username != null && !username.isEmpty()) {
+            queryBase.where(postReadModel.username.eq(username));
+        }
+
+        if (type != null) {
+            queryBase.where(postReadModel.type.eq(type));
+        }
+
+        return queryBase;
+    }
+
+    // 읽기 모델 정렬 조건 (같은 정렬 값이면 ID 로 순서 고정, 검색어가 없으므로 관련도순은 기본 정렬)
+    private OrderSpecifier<?>[] getReadModelOrderSpecifiers(String orderBy, String sort) {
+
+        boolean asc = "asc".equalsIgnoreCase(sort);
+        OrderSpecifier<Long> tieBreaker = asc ? postReadModel.postId.asc() : postReadModel.postId.desc();
 
         switch (orderBy) {
             case "created_at":
-                return "asc".equalsIgnoreCase(sort) ? post.createdAt.asc() : post.createdAt.desc();
+                return new OrderSpecifier<?>[]{asc ? postReadModel.createdAt.asc() : postReadModel.createdAt.desc(), tieBreaker};
             case "updated_at":
-                return "asc".equalsIgnoreCase(sort) ? post.updatedAt.asc() : post.updatedAt.desc();
+                return new OrderSpecifier<?>[]{asc ? postReadModel.updatedAt.asc() : postReadModel.updatedAt.desc(), tieBreaker};
             case "like_count":
-                return "asc".equalsIgnoreCase(sort) ? post.likeCnt.asc() : post.likeCnt.desc();
+                return new OrderSpecifier<?>[]{asc ? postReadModel.likeCnt.asc() : postReadModel.likeCnt.desc(), tieBreaker};
             case "share_count":
-                return "asc".equalsIgnoreCase(sort) ? post.shareCnt.asc() : post.shareCnt.desc();
+                return new OrderSpecifier<?>[]{asc ? postReadModel.shareCnt.asc() : postReadModel.shareCnt.desc(), tieBreaker};
             case "view_count":
-                return "asc".equalsIgnoreCase(sort) ? post.viewCnt.asc() : post.viewCnt.desc();
+                return new OrderSpecifier<?>[]{asc ? postReadModel.viewCnt.asc() : postReadModel.viewCnt.desc(), tieBreaker};
             default:
-                return post.id.desc(); // 기본 정렬: Id 내림차순
+                return new OrderSpecifier<?>[]{postReadModel.postId.desc()};
         }
     }
 
-    // Post 엔티티를 PostListResponse로 변환하는 메소드
-    private PostListResponse mapToPostListResponse(Post postEntity) {
+    // 읽기 모델 목록 조회
+    private JPAQuery<Tuple> selectReadModelList() {
 
-        List<String> hashtags = queryFactory
-                .select(hashtag.content)
-                .from(postHashtag)
-                .join(hashtag).on(hashtag.id.eq(postHashtag.hashtag.id))
-                .where(postHashtag.post.id.eq(postEntity.getId()))
-                .fetch();
+        return queryFactory
+                .select(readModelColumns())
+                .from(postReadModel);
+    }
+
+    // 읽기 모델 목록 조회 컬럼 (+ 추가 컬럼)
+    private Expression<?>[] readModelColumns(Expression<?>... extra) {
+
+        List<Expression<?>> columns = new ArrayList<>(List.of(
+                postReadModel.postId,
+                postReadModel.type,
+                postReadModel.title,
+                postReadModel.excerpt,
+                postReadModel.viewCnt,
+                postReadModel.likeCnt,
+                postReadModel.shareCnt,
+                postReadModel.hashtags,
+                postReadModel.createdAt,
+                postReadModel.updatedAt));
+        columns.addAll(List.of(extra));
+        return columns.toArray(new Expression<?>[0]);
+    }
+
+    // 읽기 모델 row 를 PostListResponse 로 변환 (해시태그 포함)
+    private List<PostListResponse> toReadModelResponses(List<Tuple> rows) {
+
+        return rows.stream()
+                .map(row -> PostListResponse.builder()
+                        .postId(row.get(postReadModel.postId))
+                        .type(row.get(postReadModel.type))
+                        .title(row.get(postReadModel.title))
+                        .content(row.get(postReadModel.excerpt))
+                        .viewCnt(row.get(postReadModel.viewCnt))
+                        .likeCnt(row.get(postReadModel.likeCnt))
+                        .shareCnt(row.get(postReadModel.shareCnt))
+                        .hashtagList(PostReadModel.splitHashtags(row.get(postReadModel.hashtags)))
+                        .createdAt(row.get(postReadModel.createdAt))
+                        .updatedAt(row.get(postReadModel.updatedAt))
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    // FULLTEXT 검색 조건 (검색 범위별 MATCH ... AGAINST, FULLTEXT 를 사용할 수 없으면 빈 리스트)
+    private List<NumberExpression<Double>> fulltextMatches(String query, EnumSet<SearchByType> searchByTypes) {
+
+        String booleanQuery = useFulltext() ? FulltextQuery.toBooleanQuery(query) : null;
+        if (booleanQuery == null) {
+            return List.of();
+        }
+
+        if (searchByTypes.isEmpty()) {
+            return List.of(Expressions.numberTemplate(Double.class, "match_against_2({0}, {1}, {2})",
+                    post.title, post.content, booleanQuery));
+        }
+
+        List<NumberExpression<Double>> matches = new ArrayList<>();
+        if (searchByTypes.contains(SearchByType.TITLE)) {
+            matches.add(Expressions.numberTemplate(Double.class, "match_against({0}, {1})", post.title, booleanQuery));
+        }
+        if (searchByTypes.contains(SearchByType.CONTENT)) {
+            matches.add(Expressions.numberTemplate(Double.class, "match_against({0}, {1})", post.content, booleanQuery));
+        }
+        return matches;
+    }
+
+    // 게시물 수가 fulltext-min-rows 이상일 때만 FULLTEXT 검색 사용 (INDEX 는 색인을 사용할 수 없을 때 대신 사용, 추정치는 10분마다 갱신)
+    private boolean useFulltext() {
+
+        if (searchBackend == PostSearchBackend.LIKE) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - estimatedAt > ESTIMATE_REFRESH_INTERVAL) {
+            estimatedRows = estimatePostCount();
+            estimatedAt = now;
+        }
+        return estimatedRows >= fulltextMinRows;
+    }
+
+    // 정렬 조건 설정 메소드 (같은 정렬 값이면 ID 로 순서 고정)
+    private OrderSpecifier<?>[] getOrderSpecifiers(String orderBy, String sort, String query, String searchBy) {
+
+        boolean asc = "asc".equalsIgnoreCase(sort);
+        OrderSpecifier<Long> tieBreaker = asc ? post.id.asc() : post.id.desc();
+
+        // 검색어 관련도순 (FULLTEXT 검색일 때만, 아니면 기본 정렬)
+        if ("relevance".equals(orderBy)) {
+            List<NumberExpression<Double>> matches = fulltextMatches(query, SearchByType.fromString(searchBy));
+            if (matches.isEmpty()) {
+                return new OrderSpecifier<?>[]{post.id.desc()};
+            }
+            NumberExpression<Double> relevance = matches.stream().reduce((left, right) -> left.add(right)).orElseThrow();
+            return new OrderSpecifier<?>[]{relevance.desc(), post.id.desc()};
+        }
+
+        switch (orderBy) {
+            case "created_at":
+                return new OrderSpecifier<?>[]{asc ? post.createdAt.asc() : post.createdAt.desc(), tieBreaker};
+            case "updated_at":
+                return new OrderSpecifier<?>[]{asc ? post.updatedAt.asc() : post.updatedAt.desc(), tieBreaker};
+            case "like_count":
+                return new OrderSpecifier<?>[]{asc ? post.likeCnt.asc() : post.likeCnt.desc(), tieBreaker};
+            case "share_count":
+                return new OrderSpecifier<?>[]{asc ? post.shareCnt.asc() : post.shareCnt.desc(), tieBreaker};
+            case "view_count":
+                return new OrderSpecifier<?>[]{asc ? post.viewCnt.asc() : post.viewCnt.desc(), tieBreaker};
+            default:
+                return new OrderSpecifier<?>[]{post.id.desc()}; // 기본 정렬: Id 내림차순
+        }
+    }
+
+    // cursor 이후 조건 (정렬 값이 같으면 ID 로 비교)
+    private BooleanExpression afterCursor(PostCursor cursor) {
+
+        boolean asc = cursor.isAsc();
+        BooleanExpression idAfter = asc ? post.id.gt(cursor.getId()) : post.id.lt(cursor.getId());
+
+        switch (cursor.getOrderBy()) {
+            case "created_at":
+                return keyset(post.createdAt, cursor.getDateTimeKey(), idAfter, asc);
+            case "updated_at":
+                return keyset(post.updatedAt, cursor.getDateTimeKey(), idAfter, asc);
+            case "like_count":
+                return keyset(post.likeCnt, cursor.getCountKey(), idAfter, asc);
+            case "share_count":
+                return keyset(post.shareCnt, cursor.getCountKey(), idAfter, asc);
+            case "view_count":
+                return keyset(post.viewCnt, cursor.getCountKey(), idAfter, asc);
+            default:
+                return post.id.lt(cursor.getId());
+        }
+    }
+
+    private BooleanExpression keyset(DateTimePath<LocalDateTime> path, LocalDateTime value, BooleanExpression idAfter, boolean asc) {
+
+        return (asc ? path.gt(value) : path.lt(value)).or(path.eq(value).and(idAfter));
+    }
+
+    private BooleanExpression keyset(NumberPath<Integer> path, int value, BooleanExpression idAfter, boolean asc) {
+
+        return (asc ? path.gt(value) : path.lt(value)).or(path.eq(value).and(idAfter));
+    }
+
+    // pageSize + 1 건 조회 결과로 Slice 생성
+    private <T> Slice<T> toSlice(List<T> content, Pageable pageable) {
+
+        boolean hasNext = content.size() > pageable.getPageSize();
+        List<T> page = hasNext ? new ArrayList<>(content.subList(0, pageable.getPageSize())) : content;
+
+        return new SliceImpl<>(page, pageable, hasNext);
+    }
+
+    // 목록 조회 projection
+    private JPAQuery<PostListResponse> selectPostList() {
+
+        return queryFactory
+                .select(POST_LIST)
+                .from(post);
+    }
+
+    // 페이지의 해시태그를 한 번에 조회하여 설정
+    private void applyHashtags(List<PostListResponse> postList) {
+
+        Map<Long, List<String>> hashtagsByPostId = postHashtagRepository.findHashtagContentsByPostIds(
+                postList.stream().map(PostListResponse::getPostId).toList());
+        postList.forEach(postListResponse -> postListResponse.setHashtagList(hashtagsByPostId.get(postListResponse.getPostId())));
+    }
+
+    // size + 1 건 조회 결과로 다음 페이지 여부와 cursor 생성
+    private PostCursorPaging toCursorPaging(List<PostListResponse> postList, int size, String orderBy, String sort) {
+
+        boolean hasNext = postList.size() > size;
+        List<PostListResponse> page = hasNext ? new ArrayList<>(postList.subList(0, size)) : postList;
 
-        // content 값을 20자로 제한
-        String truncatedContent = postEntity.getContent().length() > 20
-                ? postEntity.getContent().substring(0, 20)
-                : postEntity.getContent();
-
-        return PostListResponse.builder()
-                .postId(postEntity.getId())
-                .type(postEntity.getType())
-                .title(postEntity.getTitle())
-                .content(truncatedContent)
-                .viewCnt(postEntity.getViewCnt())
-                .likeCnt(postEntity.getLikeCnt())
-                .shareCnt(postEntity.getShareCnt())
-                .createdAt(postEntity.getCreatedAt())
-                .updatedAt(postEntity.getUpdatedAt())
-                .hashtagList(hashtags)
-                .build();
+        String nextCursor = hasNext ? PostCursor.of(orderBy, sort, page.get(page.size() - 1)).encode() : null;
+        return new PostCursorPaging(page, size, hasNext, nextCursor);
     }
 
 }
@@ -1,17 +1,42 @@
 package com.allclear.socialhub.post.repository.querydsl;
 
+import com.allclear.socialhub.post.common.cursor.PostCursor;
 import com.allclear.socialhub.post.domain.PostType;
+import com.allclear.socialhub.post.dto.PostCursorPaging;
 import com.allclear.socialhub.post.dto.PostDetailResponse;
 import com.allclear.socialhub.post.dto.PostListResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
 
 public interface PostRepositoryQuerydsl {
 
-    Page<PostListResponse> getPosts(Pageable pageable);
+    Page<PostListResponse> getPosts(Pageable pageable, long total);
+
+    Slice<PostListResponse> getPostSlice(Pageable pageable);
+
+    long countPosts();
+
+    long estimatePostCount();
+
+    PostCursorPaging getPostsByCursor(PostCursor after, int size);
+
+    List<PostListResponse> getPostsByIds(List<Long> postIds);
 
     PostDetailResponse getPostDetail(Long postId, String username);
 
-    Page<PostListResponse> searchPosts(Pageable pageable, String username, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy);
+    List<PostDetailResponse> getPostDetails(List<Long> postIds);
+
+    Page<PostListResponse> searchPosts(Pageable pageable, String username, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy, Long total);
+
+    Slice<PostListResponse> searchPostSlice(Pageable pageable, String username, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy);
+
+    long countSearchPosts(String username, String hashtagQuery, PostType type, String query, String searchBy);
+
+    PostCursorPaging searchPostsByCursor(PostCursor after, int size, Long userId, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy);
+
+    PostCursorPaging exportPostsByCursor(PostCursor after, int size, Long userId, String hashtagQuery, PostType type, String query, String orderBy, String sort, String searchBy);
 
 }
@@ -1,11 +1,16 @@
 package com.allclear.socialhub.post.service;
 
+import com.allclear.socialhub.post.common.export.PostExportFormat;
 import com.allclear.socialhub.post.common.like.dto.PostLikeResponse;
 import com.allclear.socialhub.post.common.share.dto.PostShareResponse;
 import com.allclear.socialhub.post.domain.PostType;
 import com.allclear.socialhub.post.dto.*;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
+import java.util.function.Predicate;
 
 @Service
 public interface PostService {
@@ -16,14 +21,32 @@ public interface PostService {
 
     void deletePost(String username, Long postId);
 
-    PostPaging searchPosts(Pageable pageable, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy);
+    PostPaging searchPosts(Pageable pageable, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy, boolean withTotal);
+
+    PostCursorPaging searchPostsByCursor(String after, int size, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy);
+
+    StreamingResponseBody exportPosts(PostExportFormat format, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy);
+
+    PostPaging getPosts(Pageable pageable, String username, boolean withTotal);
+
+    PostPaging getPosts(Pageable pageable, String username, boolean withTotal, Predicate<String> notModified);
 
-    PostPaging getPosts(Pageable pageable);
+    PostCursorPaging getPostsByCursor(String after, int size, String username);
+
+    PostCursorPaging getFeed(String after, int size, String username);
+
+    List<PostListResponse> getTrendingPosts(PostType type, String hashtag, int size, String username);
 
     PostLikeResponse likePost(Long postId, String username);
 
+    PostLikeResponse unlikePost(Long postId, String username);
+
     PostShareResponse sharePost(Long postId, String username);
 
     PostDetailResponse getPostDetail(Long postId, String username);
 
+    PostDetailResponse getPostDetail(Long postId, String username, Predicate<String> notModified);
+
+    List<PostDetailResponse> getPostDetails(List<Long> postIds, String username, boolean recordView);
+
 }
@@ -1,38 +1,62 @@
 package com.allclear.socialhub.post.service;
 
 import com.allclear.socialhub.common.exception.CustomException;
+import com.allclear.socialhub.common.util.ETagUtil;
+import com.allclear.socialhub.post.common.count.PostCountCache;
+import com.allclear.socialhub.post.common.cursor.PostCursor;
+import com.allclear.socialhub.post.common.engagement.EngagementCounterBuffer;
+import com.allclear.socialhub.post.common.engagement.EngagementEvent;
+import com.allclear.socialhub.post.common.engagement.EngagementEventPipeline;
+import com.allclear.socialhub.post.common.engagement.EngagementType;
+import com.allclear.socialhub.post.common.event.PostChangedEvent;
+import com.allclear.socialhub.post.common.event.PostCreatedEvent;
+import com.allclear.socialhub.post.common.export.PostExportFormat;
+import com.allclear.socialhub.post.common.export.PostExportWriter;
+import com.allclear.socialhub.post.common.feed.repository.FeedRedisRepository;
 import com.allclear.socialhub.post.common.hashtag.domain.Hashtag;
 import com.allclear.socialhub.post.common.hashtag.domain.PostHashtag;
+import com.allclear.socialhub.post.common.hashtag.expression.HashtagExpression;
 import com.allclear.socialhub.post.common.hashtag.repository.PostHashtagRepository;
 import com.allclear.socialhub.post.common.hashtag.service.HashtagService;
-import com.allclear.socialhub.post.common.like.domain.PostLike;
 import com.allclear.socialhub.post.common.like.dto.PostLikeResponse;
+import com.allclear.socialhub.post.common.like.index.PostLikeIndex;
 import com.allclear.socialhub.post.common.like.repository.PostLikeRepository;
-import com.allclear.socialhub.post.common.share.domain.PostShare;
+import com.allclear.socialhub.post.common.response.PostVersion;
+import com.allclear.socialhub.post.common.search.PostSearchCache;
+import com.allclear.socialhub.post.common.search.PostSearchIndex;
 import com.allclear.socialhub.post.common.share.dto.PostShareResponse;
+import com.allclear.socialhub.post.common.sns.SnsDispatcher;
+import com.allclear.socialhub.post.common.trending.TrendingRanking;
+import com.allclear.socialhub.post.common.version.PostListVersion;
 import com.allclear.socialhub.post.common.share.repository.PostShareRepository;
-import com.allclear.socialhub.post.common.view.domain.PostView;
 import com.allclear.socialhub.post.common.view.repository.PostViewRepository;
+import com.allclear.socialhub.post.common.view.repository.UniqueViewerRedisRepository;
 import com.allclear.socialhub.post.domain.Post;
 import com.allclear.socialhub.post.domain.PostType;
 import com.allclear.socialhub.post.dto.*;
 import com.allclear.socialhub.post.repository.PostRepository;
 import com.allclear.socialhub.user.domain.User;
 import com.allclear.socialhub.user.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import static com.allclear.socialhub.common.exception.ErrorCode.*;
+import static com.allclear.socialhub.common.util.TransactionUtil.afterCommit;
 
 @Service
 @RequiredArgsConstructor
@@ -46,6 +70,31 @@ public class PostServiceImpl implements PostService {
     private final PostLikeRepository postLikeRepository;
     private final PostShareRepository postShareRepository;
     private final PostViewRepository postViewRepository;
+    private final EngagementCounterBuffer engagementCounterBuffer;
+    private final EngagementEventPipeline engagementEventPipeline;
+    private final UniqueViewerRedisRepository uniqueViewerRedisRepository;
+    private final PostLikeIndex postLikeIndex;
+    private final SnsDispatcher snsDispatcher;
+    private final PostCountCache postCountCache;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSearchCache postSearchCache;
+    private final FeedRedisRepository feedRedisRepository;
+    private final TrendingRanking trendingRanking;
+    private final PostListVersion postListVersion;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+
+    @Value("${socialhub.post.count.estimate-threshold:1000000}")
+    private long estimateThreshold;
+
+    @Value("${socialhub.post.export.chunk-size:1000}")
+    private int exportChunkSize;
+
+    @Value("${socialhub.post.etag.list-ttl:10000}")
+    private long listETagTtl;
+
+    @Value("${socialhub.post.batch.max-size:100}")
+    private int batchMaxSize;
 
     /**
      * 1. 게시물 등록
@@ -62,13 +111,25 @@ public class PostServiceImpl implements PostService {
 
         // 1. 게시물 등록
         Post post = postRepository.save(createRequest.toEntity(user));
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
 
         // 2. 해시태그 등록
         List<String> cleanedHashtagList = hashtagService.removeHashSymbol(createRequest.getHashtagList());
         List<Hashtag> savedHashtags = hashtagService.createHashtag(cleanedHashtagList);
 
         // 3. 연관관계 등록
-        savePostHashtag(post, savedHashtags);
+        hashtagService.createPostHashtag(post, savedHashtags);
+
+        // 4. 작성자와 해시태그 구독자의 피드에 추가 (commit 후 FeedFanOutWorker 에서 처리)
+        eventPublisher.publishEvent(new PostCreatedEvent(post.getId(), user.getId(),
+                savedHashtags.stream().map(Hashtag::getId).distinct().toList()));
+
+        // 5. 목록/검색 전체 건수 cache 와 영향을 받는 검색 결과 cache 삭제, 검색 색인 반영 (commit 전 값이 다시 cache 되지 않도록 commit 후 삭제)
+        afterCommit(() -> {
+            postCountCache.invalidateAll();
+            postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+            postSearchCache.invalidate(post.getType(), cleanedHashtagList);
+        });
 
         return PostResponse.fromEntity(post, createRequest.getHashtagList());
     }
@@ -95,12 +156,20 @@ public class PostServiceImpl implements PostService {
 
         Post updatePost = updateRequest.toEntity();
         post.update(updatePost);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+
+        // 수정 전 해시태그 (검색 결과 cache 삭제 대상)
+        List<String> previousHashtags = postHashtagRepository.findHashtagContentsByPostIds(List.of(postId)).get(postId);
 
         // 2. 해시태그 수정
         List<Hashtag> savedHashtags = hashtagService.updateHashtag(postId, updateRequest.getHashtagList());
 
         // 3. 연관관계 수정
-        savePostHashtag(post, savedHashtags);
+        hashtagService.createPostHashtag(post, savedHashtags);
+        afterCommit(() -> {
+            postCountCache.invalidateAll();
+            postSearchIndex.index(post.getId(), post.getTitle(), post.getContent());
+        });
 
         // 4. 수정된 hashtagList 반환
         List<String> updatedHashtagList = new ArrayList<>();
@@ -111,6 +180,10 @@ public class PostServiceImpl implements PostService {
             updatedHashtagList.add("#" + postHashtag.getHashtag().getContent());
         }
 
+        List<String> changedHashtags = new ArrayList<>(previousHashtags);
+        changedHashtags.addAll(updatedHashtagList);
+        afterCommit(() -> postSearchCache.invalidate(post.getType(), changedHashtags));
+
         return PostResponse.fromEntity(post, updatedHashtagList);
     }
 
@@ -130,7 +203,8 @@ public class PostServiceImpl implements PostService {
         Post post = postCheck(postId);
         if (!post.getUser().getUsername().equals(username)) throw new CustomException(POST_OWNER_MISMATCH);
 
-        // 해시태그 연관관계 삭제
+        // 해시태그 연관관계 삭제 (삭제 전 해시태그는 검색 결과 cache 삭제에 사용)
+        List<String> hashtags = postHashtagRepository.findHashtagContentsByPostIds(List.of(postId)).get(postId);
         hashtagService.deleteByPostId(postId);
         // 게시물 좋아요 삭제
         postLikeRepository.deleteAllByPostId(postId);
@@ -138,8 +212,28 @@ public class PostServiceImpl implements PostService {
         postShareRepository.deleteAllByPostId(postId);
         // 게시물 조회수 삭제
         postViewRepository.deleteAllByPostId(postId);
+        // 반영 대기 중인 카운터, 좋아요 인덱스 폐기
+        engagementCounterBuffer.discard(postId);
+        postLikeIndex.discard(postId);
         // 게시물 삭제
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        afterCommit(() -> {
+            postCountCache.invalidateAll();
+            postSearchIndex.remove(postId);
+            postSearchCache.invalidate(post.getType(), hashtags);
+            // 순 조회자 sketch 삭제 (남아 있어도 TTL 이 지나면 삭제됨)
+            try {
+                uniqueViewerRedisRepository.deletePost(postId);
+            } catch (RuntimeException e) {
+                log.warn("순 조회자 sketch 를 삭제하지 못했습니다. postId : {}", postId, e);
+            }
+            try {
+                trendingRanking.discard(postId, post.getType(), hashtags);
+            } catch (RuntimeException e) {
+                log.warn("인기 게시물 순위에서 삭제하지 못했습니다. postId : {}", postId, e);
+            }
+        });
 
     }
 
@@ -149,18 +243,121 @@ public class PostServiceImpl implements PostService {
      *
      * @param pageable Pagination 요청 정보 관련 인터페이스
      * @param username 유저 계정이름
-     * @param hashtag  검색할 hashtag
+     * @param hashtag  검색할 hashtag 또는 해시태그 검색식 (ex. #ootd AND #summer NOT #ad)
      * @param type     게시물 타입 ("INSTAGRAM", "FACEBOOK", "TWITTER", "THREADS" 만 가능)
      * @param query    검색할 query
      * @param orderBy  정렬기준
      * @param sort     순서
      * @param searchBy 검색 범위 ("TITLE", "CONTENT", "TITLE, CONTENT"만 가능)
+     * @param withTotal 전체 건수 포함 여부 (false 면 다음 페이지 여부만 반환)
      * @return 페이징 처리가 된 검색 결과에 맞는 목록 반환
      */
     @Override
-    public PostPaging searchPosts(Pageable pageable, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy) {
+    public PostPaging searchPosts(Pageable pageable, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy, boolean withTotal) {
+
+        // 1. 같은 조건의 검색 결과가 있으면 재사용
+        PostSearchCache.Key cacheKey = PostSearchCache.Key.of(pageable, username, hashtag, type, query, orderBy, sort, searchBy, withTotal);
+        PostPaging paging = postSearchCache.get(cacheKey);
+
+        if (paging == null) {
+            if (!withTotal) {
+                // 2. 전체 건수 없이 조회 (무한 스크롤)
+                paging = new PostPaging(postRepository.searchPostSlice(pageable, username, hashtag, type, query, orderBy, sort, searchBy));
+            } else {
+                // 3. 같은 조건의 전체 건수가 있으면 재사용, 없으면 페이지 조회와 함께 계산하여 보관
+                String signature = String.join("|", "search", username, hashtag, String.valueOf(type), query, searchBy);
+                Long total = postCountCache.get(signature);
+
+                Page<PostListResponse> posts = postRepository.searchPosts(pageable, username, hashtag, type, query, orderBy, sort, searchBy, total);
+                if (total == null) {
+                    postCountCache.put(signature, posts.getTotalElements());
+                }
+                paging = new PostPaging(posts);
+            }
+            postSearchCache.put(cacheKey, paging);
+        }
+
+        // 4. 반영 대기 중인 카운터와 좋아요 여부는 요청마다 설정
+        @SuppressWarnings("unchecked")
+        List<PostListResponse> postList = (List<PostListResponse>) paging.getPostList();
+        postList.forEach(this::applyPendingCounts);
+        applyLikedByMe(postList, username);
+
+        return paging;
+    }
+
+    /**
+     * 4-1. 게시물 검색 목록 조회 (cursor 페이징)
+     * offset 대신 마지막으로 받은 게시물의 정렬 값 이후부터 조회하므로 뒤 페이지도 첫 페이지와 같은 비용으로 조회합니다.
+     *
+     * @param after    이전 응답의 nextCursor (첫 페이지면 빈 값)
+     * @param size     페이지 크기
+     * @param username 유저 계정이름
+     * @param hashtag  검색할 hashtag 또는 해시태그 검색식 (ex. #ootd AND #summer NOT #ad)
+     * @param type     게시물 타입
+     * @param query    검색할 query
+     * @param orderBy  정렬기준
+     * @param sort     순서
+     * @param searchBy 검색 범위
+     * @return 검색 결과 목록과 다음 페이지 cursor
+     */
+    @Override
+    public PostCursorPaging searchPostsByCursor(String after, int size, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy) {
+
+        String cursorOrderBy = cursorOrderBy(orderBy);
+        String cursorSort = cursorOrderBy.equals("id") ? "desc" : cursorSort(sort);
+        PostCursor cursor = PostCursor.decode(after, cursorOrderBy, cursorSort);
+        Long userId = userCheck(username).getId();
 
-        return new PostPaging(postRepository.searchPosts(pageable, username, hashtag, type, query, orderBy, sort, searchBy));
+        PostCursorPaging posts = postRepository.searchPostsByCursor(cursor, cursorSize(size), userId, hashtag, type, query, cursorOrderBy, cursorSort, searchBy);
+        posts.getPostList().forEach(this::applyPendingCounts);
+        applyLikedByMe(posts.getPostList(), userId);
+
+        return posts;
+    }
+
+    /**
+     * 4-2. 게시물 검색 결과 내보내기
+     * 검색 조건에 맞는 모든 게시물을 chunk 단위 cursor 조회로 이어서 읽으며 바로 응답에 씁니다.
+     * 전체 건수를 세지 않고, 해시태그는 chunk 마다 한 번에 조회하며, 메모리에는 chunk 하나만 유지합니다.
+     * 목록과 달리 본문은 자르지 않고 전체를 씁니다.
+     *
+     * @param format   내보내기 형식 (NDJSON, CSV)
+     * @param username 유저 계정이름
+     * @param hashtag  검색할 hashtag 또는 해시태그 검색식 (ex. #ootd AND #summer NOT #ad)
+     * @param type     게시물 타입
+     * @param query    검색할 query
+     * @param orderBy  정렬기준 (관련도순은 ID 순으로 내보냄)
+     * @param sort     순서
+     * @param searchBy 검색 범위
+     * @return 응답 본문 (요청 스레드가 아닌 별도 스레드에서 쓰기)
+     */
+    @Override
+    public StreamingResponseBody exportPosts(PostExportFormat format, String username, String hashtag, PostType type, String query, String orderBy, String sort, String searchBy) {
+
+        // 1. 요청 검증 (응답을 쓰기 시작하면 오류 응답을 보낼 수 없으므로 미리 확인, 유저는 chunk 마다 다시 조회하지 않음)
+        Long userId = userCheck(username).getId();
+        HashtagExpression.parse(hashtag);
+
+        String cursorOrderBy = cursorOrderBy(orderBy);
+        String cursorSort = cursorOrderBy.equals("id") ? "desc" : cursorSort(sort);
+
+        return out -> {
+            PostExportWriter writer = new PostExportWriter(out, format, objectMapper);
+            writer.writeHeader();
+
+            // 2. 마지막 게시물 이후 chunk 조회 → 반영 대기 중인 카운터와 좋아요 여부 설정 → 쓰기
+            PostCursor cursor = null;
+            PostCursorPaging chunk;
+            do {
+                chunk = postRepository.exportPostsByCursor(cursor, exportChunkSize, userId, hashtag, type, query, cursorOrderBy, cursorSort, searchBy);
+                chunk.getPostList().forEach(this::applyPendingCounts);
+                applyLikedByMe(chunk.getPostList(), userId);
+                writer.write(chunk.getPostList());
+
+                cursor = PostCursor.decode(chunk.getNextCursor(), cursorOrderBy, cursorSort);
+            } while (chunk.isHasNext());
+        };
     }
 
     /**
@@ -168,11 +365,139 @@ public class PostServiceImpl implements PostService {
      * 작성자 : 유리빛나
      *
      * @param pageable Pagination 요청 정보 관련 인터페이스
+     * @param username 유저 계정명 (좋아요 여부 확인용)
+     * @param withTotal 전체 건수 포함 여부 (false 면 다음 페이지 여부만 반환)
      * @return 페이징 처리가 된 게시물 전체 목록
      */
-    public PostPaging getPosts(Pageable pageable) {
+    public PostPaging getPosts(Pageable pageable, String username, boolean withTotal) {
+
+        // 1. 전체 건수 없이 조회 (무한 스크롤)
+        if (!withTotal) {
+            Slice<PostListResponse> posts = postRepository.getPostSlice(pageable);
+            posts.forEach(this::applyPendingCounts);
+            applyLikedByMe(posts.getContent(), username);
+
+            return new PostPaging(posts);
+        }
+
+        // 2. 전체 건수와 함께 조회
+        Page<PostListResponse> posts = postRepository.getPosts(pageable, countAllPosts());
+        posts.forEach(this::applyPendingCounts);
+        applyLikedByMe(posts.getContent(), username);
+
+        return new PostPaging(posts);
+    }
+
+    /**
+     * 5-4. 게시물 목록 조회 (조건부 요청)
+     * 목록 버전, 시간 구간, 요청 조건으로 만든 ETag 가 클라이언트의 If-None-Match 와 같으면 목록을 조회하지 않습니다.
+     * 시간 구간 동안 바뀐 좋아요/조회/공유 수는 ETag 에 반영되지 않으므로 weak ETag 로 응답합니다.
+     * 좋아요/조회/공유 수와 좋아요 여부는 시간 구간(list-ttl) 동안 이전 값일 수 있습니다.
+     *
+     * @param pageable    Pagination 요청 정보 관련 인터페이스
+     * @param username    유저 계정명 (좋아요 여부 확인용)
+     * @param withTotal   전체 건수 포함 여부
+     * @param notModified ETag 를 받아 클라이언트가 가진 응답과 같은지 확인 (true 면 304 응답)
+     * @return 게시물 목록, 변경되지 않았으면 null
+     */
+    @Override
+    public PostPaging getPosts(Pageable pageable, String username, boolean withTotal, Predicate<String> notModified) {
+
+        // 1. 목록 버전으로 ETag 계산 (Redis 를 사용할 수 없으면 ETag 없이 조회)
+        Long version = postListVersion.current();
+        if (version != null) {
+            String eTag = ETagUtil.weak("list", version, System.currentTimeMillis() / listETagTtl, username,
+                    pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), withTotal);
+            if (notModified.test(eTag)) {
+                return null;
+            }
+        }
+
+        // 2. 변경되었으면 목록 조회
+        return getPosts(pageable, username, withTotal);
+    }
+
+    /**
+     * 5-1. 게시물 목록 조회 (cursor 페이징)
+     *
+     * @param after    이전 응답의 nextCursor (첫 페이지면 빈 값)
+     * @param size     페이지 크기
+     * @param username 유저 계정명 (좋아요 여부 확인용)
+     * @return 게시물 목록과 다음 페이지 cursor
+     */
+    @Override
+    public PostCursorPaging getPostsByCursor(String after, int size, String username) {
+
+        PostCursor cursor = PostCursor.decode(after, "id", "desc");
+
+        PostCursorPaging posts = postRepository.getPostsByCursor(cursor, cursorSize(size));
+        posts.getPostList().forEach(this::applyPendingCounts);
+        applyLikedByMe(posts.getPostList(), username);
+
+        return posts;
+    }
+
+    /**
+     * 5-2. 피드 조회 (내 게시물과 구독한 해시태그의 게시물, 최신순)
+     * Redis 에 미리 만들어 둔 게시물 Id 한 페이지를 읽고 해당 게시물만 Id 로 조회하므로 페이지 크기에 비례하는 비용으로 조회합니다.
+     *
+     * @param after    이전 응답의 nextCursor (첫 페이지면 빈 값)
+     * @param size     페이지 크기
+     * @param username 유저 계정명
+     * @return 피드 게시물 목록과 다음 페이지 cursor
+     */
+    @Override
+    public PostCursorPaging getFeed(String after, int size, String username) {
+
+        int pageSize = cursorSize(size);
+        PostCursor cursor = PostCursor.decode(after, "id", "desc");
+        Long userId = userCheck(username).getId();
+
+        // 1. 피드에서 게시물 Id 한 페이지 (다음 페이지 여부 확인용으로 1개 더)
+        List<Long> postIds = feedRedisRepository.page(userId, cursor == null ? null : cursor.getId(), pageSize + 1);
+        boolean hasNext = postIds.size() > pageSize;
+        List<Long> pageIds = hasNext ? postIds.subList(0, pageSize) : postIds;
+
+        // 2. 게시물 조회 (삭제된 게시물은 제외)
+        List<PostListResponse> postList = postRepository.getPostsByIds(pageIds);
+        postList.forEach(this::applyPendingCounts);
+        applyLikedByMe(postList, username);
+
+        // 3. 다음 cursor 는 삭제된 게시물과 관계없이 피드에서 읽은 마지막 Id 기준
+        String nextCursor = null;
+        if (hasNext) {
+            Long lastId = pageIds.get(pageIds.size() - 1);
+            nextCursor = new PostCursor("id", "desc", String.valueOf(lastId), lastId).encode();
+        }
+
+        return new PostCursorPaging(postList, pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * 5-3. 인기 게시물 조회
+     * 최근 조회/좋아요/공유에 가중치를 두고 시간이 지날수록 감쇠한 점수 순으로 조회합니다. (순위는 Redis 에서만 계산)
+     *
+     * @param type     게시물 타입 (전체면 null)
+     * @param hashtag  해시태그 (전체면 null, '#' 은 생략 가능)
+     * @param size     최대 개수
+     * @param username 유저 계정명 (좋아요 여부 확인용)
+     * @return 인기 게시물 목록 (점수 내림차순)
+     */
+    @Override
+    public List<PostListResponse> getTrendingPosts(PostType type, String hashtag, int size, String username) {
+
+        String cleanedHashtag = hashtag == null || hashtag.isBlank() ? null
+                : hashtag.startsWith("#") ? hashtag.substring(1) : hashtag;
+
+        // 1. 점수 순 게시물 Id
+        List<Long> postIds = trendingRanking.top(type, cleanedHashtag, Math.max(1, Math.min(size, 100)));
+
+        // 2. 게시물 조회 (삭제된 게시물은 제외)
+        List<PostListResponse> postList = postRepository.getPostsByIds(postIds);
+        postList.forEach(this::applyPendingCounts);
+        applyLikedByMe(postList, username);
 
-        return new PostPaging(postRepository.getPosts(pageable));
+        return postList;
     }
 
     /**
@@ -185,23 +510,105 @@ public class PostServiceImpl implements PostService {
      */
     public PostDetailResponse getPostDetail(Long postId, String username) {
 
-        Post post = postRepository.findById(postId)
+        PostDetailResponse postDetailResponse = postRepository.getPostDetail(postId, username);
+        if (postDetailResponse == null) throw new CustomException(POST_NOT_FOUND);
+
+        // 게시물 조회 기록
+        Long userId = userCheck(username).getId();
+        recordView(postId, postDetailResponse.getType(), userId);
+
+        // 게시물, 해시태그 시간 버킷별 순 조회자 sketch 갱신 후 순 조회자 수 설정 (실패해도 조회는 계속 진행)
+        try {
+            postDetailResponse.setUniqueViewCnt(uniqueViewerRedisRepository.addViewer(
+                    postId, postDetailResponse.getHashtagList(), userId, LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.warn("순 조회자 기록에 실패하였습니다. postId : {}", postId, e);
+        }
+
+        applyPendingCounts(postDetailResponse);
+
+        return postDetailResponse;
+    }
+
+    /**
+     * 6-1. 게시물 상세 조회 (조건부 요청)
+     * 수정 시각, 좋아요/공유 수, 해시태그로 만든 ETag 가 클라이언트의 If-None-Match 와 같으면 상세 조회 없이 조회만 기록합니다.
+     * 조회수, 순 조회자 수는 조회할 때마다 바뀌므로 ETag 에 포함하지 않고 weak ETag 로 응답합니다. (304 응답이면 조회수는 이전 값)
+     *
+     * @param postId      게시물 번호
+     * @param username    유저 계정명
+     * @param notModified ETag 를 받아 클라이언트가 가진 응답과 같은지 확인 (true 면 304 응답)
+     * @return 게시물 상세, 변경되지 않았으면 null
+     */
+    @Override
+    public PostDetailResponse getPostDetail(Long postId, String username, Predicate<String> notModified) {
+
+        // 1. 게시물 한 row 와 정렬된 해시태그 Id 목록으로 ETag 계산
+        PostVersion version = postRepository.findVersionById(postId)
                 .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+        String eTag = ETagUtil.weak("detail", postId, version.getUpdatedAt(),
+                version.getLikeCnt() + engagementCounterBuffer.pending(postId, EngagementType.LIKE),
+                version.getShareCnt() + engagementCounterBuffer.pending(postId, EngagementType.SHARE),
+                postHashtagRepository.findHashtagIdsByPostId(postId));
+
+        // 2. 변경되지 않았으면 조회만 기록 (순 조회자는 ETag 를 받은 조회에서 이미 기록됨)
+        if (notModified.test(eTag)) {
+            recordView(postId, version.getType(), userCheck(username).getId());
+            return null;
+        }
 
-        // 상세조회 시 조회수 1 증가
-        PostView postView = PostView.builder()
-                .user(userRepository.getReferenceById(userCheck(username).getId()))
-                .post(post)
-                .build();
+        // 3. 변경되었으면 상세 조회
+        return getPostDetail(postId, username);
+    }
 
-        // 게시물 조회수 데이터 생성
-        postViewRepository.save(postView);
+    /**
+     * 6-2. 게시물 여러 건 상세 조회
+     * 게시물과 해시태그를 각각 IN 쿼리 한 번으로 조회하여 요청 순서대로 반환합니다. (존재하지 않는 게시물은 제외)
+     *
+     * @param postIds    게시물 번호 목록 (중복은 처음 위치만 사용, 최대 batch.max-size 개)
+     * @param username   유저 계정명
+     * @param recordView 조회 기록 여부 (false 면 조회수, 순 조회자, 인기 점수에 반영하지 않음)
+     * @return 게시물 상세 목록
+     */
+    @Override
+    public List<PostDetailResponse> getPostDetails(List<Long> postIds, String username, boolean recordView) {
+
+        // 1. 요청 검증
+        List<Long> distinctPostIds = postIds.stream().distinct().toList();
+        if (distinctPostIds.size() > batchMaxSize) throw new CustomException(TOO_MANY_POST_IDS);
+
+        // 2. 게시물, 해시태그 조회
+        List<PostDetailResponse> postDetailResponses = postRepository.getPostDetails(distinctPostIds);
+
+        // 3. 게시물 조회 기록
+        if (recordView && !postDetailResponses.isEmpty()) {
+            Long userId = userCheck(username).getId();
+            postDetailResponses.forEach(postDetailResponse -> recordView(postDetailResponse.getPostId(), postDetailResponse.getType(), userId));
+
+            // 순 조회자 sketch 갱신 후 순 조회자 수 설정 (실패하면 나머지 게시물도 건너뛰고 조회는 계속 진행)
+            LocalDateTime viewedAt = LocalDateTime.now();
+            try {
+                postDetailResponses.forEach(postDetailResponse -> postDetailResponse.setUniqueViewCnt(uniqueViewerRedisRepository.addViewer(
+                        postDetailResponse.getPostId(), postDetailResponse.getHashtagList(), userId, viewedAt)));
+            } catch (RuntimeException e) {
+                log.warn("순 조회자 기록에 실패하였습니다. postIds : {}", distinctPostIds, e);
+            }
+        } else if (!postDetailResponses.isEmpty()) {
+            // 조회 기록 없이 순 조회자 수만 조회 (실패해도 조회는 계속 진행)
+            try {
+                List<Long> counts = uniqueViewerRedisRepository.countPostViewers(
+                        postDetailResponses.stream().map(PostDetailResponse::getPostId).toList());
+                for (int i = 0; i < postDetailResponses.size(); i++) {
+                    postDetailResponses.get(i).setUniqueViewCnt(counts.get(i));
+                }
+            } catch (RuntimeException e) {
+                log.warn("순 조회자 수 조회에 실패하였습니다. postIds : {}", distinctPostIds, e);
+            }
+        }
 
-        // 게시물의 조회수 증가
-        post.updateViewCnt(post);
-        postRepository.save(post);
+        postDetailResponses.forEach(this::applyPendingCounts);
 
-        return postRepository.getPostDetail(postId, username);
+        return postDetailResponses;
     }
 
     /**
@@ -216,25 +623,52 @@ public class PostServiceImpl implements PostService {
 
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
+        Long userId = userCheck(username).getId();
 
-        PostLike postLike = PostLike.builder()
-                .user(userRepository.getReferenceById(userCheck(username).getId()))
-                .post(post)
+        // 인덱스상 이미 좋아요한 게시물이면 기록 없이 현재 좋아요 수 반환 (중복 요청에도 같은 결과)
+        String url = null;
+        if (postLikeIndex.like(postId, userId)) {
+            // 게시물 좋아요 데이터 생성 (ingestion pipeline 에서 기록하며, row 가 실제로 추가된 경우에만 좋아요수/인기 점수/외부 API 알림 반영)
+            engagementEventPipeline.submit(EngagementEvent.of(EngagementType.LIKE, postId, userId));
+
+            // 반영 전까지 응답의 좋아요수 보정
+            engagementCounterBuffer.expect(postId, EngagementType.LIKE, 1L);
+
+            // 외부 API 알림은 좋아요 row 와 같은 트랜잭션에서 sns_outbox 에 기록되고 SnsOutboxRelay 가 전송
+            url = snsDispatcher.url(post.getType(), EngagementType.LIKE.getSnsApiType());
+        }
+
+        return PostLikeResponse.builder()
+                .postId(postId)
+                .likeCnt(post.getLikeCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.LIKE))
+                .url(url)
                 .build();
+    }
+
+    /**
+     * 7-1. 게시물 좋아요 취소
+     *
+     * @param postId   게시물 번호
+     * @param username 유저 계정명
+     * @return 게시물 ID, 게시물 좋아요 수가 포함된 PostLikeResponse 객체
+     */
+    public PostLikeResponse unlikePost(Long postId, String username) {
 
-        // 게시물 좋아요 데이터 생성
-        postLikeRepository.save(postLike);
+        Post post = postCheck(postId);
+        Long userId = userCheck(username).getId();
 
-        // 게시물의 좋아요수 증가
-        post.updateLikeCnt(post);
-        postRepository.save(post);
+        // 인덱스상 좋아요하지 않은 게시물이면 기록 없이 현재 좋아요 수 반환
+        if (postLikeIndex.unlike(postId, userId)) {
+            // 게시물 좋아요 데이터 삭제 (ingestion pipeline 에서 반영하며, row 가 실제로 삭제된 경우에만 좋아요수 감소)
+            engagementEventPipeline.submit(EngagementEvent.of(EngagementType.UNLIKE, postId, userId));
 
-        String url = sendToSnsApi(String.valueOf(post.getType()), "likes");
+            // 반영 전까지 응답의 좋아요수 보정
+            engagementCounterBuffer.expect(postId, EngagementType.LIKE, -1L);
+        }
 
         return PostLikeResponse.builder()
                 .postId(postId)
-                .likeCnt(postLike.getPost().getLikeCnt())
-                .url(url)
+                .likeCnt(post.getLikeCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.LIKE))
                 .build();
     }
 
@@ -250,23 +684,19 @@ public class PostServiceImpl implements PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new CustomException(POST_NOT_FOUND));
 
-        PostShare postShare = PostShare.builder()
-                .user(userRepository.getReferenceById(userCheck(username).getId()))
-                .post(post)
-                .build();
-
-        // 게시물 공유 데이터 생성
-        postShareRepository.save(postShare);
+        // 게시물 공유 데이터 생성 (ingestion pipeline 에서 batch 로 기록)
+        engagementEventPipeline.submit(EngagementEvent.of(EngagementType.SHARE, postId, userCheck(username).getId()));
 
-        // 게시물의 공유수 증가
-        post.updateShareCnt(post);
-        postRepository.save(post);
+        // 게시물의 공유수 증가 (버퍼에 누적 후 주기적으로 DB에 반영), 인기 점수 누적
+        engagementCounterBuffer.increment(postId, EngagementType.SHARE);
+        trendingRanking.record(postId, post.getType(), EngagementType.SHARE);
 
-        String url = sendToSnsApi(String.valueOf(post.getType()), "share");
+        // 외부 API 알림은 공유 row 와 같은 트랜잭션에서 sns_outbox 에 기록되고 SnsOutboxRelay 가 전송
+        String url = snsDispatcher.url(post.getType(), EngagementType.SHARE.getSnsApiType());
 
         return PostShareResponse.builder()
                 .postId(postId)
-                .shareCnt(postShare.getPost().getShareCnt())
+                .shareCnt(post.getShareCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.SHARE))
                 .url(url)
                 .build();
     }
@@ -302,52 +732,106 @@ public class PostServiceImpl implements PostService {
     }
 
     /**
-     * PostHashtag 연관관계 등록
-     * 작성자 : 오예령
+     * 아직 DB에 반영되지 않은 카운터 증가분을 목록 응답에 더함
      *
-     * @param post     게시물
-     * @param hashtags 해시태그
+     * @param postListResponse 게시물 목록 응답
      */
-    private void savePostHashtag(Post post, List<Hashtag> hashtags) {
-
-        for (Hashtag hashtag : hashtags) {
-            PostHashtag postHashtag = PostHashtag.builder()
-                    .post(post)
-                    .hashtag(hashtag)
-                    .build();
-            postHashtagRepository.save(postHashtag);
-        }
+    private void applyPendingCounts(PostListResponse postListResponse) {
+
+        Long postId = postListResponse.getPostId();
+        postListResponse.setViewCnt(postListResponse.getViewCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.VIEW));
+        postListResponse.setLikeCnt(postListResponse.getLikeCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.LIKE));
+        postListResponse.setShareCnt(postListResponse.getShareCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.SHARE));
     }
 
     /**
-     * 게시물 좋아요, 공유 관련 외부 API 호출
-     * 작성자 : 유리빛나
+     * 게시물 조회 기록
+     * 조회 데이터는 ingestion pipeline 에서 batch 로 기록하고, 조회수는 버퍼에 누적 후 주기적으로 DB에 반영하며, 인기 점수를 누적합니다.
      *
-     * @param postType SNS 타입
-     * @param apiType  좋아요 or 공유 타입
-     * @return 외부 API URL
+     * @param postId 게시물 번호
+     * @param type   게시물 타입
+     * @param userId 조회한 유저 Id
      */
-    private String sendToSnsApi(String postType, String apiType) {
+    private void recordView(Long postId, PostType type, Long userId) {
 
-        // 1. Rest 방식의 API를 호출할 수 있는 Spring 내장 클래스 생성
-        RestTemplate restTemplate = new RestTemplate();
+        engagementEventPipeline.submit(EngagementEvent.of(EngagementType.VIEW, postId, userId));
+        engagementCounterBuffer.increment(postId, EngagementType.VIEW);
+        trendingRanking.record(postId, type, EngagementType.VIEW);
+    }
 
-        // 2. Enum 타입이었던 PostType 문자열을 소문자로 변환
-        String lowerCasePostType = postType.toLowerCase();
+    /**
+     * 아직 DB에 반영되지 않은 카운터 증가분을 상세 응답에 더함
+     *
+     * @param postDetailResponse 게시물 상세 응답
+     */
+    private void applyPendingCounts(PostDetailResponse postDetailResponse) {
 
-        // 3. 호출할 외부 API
-        String url = "https://www." + lowerCasePostType + ".com/" + apiType + "/" + lowerCasePostType;
+        Long postId = postDetailResponse.getPostId();
+        postDetailResponse.setViewCnt(postDetailResponse.getViewCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.VIEW));
+        postDetailResponse.setLikeCnt(postDetailResponse.getLikeCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.LIKE));
+        postDetailResponse.setShareCnt(postDetailResponse.getShareCnt() + (int) engagementCounterBuffer.pending(postId, EngagementType.SHARE));
+    }
 
-        Map<String, Object> request = new HashMap<>();
-        request.put("contentId", lowerCasePostType);
+    /**
+     * 전체 게시물 수 (cache 에 없으면 테이블 통계 추정치가 기준 이상일 때 추정치, 아니면 COUNT 쿼리 결과 사용)
+     *
+     * @return 전체 게시물 수
+     */
+    private long countAllPosts() {
 
-        try {
-            restTemplate.postForObject(url, request, String.class);
-        } catch (RestClientException e) {
-            log.info("외부 API 호출에 실패하였습니다.");
+        Long total = postCountCache.get("posts");
+        if (total != null) {
+            return total;
         }
 
-        return url;
+        long estimate = postRepository.estimatePostCount();
+        total = estimate >= estimateThreshold ? estimate : postRepository.countPosts();
+        postCountCache.put("posts", total);
+
+        return total;
+    }
+
+    // cursor 페이징에서 지원하는 정렬 기준 (그 외는 ID 내림차순)
+    private String cursorOrderBy(String orderBy) {
+
+        return switch (orderBy) {
+            case "created_at", "updated_at", "like_count", "share_count", "view_count" -> orderBy;
+            default -> "id";
+        };
+    }
+
+    private String cursorSort(String sort) {
+
+        return "asc".equalsIgnoreCase(sort) ? "asc" : "desc";
+    }
+
+    // 페이지 크기 제한 (offset 페이징의 기본 최대 크기와 동일)
+    private int cursorSize(int size) {
+
+        return Math.max(1, Math.min(size, 2000));
+    }
+
+    /**
+     * 목록 한 페이지의 좋아요 여부를 한 번에 조회하여 설정
+     *
+     * @param postList 게시물 목록 응답
+     * @param username 유저 계정명
+     */
+    private void applyLikedByMe(List<PostListResponse> postList, String username) {
+
+        if (postList.isEmpty()) return;
+
+        applyLikedByMe(postList, userCheck(username).getId());
+    }
+
+    // 이미 확인한 유저 Id 로 좋아요 여부 설정
+    private void applyLikedByMe(List<PostListResponse> postList, Long userId) {
+
+        if (postList.isEmpty()) return;
+
+        List<Long> postIds = postList.stream().map(PostListResponse::getPostId).toList();
+        Set<Long> likedPostIds = postLikeIndex.likedPostIds(userId, postIds);
+        postList.forEach(postListResponse -> postListResponse.setLikedByMe(likedPostIds.contains(postListResponse.getPostId())));
     }
 
 }
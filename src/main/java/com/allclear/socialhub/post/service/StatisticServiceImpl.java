@@ -3,17 +3,21 @@ package com.allclear.socialhub.post.service;
 import com.allclear.socialhub.common.exception.CustomException;
 import com.allclear.socialhub.common.exception.ErrorCode;
 import com.allclear.socialhub.common.util.DateUtil;
+import com.allclear.socialhub.post.common.hashtag.index.HashtagPostIndex;
 import com.allclear.socialhub.post.common.hashtag.repository.HashtagRepository;
 import com.allclear.socialhub.post.common.like.repository.PostLikeRepository;
 import com.allclear.socialhub.post.common.response.StatisticQueryResponse;
+import com.allclear.socialhub.post.common.response.UniqueViewerStatistic;
 import com.allclear.socialhub.post.common.share.repository.PostShareRepository;
 import com.allclear.socialhub.post.common.view.repository.PostViewRepository;
+import com.allclear.socialhub.post.common.view.repository.UniqueViewerRedisRepository;
 import com.allclear.socialhub.post.domain.StatisticType;
 import com.allclear.socialhub.post.domain.StatisticValue;
 import com.allclear.socialhub.post.dto.StatisticResponse;
 import com.allclear.socialhub.post.repository.PostRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
@@ -23,6 +27,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 @Service
 @RequiredArgsConstructor
@@ -30,10 +35,12 @@ import java.util.stream.Collectors;
 public class StatisticServiceImpl implements StatisticService {
 
     private final HashtagRepository hashtagRepository;
+    private final HashtagPostIndex hashtagPostIndex;
     private final PostRepository postRepository;
     private final PostLikeRepository postLikeRepository;
     private final PostShareRepository postShareRepository;
     private final PostViewRepository postViewRepository;
+    private final UniqueViewerRedisRepository uniqueViewerRedisRepository;
 
     /**
      * 1. 통계
@@ -43,7 +50,7 @@ public class StatisticServiceImpl implements StatisticService {
      * @param type    : 일자별, 시간별
      * @param start   : start date
      * @param end     : end date
-     * @param value   : count, like_count, share_count, view_count
+     * @param value   : count, like_count, share_count, view_count, unique_view_count
      * @return List<StatisticDto>
      */
     @Override
@@ -55,12 +62,18 @@ public class StatisticServiceImpl implements StatisticService {
         // 1. 일자별 혹은 시간대별 날짜 포맷 패턴 설정
         String queryDateFormatPattern = getQueryDateFormatPattern(type);
 
-        // 2. hashtag 테이블에서 해시태그 가진 게시물 리스트
-        List<Long> postIds = hashtagRepository.getPostByHashtag(hashtag);
+        // 2~3. 순 조회자 수는 해시태그 시간 버킷별 HyperLogLog 를 합쳐서 계산
+        List<StatisticQueryResponse> queryResponses;
+        if (value == StatisticValue.UNIQUE_VIEW_COUNT) {
+            queryResponses = getUniqueViewerResponses(hashtag, type, start, end);
+        } else {
+            // 2. hashtag 테이블에서 해시태그 가진 게시물 리스트
+            List<Long> postIds = getPostIdsByHashtag(hashtag);
+
+            // 3. start ~ end 날짜로 일자별 혹은 시간대별 개수를 가져오는 쿼리 날린 결과
+            queryResponses = getQueryResponsesByValue(value, postIds, start, end, queryDateFormatPattern);
+        }
 
-        // 3. start ~ end 날짜로 일자별 혹은 시간대별 개수를 가져오는 쿼리 날린 결과
-        List<StatisticQueryResponse> queryResponses = getQueryResponsesByValue(value, postIds, start, end, queryDateFormatPattern);
-        
         // 4. 시간 - 개수 Map으로 변환
         Map<String, Long> queryResponseMap = convertStatisticQueryResponseToMap(queryResponses);
 
@@ -104,6 +117,21 @@ public class StatisticServiceImpl implements StatisticService {
         }
     }
 
+    /**
+     * 1-2. 해시태그가 달린 게시물 ID 를 조회합니다.
+     * 해시태그 인덱스가 있으면 bitmap 에서 가져오고, 생성 전이면 post_hashtag 와 hashtag 를 join 하여 조회합니다.
+     *
+     * @param hashtag '#' 를 제외한 해시태그
+     * @return 게시물 ID 리스트
+     */
+    private List<Long> getPostIdsByHashtag(String hashtag) {
+
+        Roaring64NavigableMap postIds = hashtagPostIndex.postIds(hashtag);
+        if (postIds == null) {
+            return hashtagRepository.getPostByHashtag(hashtag);
+        }
+        return LongStream.of(postIds.toArray()).boxed().toList();
+    }
 
     /**
      * 1-3. 통계 값에 따라 쿼리 결과를 가져옵니다.
@@ -123,9 +151,57 @@ public class StatisticServiceImpl implements StatisticService {
             case LIKE_COUNT -> postLikeRepository.findStatisticByPostIds(postIds, start, end, queryDateFormatPattern);
             case VIEW_COUNT -> postViewRepository.findStatisticByPostIds(postIds, start, end, queryDateFormatPattern);
             case SHARE_COUNT -> postShareRepository.findStatisticByPostIds(postIds, start, end, queryDateFormatPattern);
+            // 순 조회자 수는 DB 쿼리가 아닌 getUniqueViewerResponses 에서 조회
+            case UNIQUE_VIEW_COUNT -> throw new CustomException(ErrorCode.STATISTICS_INVALID_VALUE);
         };
     }
 
+    /**
+     * 1-3-1. 해시태그의 일자별 혹은 시간대별 순 조회자 수를 가져옵니다.
+     * post_view 에 COUNT(DISTINCT user_id) 를 날리는 대신 시간 버킷별 HyperLogLog 의 합집합 크기를 사용합니다.
+     *
+     * @param hashtag 해시태그
+     * @param type    통계 유형 (일자별 또는 시간별)
+     * @param start   통계 집계 시작 날짜
+     * @param end     통계 집계 종료 날짜
+     * @return List<StatisticQueryResponse> 통계 데이터 리스트
+     */
+    public List<StatisticQueryResponse> getUniqueViewerResponses(String hashtag, StatisticType type, LocalDate start, LocalDate end) {
+
+        // 1. 통계 구간별로 합칠 시간 버킷 목록 생성
+        List<String> times = new ArrayList<>();
+        List<List<LocalDateTime>> hourBuckets = new ArrayList<>();
+        switch (type) {
+            case DATE -> {
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+                for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+                    List<LocalDateTime> hours = new ArrayList<>(24);
+                    for (int hour = 0; hour < 24; hour++) {
+                        hours.add(date.atTime(hour, 0));
+                    }
+                    times.add(date.format(formatter));
+                    hourBuckets.add(hours);
+                }
+            }
+            case HOUR -> {
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+                for (LocalDateTime dateTime = start.atStartOfDay(); !dateTime.isAfter(end.atTime(23, 0)); dateTime = dateTime.plusHours(1)) {
+                    times.add(dateTime.format(formatter));
+                    hourBuckets.add(List.of(dateTime));
+                }
+            }
+        }
+
+        // 2. 구간별 순 조회자 수 조회
+        List<Long> counts = uniqueViewerRedisRepository.countHashtagViewers(hashtag, hourBuckets);
+
+        List<StatisticQueryResponse> responses = new ArrayList<>(times.size());
+        for (int i = 0; i < times.size(); i++) {
+            responses.add(new UniqueViewerStatistic(times.get(i), counts.get(i)));
+        }
+        return responses;
+    }
+
     /**
      * 1-4. 쿼리를 통해 가져온 결과를 시간 - 개수의 Map 으로 변환합니다.
      * 작성자 : 김유현
@@ -0,0 +1,91 @@
+-- 기존에 ddl-auto 로 만들던 스키마 (이미 테이블이 있는 DB 는 baseline 으로 건너뜀)
+-- baseline 된 DB 와 같아야 하므로 이후에 추가하는 테이블/index 는 여기가 아닌 다음 버전에 추가
+CREATE TABLE user
+(
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    username       VARCHAR(20)  NOT NULL,
+    email          VARCHAR(255) NOT NULL,
+    password       VARCHAR(255) NOT NULL,
+    deleted_at     DATETIME(6),
+    status         VARCHAR(20)  NOT NULL,
+    certify_status VARCHAR(20)  NOT NULL,
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post
+(
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    content    VARCHAR(255) NOT NULL,
+    type       VARCHAR(20)  NOT NULL,
+    view_cnt   INT          NOT NULL,
+    like_cnt   INT          NOT NULL,
+    share_cnt  INT          NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_user FOREIGN KEY (user_id) REFERENCES user (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE hashtag
+(
+    id      BIGINT      NOT NULL AUTO_INCREMENT,
+    content VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_hashtag
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    post_id    BIGINT NOT NULL,
+    hashtag_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_hashtag_post FOREIGN KEY (post_id) REFERENCES post (id),
+    CONSTRAINT fk_post_hashtag_hashtag FOREIGN KEY (hashtag_id) REFERENCES hashtag (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_view
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    post_id    BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_view_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_post_view_post FOREIGN KEY (post_id) REFERENCES post (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_like
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    post_id    BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_like_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_post_like_post FOREIGN KEY (post_id) REFERENCES post (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE post_share
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    post_id    BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_post_share_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_post_share_post FOREIGN KEY (post_id) REFERENCES post (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,35 @@
+-- 게시물 목록/검색용 비정규화 테이블 (PostReadModelProjector 가 갱신)
+CREATE TABLE IF NOT EXISTS post_read_model
+(
+    post_id    BIGINT        NOT NULL,
+    username   VARCHAR(255)  NOT NULL,
+    type       VARCHAR(20)   NOT NULL,
+    title      VARCHAR(255)  NOT NULL,
+    excerpt    VARCHAR(20)   NOT NULL,
+    view_cnt   INT           NOT NULL,
+    like_cnt   INT           NOT NULL,
+    share_cnt  INT           NOT NULL,
+    hashtags   VARCHAR(1024),
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (post_id),
+    INDEX idx_post_read_model_type (type, post_id),
+    INDEX idx_post_read_model_username (username, post_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 해시태그 구독 (피드 fan-out 대상)
+CREATE TABLE IF NOT EXISTS hashtag_subscription
+(
+    id         BIGINT NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    hashtag_id BIGINT NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_hashtag_subscription_user_hashtag UNIQUE (user_id, hashtag_id),
+    INDEX idx_hashtag_subscription_hashtag_user (hashtag_id, user_id),
+    CONSTRAINT fk_hashtag_subscription_user FOREIGN KEY (user_id) REFERENCES user (id),
+    CONSTRAINT fk_hashtag_subscription_hashtag FOREIGN KEY (hashtag_id) REFERENCES hashtag (id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,35 @@
+-- 조회 쿼리별 index (IndexUsageTest 에서 EXPLAIN 으로 사용 여부 확인)
+-- InnoDB 보조 index 는 끝에 PK(id)를 포함하므로 (정렬 컬럼) index 로 (정렬 컬럼, id) tie-breaker 정렬까지 처리
+
+-- 로그인/가입 중복 확인, 해시태그 등록 시 중복 확인
+ALTER TABLE user
+    ADD CONSTRAINT uk_user_username UNIQUE (username),
+    ADD CONSTRAINT uk_user_email UNIQUE (email);
+
+ALTER TABLE hashtag
+    ADD CONSTRAINT uk_hashtag_content UNIQUE (content);
+
+-- 작성자/타입별 목록과 정렬 기준별 목록 (카운터 index 는 EngagementCounterBuffer 가 batch 로 갱신하므로 갱신 비용이 요청 수에 비례하지 않음)
+ALTER TABLE post
+    ADD INDEX idx_post_user_created_at (user_id, created_at),
+    ADD INDEX idx_post_type_created_at (type, created_at),
+    ADD INDEX idx_post_created_at (created_at),
+    ADD INDEX idx_post_updated_at (updated_at),
+    ADD INDEX idx_post_like_cnt (like_cnt),
+    ADD INDEX idx_post_share_cnt (share_cnt),
+    ADD INDEX idx_post_view_cnt (view_cnt);
+
+-- 게시물 -> 해시태그 (목록 해시태그 조회), 해시태그 -> 게시물 (해시태그 검색, bitmap 색인 생성)
+ALTER TABLE post_hashtag
+    ADD INDEX idx_post_hashtag_post_hashtag (post_id, hashtag_id),
+    ADD INDEX idx_post_hashtag_hashtag_post (hashtag_id, post_id);
+
+-- 통계 쿼리 covering index (post_id IN + created_at 범위/GROUP BY 를 테이블 row 없이 처리)
+ALTER TABLE post_view
+    ADD INDEX idx_post_view_post_created_at (post_id, created_at);
+
+ALTER TABLE post_like
+    ADD INDEX idx_post_like_post_created_at (post_id, created_at);
+
+ALTER TABLE post_share
+    ADD INDEX idx_post_share_post_created_at (post_id, created_at);
@@ -0,0 +1,39 @@
+-- migration 도입 전 DB (V1 baseline) 에는 없던 검색 index, 좋아요 중복 방지 key, SNS 알림 outbox
+
+-- 제목/내용 검색용 (한글은 공백 단위 토큰화가 맞지 않아 ngram parser 사용)
+ALTER TABLE post ADD FULLTEXT INDEX ft_post_title (title) WITH PARSER ngram;
+ALTER TABLE post ADD FULLTEXT INDEX ft_post_content (content) WITH PARSER ngram;
+ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram;
+
+-- 좋아요 중복 방지 (INSERT IGNORE 로 중복 좋아요를 거름)
+-- 기존 DB 에 같은 유저의 중복 좋아요가 있으면 unique key 를 만들 수 없으므로 좋아요 수에서 빼고 가장 먼저 누른 row 만 남김
+UPDATE post p
+    JOIN (SELECT post_id, COUNT(*) - COUNT(DISTINCT user_id) AS duplicates
+          FROM post_like
+          GROUP BY post_id
+          HAVING duplicates > 0) d ON d.post_id = p.id
+SET p.like_cnt = GREATEST(p.like_cnt - d.duplicates, 0);
+
+DELETE pl
+FROM post_like pl
+         JOIN post_like kept ON kept.user_id = pl.user_id AND kept.post_id = pl.post_id AND kept.id < pl.id;
+
+ALTER TABLE post_like
+    ADD CONSTRAINT uk_post_like_user_post UNIQUE (user_id, post_id);
+
+-- SNS 알림 outbox (EngagementEventWriter 가 적재, SnsOutboxRelay 가 전송)
+CREATE TABLE IF NOT EXISTS sns_outbox
+(
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    post_type       VARCHAR(20)  NOT NULL,
+    post_id         BIGINT       NOT NULL,
+    api_type        VARCHAR(255) NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_sns_outbox_status_next_attempt (status, next_attempt_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
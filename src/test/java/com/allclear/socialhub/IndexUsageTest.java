@@ -0,0 +1,137 @@
+package com.allclear.socialhub;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.AFTER_TEST_CLASS;
+import static org.springframework.test.context.jdbc.Sql.ExecutionPhase.BEFORE_TEST_CLASS;
+
+/**
+ * migration 으로 만든 index 를 repository 쿼리가 실제로 사용하는지 EXPLAIN 으로 확인합니다.
+ * 쿼리는 repository 의 JPQL/QueryDSL 이 만드는 SQL 과 같은 조건/정렬로 작성합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Sql(scripts = "/index-usage-data.sql", executionPhase = BEFORE_TEST_CLASS)
+@Sql(scripts = "/index-usage-cleanup.sql", executionPhase = AFTER_TEST_CLASS)
+class IndexUsageTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    static Stream<Arguments> queries() {
+
+        return Stream.of(
+                // UserRepository
+                plan("유저 계정명 조회", "SELECT * FROM user WHERE username = 'user500'",
+                        "user", "uk_user_username"),
+                plan("유저 이메일 조회", "SELECT * FROM user WHERE email = 'user500@test.com'",
+                        "user", "uk_user_email"),
+                // HashtagRepository
+                plan("해시태그 조회", "SELECT * FROM hashtag WHERE content = 'tag50'",
+                        "hashtag", "uk_hashtag_content"),
+                plan("해시태그 게시물 조회", "SELECT ph.post_id FROM hashtag h JOIN post_hashtag ph ON h.id = ph.hashtag_id WHERE h.content = 'tag50'",
+                        "ph", "idx_post_hashtag_hashtag_post"),
+                // PostHashtagRepository
+                plan("게시물 해시태그 조회", "SELECT ph.post_id, h.content FROM post_hashtag ph JOIN hashtag h ON h.id = ph.hashtag_id WHERE ph.post_id IN (1, 2, 3) ORDER BY ph.id",
+                        "ph", "idx_post_hashtag_post_hashtag"),
+                // HashtagSubscriptionRepository
+                plan("해시태그 구독자 조회", "SELECT user_id FROM hashtag_subscription WHERE hashtag_id = 10 AND user_id > 0 ORDER BY user_id LIMIT 1000",
+                        "hashtag_subscription", "idx_hashtag_subscription_hashtag_user", Check.NO_FILESORT),
+                // PostLikeRepository
+                plan("좋아요한 게시물 조회", "SELECT post_id FROM post_like WHERE user_id = 10 AND post_id IN (10, 1010, 2010)",
+                        "post_like", "uk_post_like_user_post"),
+                // 통계 (PostViewRepository, PostLikeRepository, PostShareRepository)
+                plan("조회수 통계", statistic("post_view"), "post_view", "idx_post_view_post_created_at", Check.COVERING),
+                plan("좋아요수 통계", statistic("post_like"), "post_like", "idx_post_like_post_created_at", Check.COVERING),
+                plan("공유수 통계", statistic("post_share"), "post_share", "idx_post_share_post_created_at", Check.COVERING),
+                // PostRepositoryImpl 정렬 (정렬 값이 같으면 id 로 정렬)
+                plan("작성일순 목록", sorted("created_at"), "p", "idx_post_created_at", Check.NO_FILESORT),
+                plan("수정일순 목록", sorted("updated_at"), "p", "idx_post_updated_at", Check.NO_FILESORT),
+                plan("좋아요순 목록", sorted("like_cnt"), "p", "idx_post_like_cnt", Check.NO_FILESORT),
+                plan("공유순 목록", sorted("share_cnt"), "p", "idx_post_share_cnt", Check.NO_FILESORT),
+                plan("조회순 목록", sorted("view_cnt"), "p", "idx_post_view_cnt", Check.NO_FILESORT),
+                plan("타입별 작성일순 목록", "SELECT p.id, p.title FROM post p WHERE p.type = 'INSTAGRAM' ORDER BY p.created_at DESC, p.id DESC LIMIT 10",
+                        "p", "idx_post_type_created_at", Check.NO_FILESORT),
+                plan("작성자별 작성일순 목록", "SELECT p.id, p.title FROM post p WHERE p.user_id = 10 ORDER BY p.created_at DESC, p.id DESC LIMIT 10",
+                        "p", "idx_post_user_created_at", Check.NO_FILESORT),
+                // SnsOutboxRelay
+                plan("전송할 알림 조회", "SELECT id FROM sns_outbox WHERE status = 'PENDING' AND next_attempt_at <= NOW() ORDER BY id LIMIT 1000",
+                        "sns_outbox", "idx_sns_outbox_status_next_attempt")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("queries")
+    @DisplayName("repository 쿼리는 index 를 사용한다.")
+    void GivenRepositoryQuery_ThenUseIndex(String name, String sql, String table, String index, Check check) {
+        // when
+        List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+
+        // then
+        Map<String, Object> row = plan.stream()
+                .filter(r -> table.equals(r.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError(name + " 실행 계획에 " + table + " 가 없습니다. " + plan));
+        String extra = String.valueOf(row.get("Extra"));
+
+        assertThat(row.get("key")).as("%s 실행 계획 %s", name, plan).isEqualTo(index);
+        if (check == Check.NO_FILESORT) {
+            assertThat(extra).as("%s 실행 계획 %s", name, plan).doesNotContain("filesort");
+        }
+        if (check == Check.COVERING) {
+            assertThat(extra).as("%s 실행 계획 %s", name, plan).contains("Using index");
+        }
+    }
+
+    private static Arguments plan(String name, String sql, String table, String index) {
+
+        return plan(name, sql, table, index, Check.KEY);
+    }
+
+    private static Arguments plan(String name, String sql, String table, String index, Check check) {
+
+        return Arguments.of(name, sql, table, index, check);
+    }
+
+    private static String statistic(String table) {
+
+        return "SELECT DATE_FORMAT(created_at, '%Y-%m-%d') AS time, COUNT(*) AS value FROM " + table + " " +
+                "WHERE post_id IN (1, 2, 3, 4, 5) AND DATE(created_at) BETWEEN '2024-08-01' AND '2024-08-10' " +
+                "GROUP BY DATE_FORMAT(created_at, '%Y-%m-%d') ORDER BY time ASC";
+    }
+
+    private static String sorted(String column) {
+
+        return "SELECT p.id, p.title FROM post p ORDER BY p." + column + " DESC, p.id DESC LIMIT 10";
+    }
+
+    enum Check {
+        KEY, NO_FILESORT, COVERING
+    }
+
+}
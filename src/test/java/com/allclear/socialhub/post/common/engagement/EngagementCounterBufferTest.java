@@ -0,0 +1,145 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EngagementCounterBuffer 테스트")
+class EngagementCounterBufferTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EngagementCounterBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+
+        buffer = new EngagementCounterBuffer(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), false);
+    }
+
+    @Test
+    @DisplayName("증가분은 반영 전까지 pending 값으로 조회된다.")
+    void pendingBeforeFlush() {
+        // when
+        buffer.increment(1L, EngagementType.VIEW);
+        buffer.increment(1L, EngagementType.VIEW);
+        buffer.increment(1L, EngagementType.LIKE);
+
+        // then
+        assertEquals(2L, buffer.pending(1L, EngagementType.VIEW));
+        assertEquals(1L, buffer.pending(1L, EngagementType.LIKE));
+        assertEquals(0L, buffer.pending(1L, EngagementType.SHARE));
+        assertEquals(3L, buffer.backlog());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("flush 하면 게시물별 증가분을 하나의 batch UPDATE 로 반영하고 버퍼를 비운다.")
+    void flushCoalescesDeltas() {
+        // given
+        buffer.increment(2L, EngagementType.SHARE);
+        buffer.increment(1L, EngagementType.VIEW);
+        buffer.increment(1L, EngagementType.VIEW);
+        buffer.increment(1L, EngagementType.LIKE);
+
+        // when
+        buffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+
+        assertThat(captor.getValue()).containsExactly(
+                new Object[]{2L, 1L, 0L, 1L},
+                new Object[]{0L, 0L, 1L, 2L}
+        );
+        assertEquals(0L, buffer.backlog());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("읽기 모델을 사용하면 같은 증가분을 읽기 모델에도 반영한다.")
+    void flushWithReadModel() {
+        // given
+        EngagementCounterBuffer readModelBuffer = new EngagementCounterBuffer(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), true);
+        readModelBuffer.increment(1L, EngagementType.LIKE);
+
+        // when
+        readModelBuffer.flush();
+
+        // then
+        ArgumentCaptor<List<Object[]>> post = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> readModel = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE post "), post.capture());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE post_read_model "), readModel.capture());
+
+        assertThat(post.getValue()).containsExactly(new Object[]{0L, 1L, 0L, 1L});
+        assertThat(readModel.getValue()).containsExactly(new Object[]{0L, 1L, 0L, 1L});
+    }
+
+    @Test
+    @DisplayName("반영 후 남은 증가분이 없는 게시물은 버퍼에서 제거하고, 이후 증가분은 다시 누적한다.")
+    void flushEvictsEmptyCounters() {
+        // given
+        buffer.increment(1L, EngagementType.VIEW);
+        buffer.add(2L, EngagementType.LIKE, 1L);
+        buffer.add(2L, EngagementType.LIKE, -1L);
+
+        // when
+        buffer.flush();
+        int afterFlush = buffer.size();
+        buffer.increment(1L, EngagementType.SHARE);
+
+        // then
+        assertEquals(0, afterFlush);
+        assertEquals(1, buffer.size());
+        assertEquals(1L, buffer.pending(1L, EngagementType.SHARE));
+    }
+
+    @Test
+    @DisplayName("반영할 증가분이 없으면 DB를 호출하지 않는다.")
+    void flushWithoutDelta() {
+        // when
+        buffer.flush();
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("반영에 실패하면 증가분을 버퍼에 되돌린다.")
+    void flushFailureRestoresDeltas() {
+        // given
+        buffer.increment(1L, EngagementType.LIKE);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        buffer.flush();
+
+        // then
+        assertEquals(1L, buffer.pending(1L, EngagementType.LIKE));
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EngagementEventLog 테스트")
+class EngagementEventLogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("append 한 이벤트를 순서대로 읽는다.")
+    void appendAndRead() throws IOException {
+        // given
+        EngagementEventLog eventLog = open(16);
+        EngagementEvent view = new EngagementEvent(EngagementType.VIEW, 1L, 2L, 1000L);
+        EngagementEvent share = new EngagementEvent(EngagementType.SHARE, 3L, 4L, 2000L);
+        eventLog.append(view);
+        eventLog.append(share);
+
+        // when
+        EngagementEventLog.Batch batch = eventLog.read(0L, 10);
+
+        // then
+        assertThat(batch.getNextOffset()).isEqualTo(2L);
+        assertThat(batch.getEvents()).hasSize(2);
+        assertThat(batch.getEvents().get(1))
+                .extracting("type", "postId", "userId", "occurredAt")
+                .containsExactly(EngagementType.SHARE, 3L, 4L, 2000L);
+    }
+
+    @Test
+    @DisplayName("재시작하면 commit 된 offset 이후의 이벤트부터 다시 읽는다.")
+    void recoverAfterRestart() throws IOException {
+        // given
+        EngagementEventLog eventLog = open(16);
+        for (long postId = 1; postId <= 3; postId++) {
+            eventLog.append(new EngagementEvent(EngagementType.LIKE, postId, 1L, 1000L));
+        }
+        eventLog.commit(1L);
+
+        // when (close 없이 종료된 상황)
+        EngagementEventLog reopened = open(16);
+
+        // then
+        assertThat(reopened.getCommittedOffset()).isEqualTo(1L);
+        assertThat(reopened.backlog()).isEqualTo(2L);
+        List<EngagementEvent> events = reopened.read(reopened.getCommittedOffset(), 10).getEvents();
+        assertThat(events).extracting("postId").containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("기록 도중 잘린 레코드는 복구 시 버리고 그 위치부터 이어서 기록한다.")
+    void truncateTornRecord() throws IOException {
+        // given
+        EngagementEventLog eventLog = open(16);
+        eventLog.append(new EngagementEvent(EngagementType.VIEW, 1L, 1L, 1000L));
+        eventLog.append(new EngagementEvent(EngagementType.VIEW, 2L, 1L, 1000L));
+        eventLog.force();
+        try (RandomAccessFile file = new RandomAccessFile(segmentFiles().get(0).toFile(), "rw")) {
+            file.seek(EngagementEventLog.RECORD_SIZE + 3);
+            file.write(0x7F);
+        }
+
+        // when
+        EngagementEventLog reopened = open(16);
+        reopened.append(new EngagementEvent(EngagementType.VIEW, 3L, 1L, 1000L));
+
+        // then
+        assertThat(reopened.read(0L, 10).getEvents()).extracting("postId").containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("segment 가 가득 차면 다음 segment 로 넘어가고, 모두 반영된 segment 는 삭제한다.")
+    void rollAndRetainSegments() throws IOException {
+        // given
+        EngagementEventLog eventLog = open(2);
+        for (long postId = 1; postId <= 5; postId++) {
+            eventLog.append(new EngagementEvent(EngagementType.VIEW, postId, 1L, 1000L));
+        }
+        assertThat(segmentFiles()).hasSize(3);
+
+        // when
+        eventLog.commit(4L);
+
+        // then
+        assertThat(segmentFiles()).hasSize(1);
+        assertThat(eventLog.read(4L, 10).getEvents()).extracting("postId").containsExactly(5L);
+    }
+
+    private EngagementEventLog open(int segmentRecords) throws IOException {
+
+        EngagementEventLog eventLog = new EngagementEventLog(directory.toString(), segmentRecords);
+        eventLog.open();
+        return eventLog;
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".log")).sorted().toList();
+        }
+    }
+
+}
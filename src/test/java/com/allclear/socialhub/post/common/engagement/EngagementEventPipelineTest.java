@@ -0,0 +1,96 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EngagementEventPipeline 테스트")
+class EngagementEventPipelineTest {
+
+    @Mock
+    private EngagementEventWriter writer;
+
+    @TempDir
+    Path directory;
+
+    private EngagementEventLog eventLog;
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        eventLog = new EngagementEventLog(directory.toString(), 16);
+        eventLog.open();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("종료 시 로그에 남은 이벤트를 기록하고 offset 을 commit 한다.")
+    void stopDrainsLog() {
+        // given (consumer 를 시작하지 않은 상태)
+        EngagementEventPipeline pipeline = new EngagementEventPipeline(eventLog, writer, new SimpleMeterRegistry(), 10, 10, 1000);
+        pipeline.submit(EngagementEvent.of(EngagementType.VIEW, 1L, 1L));
+        pipeline.submit(EngagementEvent.of(EngagementType.LIKE, 1L, 1L));
+
+        // when
+        pipeline.stop();
+
+        // then
+        ArgumentCaptor<List<EngagementEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).write(captor.capture());
+        assertThat(captor.getValue()).extracting("type")
+                .containsExactly(EngagementType.VIEW, EngagementType.LIKE);
+        assertThat(eventLog.backlog()).isZero();
+        assertThat(eventLog.getCommittedOffset()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("DB 기록에 실패하면 offset 을 commit 하지 않고 로그에 남겨둔다.")
+    void keepEventsWhenWriteFails() {
+        // given
+        EngagementEventPipeline pipeline = new EngagementEventPipeline(eventLog, writer, new SimpleMeterRegistry(), 10, 10, 1000);
+        pipeline.submit(EngagementEvent.of(EngagementType.SHARE, 1L, 1L));
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(writer).write(anyList());
+
+        // when
+        pipeline.stop();
+
+        // then
+        assertThat(eventLog.backlog()).isEqualTo(1L);
+        assertThat(eventLog.getCommittedOffset()).isZero();
+    }
+
+    @Test
+    @DisplayName("미반영 레코드가 max-backlog 를 넘으면 조회 이벤트는 버리고 좋아요 이벤트는 기록한다.")
+    void dropViewWhenBacklogFull() {
+        // given
+        EngagementEventPipeline pipeline = new EngagementEventPipeline(eventLog, writer, new SimpleMeterRegistry(), 10, 1, 1000);
+        pipeline.submit(EngagementEvent.of(EngagementType.VIEW, 1L, 1L));
+
+        // when
+        pipeline.submit(EngagementEvent.of(EngagementType.VIEW, 2L, 1L));
+        pipeline.submit(EngagementEvent.of(EngagementType.LIKE, 2L, 1L));
+
+        // then
+        assertThat(eventLog.backlog()).isEqualTo(2L);
+        assertThat(eventLog.read(0L, 10).getEvents()).extracting("type")
+                .containsExactly(EngagementType.VIEW, EngagementType.LIKE);
+        verifyNoInteractions(writer);
+    }
+
+}
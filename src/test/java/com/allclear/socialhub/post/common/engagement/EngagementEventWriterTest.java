@@ -0,0 +1,214 @@
+package com.allclear.socialhub.post.common.engagement;
+
+import com.allclear.socialhub.post.common.trending.TrendingRanking;
+import com.allclear.socialhub.post.domain.PostType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EngagementEventWriter 테스트")
+class EngagementEventWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TrendingRanking trendingRanking;
+
+    private EngagementCounterBuffer buffer;
+
+    private EngagementEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+
+        buffer = new EngagementCounterBuffer(jdbcTemplate, transactionManager, new SimpleMeterRegistry(), false);
+        writer = new EngagementEventWriter(jdbcTemplate, transactionManager, buffer, trendingRanking);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("실제로 추가된 좋아요만 좋아요수와 인기 점수에 반영하고, 요청 시 더해둔 예상 증가분은 제거한다.")
+    void writeLikes() throws Exception {
+        // given
+        buffer.expect(1L, EngagementType.LIKE, 1L);
+        buffer.expect(2L, EngagementType.LIKE, 1L);
+        givenPosts(1L, 2L);
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(PreparedStatementSetter.class))).thenReturn(1, 0);
+
+        // when
+        writer.write(List.of(
+                EngagementEvent.of(EngagementType.LIKE, 1L, 10L),
+                EngagementEvent.of(EngagementType.LIKE, 2L, 10L)));
+        buffer.flush();
+
+        // then
+        verify(trendingRanking).record(1L, PostType.INSTAGRAM, EngagementType.LIKE);
+        verifyNoMoreInteractions(trendingRanking);
+        assertEquals(1L, buffer.pending(1L, EngagementType.LIKE));
+        assertEquals(0L, buffer.pending(2L, EngagementType.LIKE));
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE post "), captor.capture());
+        assertThat(captor.getValue()).containsExactly(new Object[]{0L, 1L, 0L, 1L});
+
+        ArgumentCaptor<List<EngagementEvent>> outbox = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO sns_outbox"), outbox.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(outbox.getValue()).extracting("postId").containsExactly(1L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("다시 기록되어 추가된 row 가 없는 좋아요는 외부 API 알림을 추가하지 않는다.")
+    void skipNotificationForDuplicateLike() throws Exception {
+        // given
+        givenPosts(1L);
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(PreparedStatementSetter.class))).thenReturn(0);
+
+        // when
+        writer.write(List.of(EngagementEvent.of(EngagementType.LIKE, 1L, 10L)));
+
+        // then
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("INSERT INTO sns_outbox"), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("공유는 batch 결과에서 row 가 추가된 이벤트만 외부 API 알림을 추가한다.")
+    void enqueueNotificationForInsertedShares() throws Exception {
+        // given
+        givenPosts(1L, 2L);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO post_share"), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{Statement.SUCCESS_NO_INFO, 0}});
+
+        // when
+        writer.write(List.of(
+                EngagementEvent.of(EngagementType.SHARE, 1L, 10L),
+                EngagementEvent.of(EngagementType.SHARE, 2L, 10L)));
+
+        // then
+        ArgumentCaptor<List<EngagementEvent>> outbox = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO sns_outbox"), outbox.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(outbox.getValue()).extracting("postId").containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("같은 batch 의 좋아요 후 취소는 마지막 취소만 반영하고, 삭제된 row 가 없으면 좋아요수를 바꾸지 않는다.")
+    void writeLikeThenUnlike() throws Exception {
+        // given
+        givenPosts(1L);
+        buffer.expect(1L, EngagementType.LIKE, 1L);
+        buffer.expect(1L, EngagementType.LIKE, -1L);
+        when(jdbcTemplate.update(startsWith("DELETE"), any(PreparedStatementSetter.class))).thenReturn(0);
+
+        // when
+        writer.write(List.of(
+                EngagementEvent.of(EngagementType.LIKE, 1L, 10L),
+                EngagementEvent.of(EngagementType.UNLIKE, 1L, 10L)));
+
+        // then
+        verify(jdbcTemplate, never()).update(startsWith("INSERT IGNORE"), any(PreparedStatementSetter.class));
+        verifyNoInteractions(trendingRanking);
+        assertEquals(0L, buffer.pending(1L, EngagementType.LIKE));
+    }
+
+    @Test
+    @DisplayName("재시작 전에 발생한 좋아요는 예상 증가분 없이 실제 증가분만 반영한다.")
+    void writeLikesFromPreviousRun() throws Exception {
+        // given
+        givenPosts(1L);
+        when(jdbcTemplate.update(startsWith("DELETE"), any(PreparedStatementSetter.class))).thenReturn(1);
+
+        // when
+        writer.write(List.of(new EngagementEvent(EngagementType.UNLIKE, 1L, 10L, System.currentTimeMillis() - 60_000)));
+
+        // then
+        assertEquals(-1L, buffer.pending(1L, EngagementType.LIKE));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("좋아요 기록이 실패하면 먼저 기록한 공유와 알림도 같은 트랜잭션으로 rollback 된다.")
+    void rollbackWholeBatch() throws Exception {
+        // given
+        givenPosts(1L);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO post_share"), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1}});
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE"), any(PreparedStatementSetter.class)))
+                .thenThrow(new CannotAcquireLockException("deadlock"));
+
+        // when
+        assertThrows(CannotAcquireLockException.class, () -> writer.write(List.of(
+                EngagementEvent.of(EngagementType.SHARE, 1L, 10L),
+                EngagementEvent.of(EngagementType.LIKE, 1L, 10L))));
+
+        // then
+        verify(transactionManager, times(1)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("삭제된 게시물의 이벤트는 기록하지 않는다.")
+    void skipEventsOfDeletedPosts() throws Exception {
+        // given
+        givenPosts(1L);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO post_view"), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{1}});
+
+        // when
+        writer.write(List.of(
+                EngagementEvent.of(EngagementType.VIEW, 1L, 10L),
+                EngagementEvent.of(EngagementType.VIEW, 2L, 10L)));
+
+        // then
+        ArgumentCaptor<List<EngagementEvent>> views = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO post_view"), views.capture(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        assertThat(views.getValue()).extracting("postId").containsExactly(1L);
+    }
+
+    // 조회한 게시물이 모두 INSTAGRAM 게시물로 존재
+    private void givenPosts(Long... postIds) throws SQLException {
+
+        doAnswer(invocation -> {
+            for (Long postId : postIds) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getLong("id")).thenReturn(postId);
+                when(rs.getString("type")).thenReturn("INSTAGRAM");
+                invocation.<RowCallbackHandler>getArgument(1).processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id, type"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.allclear.socialhub.post.common.export;
+
+import com.allclear.socialhub.post.domain.PostType;
+import com.allclear.socialhub.post.dto.PostListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostExportWriter 테스트")
+class PostExportWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private final PostListResponse post = PostListResponse.builder()
+            .postId(1L)
+            .type(PostType.INSTAGRAM)
+            .title("제목, \"인용\"")
+            .content("첫 줄\n둘째 줄")
+            .hashtagList(List.of("OOTD", "맛집추천"))
+            .viewCnt(3)
+            .likeCnt(2)
+            .shareCnt(1)
+            .createdAt(LocalDateTime.of(2024, 8, 23, 12, 0))
+            .updatedAt(LocalDateTime.of(2024, 8, 24, 13, 30))
+            .build();
+
+    @Test
+    @DisplayName("CSV 는 BOM 과 컬럼명 다음에 게시물마다 한 줄을 쓰고, 쉼표/따옴표/줄바꿈이 있는 값은 따옴표로 감싼다.")
+    void csv() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PostExportWriter writer = new PostExportWriter(out, PostExportFormat.CSV, objectMapper);
+
+        // when
+        writer.writeHeader();
+        writer.write(List.of(post));
+
+        // then
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "postId,type,title,content,hashtags,viewCnt,likeCnt,shareCnt,likedByMe,createdAt,updatedAt\n"
+                + "1,INSTAGRAM,\"제목, \"\"인용\"\"\",\"첫 줄\n둘째 줄\",#OOTD #맛집추천,3,2,1,false,2024-08-23 12:00:00,2024-08-24 13:30:00\n");
+    }
+
+    @Test
+    @DisplayName("NDJSON 은 chunk 를 쓸 때마다 게시물당 JSON 한 줄을 바로 내보낸다.")
+    void ndjson() throws IOException {
+        // given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PostExportWriter writer = new PostExportWriter(out, PostExportFormat.NDJSON, objectMapper);
+
+        // when
+        writer.writeHeader();
+        writer.write(List.of(post));
+        String firstChunk = out.toString(StandardCharsets.UTF_8);
+        writer.write(List.of(post.toBuilder().postId(2L).build()));
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(firstChunk).endsWith("\n").doesNotContain("postId\":2");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("postId").asLong()).isEqualTo(1L);
+        assertThat(objectMapper.readTree(lines[0]).get("createdAt").asText()).isEqualTo("2024-08-23 12:00:00");
+        assertThat(objectMapper.readTree(lines[1]).get("postId").asLong()).isEqualTo(2L);
+    }
+
+}
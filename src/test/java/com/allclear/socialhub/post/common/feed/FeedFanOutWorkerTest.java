@@ -0,0 +1,80 @@
+package com.allclear.socialhub.post.common.feed;
+
+import com.allclear.socialhub.post.common.event.PostCreatedEvent;
+import com.allclear.socialhub.post.common.feed.repository.FeedRedisRepository;
+import com.allclear.socialhub.post.common.hashtag.repository.HashtagSubscriptionRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FeedFanOutWorker 테스트")
+class FeedFanOutWorkerTest {
+
+    @Mock
+    private FeedRedisRepository feedRedisRepository;
+
+    @Mock
+    private HashtagSubscriptionRepository hashtagSubscriptionRepository;
+
+    private FeedFanOutWorker worker;
+
+    @BeforeEach
+    void setUp() {
+
+        worker = new FeedFanOutWorker(feedRedisRepository, hashtagSubscriptionRepository, new SimpleMeterRegistry(), 3, 2, 10);
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        worker.stop();
+    }
+
+    @Test
+    @DisplayName("작성자와 해시태그 구독자의 피드에 batch 단위로 게시물을 넣는다.")
+    void fanOut() {
+        // given
+        when(hashtagSubscriptionRepository.countByHashtagId(1L)).thenReturn(2L);
+        when(hashtagSubscriptionRepository.findSubscriberIds(1L, 0L, PageRequest.of(0, 2))).thenReturn(List.of(20L, 30L));
+        when(hashtagSubscriptionRepository.findSubscriberIds(1L, 30L, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        // when
+        worker.fanOut(new PostCreatedEvent(100L, 10L, List.of(1L)));
+
+        // then
+        verify(feedRedisRepository).push(List.of(10L), 100L);
+        verify(feedRedisRepository).pushToHashtag(1L, 100L);
+        verify(feedRedisRepository).push(List.of(20L, 30L), 100L);
+        verify(feedRedisRepository, never()).markHot(anyLong());
+    }
+
+    @Test
+    @DisplayName("구독자가 기준 이상인 해시태그는 구독자 피드에 넣지 않고 인기 해시태그로 표시한다.")
+    void fanOutHotHashtag() {
+        // given
+        when(hashtagSubscriptionRepository.countByHashtagId(1L)).thenReturn(3L);
+
+        // when
+        worker.fanOut(new PostCreatedEvent(100L, 10L, List.of(1L)));
+
+        // then
+        verify(feedRedisRepository).push(List.of(10L), 100L);
+        verify(feedRedisRepository).pushToHashtag(1L, 100L);
+        verify(feedRedisRepository).markHot(1L);
+        verify(hashtagSubscriptionRepository, never()).findSubscriberIds(anyLong(), anyLong(), any());
+        verify(feedRedisRepository, times(1)).push(anyCollection(), eq(100L));
+    }
+
+}
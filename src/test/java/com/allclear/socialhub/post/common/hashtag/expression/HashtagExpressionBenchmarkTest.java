@@ -0,0 +1,121 @@
+package com.allclear.socialhub.post.common.hashtag.expression;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 해시태그 5개 이상 검색식의 계산 시간 비교 (게시물 100만 건, 해시태그 30개)
+ * roaring bitmap 의 교집합/합집합/차집합과 게시물 Id HashSet 으로 같은 식을 계산하는 경우를 비교합니다.
+ * 일반 test 에서는 제외하고 ./gradlew benchmark 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+class HashtagExpressionBenchmarkTest {
+
+    private static final int POST_COUNT = 1_000_000;
+    private static final int HASHTAG_COUNT = 30;
+    private static final int ITERATIONS = 50;
+
+    private final Map<String, Roaring64NavigableMap> bitmaps = new HashMap<>();
+    private final Map<String, Set<Long>> hashSets = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+
+        // 해시태그 i 는 게시물의 약 1/(i+2) 에 달림 (인기 해시태그일수록 게시물이 많음)
+        Random random = new Random(42);
+        for (int i = 0; i < HASHTAG_COUNT; i++) {
+            bitmaps.put("tag" + i, new Roaring64NavigableMap());
+            hashSets.put("tag" + i, new HashSet<>());
+        }
+        for (long postId = 1; postId <= POST_COUNT; postId++) {
+            for (int i = 0; i < HASHTAG_COUNT; i++) {
+                if (random.nextInt(i + 2) == 0) {
+                    bitmaps.get("tag" + i).addLong(postId);
+                    hashSets.get("tag" + i).add(postId);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("해시태그 5개 이상 검색식을 bitmap 과 HashSet 으로 계산한 시간을 비교한다.")
+    void compare() {
+
+        // 해시태그 5개, 9개 검색식
+        String[] expressions = {
+                "(#tag0 OR #tag1) AND #tag2 AND #tag3 NOT #tag4",
+                "#tag0 AND #tag1 AND #tag2 AND #tag5 AND #tag6 NOT #tag7 NOT #tag8 OR #tag9"
+        };
+
+        for (int e = 0; e < expressions.length; e++) {
+            HashtagExpression expression = HashtagExpression.parse(expressions[e]);
+
+            long bitmapNanos = 0;
+            HashtagExpression.PostIdSet result = null;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long startedAt = System.nanoTime();
+                result = expression.evaluate(content -> {
+                    Roaring64NavigableMap copy = new Roaring64NavigableMap();
+                    copy.or(bitmaps.get(content));
+                    return copy;
+                });
+                bitmapNanos += System.nanoTime() - startedAt;
+            }
+
+            long hashSetNanos = 0;
+            Set<Long> expected = null;
+            for (int i = 0; i < ITERATIONS; i++) {
+                long startedAt = System.nanoTime();
+                expected = evaluateWithHashSet(e);
+                hashSetNanos += System.nanoTime() - startedAt;
+            }
+
+            log.info("검색식 : {}, 결과 게시물 수 : {}, bitmap 평균 : {} ms, HashSet 평균 : {} ms",
+                    expressions[e], result.cardinality(),
+                    bitmapNanos / ITERATIONS / 1_000_000.0, hashSetNanos / ITERATIONS / 1_000_000.0);
+            assertThat(new HashSet<>(result.toList())).isEqualTo(expected);
+        }
+    }
+
+    // HashSet 으로 같은 식 계산 (비교 대상)
+    private Set<Long> evaluateWithHashSet(int expressionIndex) {
+
+        if (expressionIndex == 0) {
+            Set<Long> result = union(hashSets.get("tag0"), hashSets.get("tag1"));
+            result.retainAll(hashSets.get("tag2"));
+            result.retainAll(hashSets.get("tag3"));
+            result.removeAll(hashSets.get("tag4"));
+            return result;
+        }
+
+        Set<Long> result = new HashSet<>(hashSets.get("tag0"));
+        for (String tag : new String[]{"tag1", "tag2", "tag5", "tag6"}) {
+            result.retainAll(hashSets.get(tag));
+        }
+        result.removeAll(hashSets.get("tag7"));
+        result.removeAll(hashSets.get("tag8"));
+        result.addAll(hashSets.get("tag9"));
+        return result;
+    }
+
+    private Set<Long> union(Set<Long> left, Set<Long> right) {
+
+        Set<Long> result = new HashSet<>(left);
+        result.addAll(right);
+        return result;
+    }
+
+}
@@ -0,0 +1,91 @@
+package com.allclear.socialhub.post.common.hashtag.expression;
+
+import com.allclear.socialhub.common.exception.CustomException;
+import com.allclear.socialhub.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@DisplayName("HashtagExpression 테스트")
+class HashtagExpressionTest {
+
+    // ootd: 1~6, summer: 2,4,6,8, ad: 4, cafe: 7,8
+    private final Map<String, long[]> postIdsByHashtag = Map.of(
+            "ootd", new long[]{1, 2, 3, 4, 5, 6},
+            "summer", new long[]{2, 4, 6, 8},
+            "ad", new long[]{4},
+            "cafe", new long[]{7, 8});
+
+    private final Function<String, Roaring64NavigableMap> lookup = content -> {
+        Roaring64NavigableMap postIds = new Roaring64NavigableMap();
+        for (long postId : postIdsByHashtag.getOrDefault(content, new long[0])) {
+            postIds.addLong(postId);
+        }
+        return postIds;
+    };
+
+    @Test
+    @DisplayName("AND 는 교집합, NOT 은 차집합으로 계산한다.")
+    void andNot() {
+        // when
+        HashtagExpression.PostIdSet postIds = HashtagExpression.parse("#ootd AND #summer NOT #ad").evaluate(lookup);
+
+        // then
+        assertThat(postIds.isNegated()).isFalse();
+        assertThat(postIds.toList()).containsExactly(2L, 6L);
+    }
+
+    @Test
+    @DisplayName("OR 는 AND 보다 우선순위가 낮고, 괄호로 우선순위를 바꿀 수 있다.")
+    void precedence() {
+        // when // then
+        assertThat(HashtagExpression.parse("#cafe OR #ootd AND #ad").evaluate(lookup).toList()).containsExactly(4L, 7L, 8L);
+        assertThat(HashtagExpression.parse("(#cafe OR #ootd) AND #summer").evaluate(lookup).toList()).containsExactly(2L, 4L, 6L, 8L);
+    }
+
+    @Test
+    @DisplayName("NOT 만 있으면 제외할 게시물 집합으로 표시한다.")
+    void negatedOnly() {
+        // when
+        HashtagExpression.PostIdSet postIds = HashtagExpression.parse("NOT #ad AND NOT #cafe").evaluate(lookup);
+
+        // then
+        assertThat(postIds.isNegated()).isTrue();
+        assertThat(postIds.toList()).containsExactly(4L, 7L, 8L);
+        assertThat(postIds.contains(1L)).isTrue();
+        assertThat(postIds.contains(7L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("'#' 없는 해시태그 하나도 기존처럼 검색하고, 빈 값이면 null 을 반환한다.")
+    void singleHashtag() {
+        // when // then
+        assertThat(HashtagExpression.parse("summer").evaluate(lookup).toList()).containsExactly(2L, 4L, 6L, 8L);
+        assertThat(HashtagExpression.parse(" ")).isNull();
+    }
+
+    @Test
+    @DisplayName("인덱스를 사용할 수 없으면 null 을 반환한다.")
+    void indexNotReady() {
+        // when // then
+        assertThat(HashtagExpression.parse("#ootd OR #summer").evaluate(content -> null)).isNull();
+    }
+
+    @Test
+    @DisplayName("문법이 틀린 검색식이면 CustomException 을 발생시킨다.")
+    void invalidExpression() {
+        // when // then
+        for (String expression : new String[]{"#ootd AND", "(#ootd OR #summer", "#ootd )", "OR #ootd", "##ootd", "#"}) {
+            CustomException customException = assertThrows(CustomException.class, () -> HashtagExpression.parse(expression));
+            assertEquals(ErrorCode.INVALID_HASHTAG_EXPRESSION, customException.getErrorCode());
+        }
+    }
+
+}
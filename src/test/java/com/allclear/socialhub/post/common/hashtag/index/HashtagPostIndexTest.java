@@ -0,0 +1,94 @@
+package com.allclear.socialhub.post.common.hashtag.index;
+
+import com.allclear.socialhub.post.common.hashtag.domain.Hashtag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.longlong.Roaring64NavigableMap;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HashtagPostIndex 테스트")
+class HashtagPostIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private HashtagPostIndex index;
+
+    private final Hashtag ootd = new Hashtag(1L, "OOTD");
+    private final Hashtag food = new Hashtag(2L, "맛집추천");
+
+    @BeforeEach
+    void setUp() {
+
+        index = new HashtagPostIndex(jdbcTemplate, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("인덱스가 생성되기 전에는 null 을 반환한다.")
+    void beforeLoad() {
+        // when // then
+        assertThat(index.postIds("OOTD")).isNull();
+    }
+
+    @Test
+    @DisplayName("해시태그별 게시물 Id 를 bitmap 으로 반환하고, 없는 해시태그는 빈 bitmap 을 반환한다.")
+    void postIds() {
+        // given
+        index.load();
+        for (long postId = 1; postId <= 5; postId++) {
+            index.add(ootd, postId);
+        }
+        index.add(food, 5L);
+
+        // when // then
+        assertThat(index.postIds("OOTD").getLongCardinality()).isEqualTo(5L);
+        assertThat(index.postIds("맛집추천").toArray()).containsExactly(5L);
+        assertThat(index.postIds("없는해시태그").isEmpty()).isTrue();
+    }
+
+    @Test
+    @DisplayName("DB 비교처럼 대소문자, 악센트 구분 없이 찾고, 그렇게 같아지는 해시태그는 게시물을 합쳐서 반환한다.")
+    void postIdsIgnoringCase() {
+        // given
+        index.load();
+        index.add(ootd, 1L);
+        index.add(new Hashtag(3L, "ootd"), 2L);
+        index.add(new Hashtag(4L, "Café"), 3L);
+
+        // when // then
+        assertThat(index.postIds("ootd").toArray()).containsExactly(1L, 2L);
+        assertThat(index.postIds("OoTd").toArray()).containsExactly(1L, 2L);
+        assertThat(index.postIds("cafe").toArray()).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("연관관계가 삭제된 게시물은 제외하고, 반환된 bitmap 을 바꿔도 인덱스는 바뀌지 않는다.")
+    void remove() {
+        // given
+        index.load();
+        index.add(ootd, 1L);
+        index.add(ootd, 2L);
+        index.add(food, 2L);
+
+        // when
+        index.remove(List.of(1L, 2L), 2L);
+        Roaring64NavigableMap postIds = index.postIds("OOTD");
+        postIds.addLong(100L);
+
+        // then
+        assertThat(postIds.contains(1L)).isTrue();
+        assertThat(index.postIds("OOTD").toArray()).containsExactly(1L);
+        assertThat(index.postIds("맛집추천").isEmpty()).isTrue();
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.allclear.socialhub.post.common.hashtag.index;
+
+import com.allclear.socialhub.post.common.hashtag.domain.Hashtag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HashtagSuggestIndex 테스트")
+class HashtagSuggestIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private HashtagSuggestIndex index;
+
+    private final Hashtag ootd = new Hashtag(1L, "OOTD");
+    private final Hashtag ootdSummer = new Hashtag(2L, "ootd_summer");
+    private final Hashtag ootn = new Hashtag(3L, "OOTN");
+    private final Hashtag food = new Hashtag(4L, "맛집추천");
+
+    @BeforeEach
+    void setUp() {
+
+        index = new HashtagSuggestIndex(jdbcTemplate, new SimpleMeterRegistry(), 2);
+    }
+
+    @Test
+    @DisplayName("trie 가 생성되기 전에는 빈 목록을 반환한다.")
+    void beforeLoad() {
+        // given
+        index.increment(ootd);
+
+        // when // then
+        assertThat(index.suggest("oo", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 해시태그를 대소문자 구분 없이 사용 횟수 순으로 최대 max-size 개 반환한다.")
+    void suggest() {
+        // given
+        index.load();
+        increment(ootd, 3);
+        increment(ootdSummer, 2);
+        increment(ootn, 1);
+        increment(food, 1);
+
+        // when // then
+        assertThat(index.suggest("oo", 10)).containsExactly("OOTD", "ootd_summer");
+        assertThat(index.suggest("OOTD", 1)).containsExactly("OOTD");
+        assertThat(index.suggest("ootn", 10)).containsExactly("OOTN");
+        assertThat(index.suggest("맛집", 10)).containsExactly("맛집추천");
+        assertThat(index.suggest("없는", 10)).isEmpty();
+        assertThat(index.suggest("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("사용 횟수가 바뀌면 순위를 다시 계산하고, 상위에서 빠진 자리는 다음 해시태그로 채운다.")
+    void reorder() {
+        // given
+        index.load();
+        increment(ootd, 3);
+        increment(ootdSummer, 2);
+        increment(ootn, 1);
+
+        // when
+        increment(ootn, 3);
+        List<String> afterIncrement = index.suggest("oo", 10);
+        index.decrement(List.of(1L, 1L, 1L));
+        List<String> afterDecrement = index.suggest("oo", 10);
+
+        // then
+        assertThat(afterIncrement).containsExactly("OOTN", "OOTD");
+        assertThat(afterDecrement).containsExactly("OOTN", "ootd_summer");
+    }
+
+    @Test
+    @DisplayName("새로 등록된 해시태그는 사용 횟수가 없어도 자동완성에 포함된다.")
+    void register() {
+        // given
+        index.load();
+
+        // when
+        index.register(food);
+        index.register(food);
+
+        // then
+        assertThat(index.suggest("맛", 10)).containsExactly("맛집추천");
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private void increment(Hashtag hashtag, int times) {
+
+        for (int i = 0; i < times; i++) {
+            index.increment(hashtag);
+        }
+    }
+
+}
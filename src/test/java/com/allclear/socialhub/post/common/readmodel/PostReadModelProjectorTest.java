@@ -0,0 +1,83 @@
+package com.allclear.socialhub.post.common.readmodel;
+
+import com.allclear.socialhub.post.common.event.PostChangedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostReadModelProjector 테스트")
+class PostReadModelProjectorTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("게시물 변경 이벤트를 받으면 원본에서 다시 읽어 덮어쓰고, 원본에 없으면 삭제한다.")
+    void refreshOnEvent() {
+        // given
+        PostReadModelProjector projector = new PostReadModelProjector(jdbcTemplate, true, 5000);
+
+        // when
+        projector.on(new PostChangedEvent(7L));
+
+        // then
+        verify(jdbcTemplate).update(contains("WHERE p.id = ? ON DUPLICATE KEY UPDATE"), eq(7L));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM post_read_model"), eq(7L), eq(7L));
+    }
+
+    @Test
+    @DisplayName("읽기 모델을 사용하지 않으면 이벤트를 무시한다.")
+    void ignoreWhenDisabled() {
+        // given
+        PostReadModelProjector projector = new PostReadModelProjector(jdbcTemplate, false, 5000);
+
+        // when
+        projector.on(new PostChangedEvent(7L));
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(projector.isReady()).isFalse();
+    }
+
+    @Test
+    @DisplayName("반영에 실패해도 예외를 전파하지 않는다.")
+    void swallowFailure() {
+        // given
+        PostReadModelProjector projector = new PostReadModelProjector(jdbcTemplate, true, 5000);
+        when(jdbcTemplate.update(anyString(), eq(7L))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        projector.on(new PostChangedEvent(7L));
+
+        // then
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM post_read_model"), any(), any());
+    }
+
+    @Test
+    @DisplayName("backfill 은 id 구간별로 반영하고 삭제된 게시물을 정리한 뒤 조회에 사용한다.")
+    void backfill() {
+        // given
+        PostReadModelProjector projector = new PostReadModelProjector(jdbcTemplate, true, 5000);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(12_000L);
+
+        // when
+        projector.backfill();
+
+        // then
+        verify(jdbcTemplate).update(contains("WHERE p.id >= ? AND p.id < ?"), eq(1L), eq(5001L));
+        verify(jdbcTemplate).update(contains("WHERE p.id >= ? AND p.id < ?"), eq(5001L), eq(10001L));
+        verify(jdbcTemplate).update(contains("WHERE p.id >= ? AND p.id < ?"), eq(10001L), eq(15001L));
+        verify(jdbcTemplate).update(startsWith("DELETE r FROM post_read_model"));
+        assertThat(projector.isReady()).isTrue();
+    }
+
+}
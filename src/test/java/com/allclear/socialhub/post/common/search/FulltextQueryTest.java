@@ -0,0 +1,29 @@
+package com.allclear.socialhub.post.common.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("FulltextQuery 테스트")
+class FulltextQueryTest {
+
+    @Test
+    @DisplayName("단어마다 필수 phrase 로 감싸고 boolean 연산자는 제거한다.")
+    void toBooleanQuery() {
+        // when // then
+        assertThat(FulltextQuery.toBooleanQuery("성수동  맛집")).isEqualTo("+\"성수동\" +\"맛집\"");
+        assertThat(FulltextQuery.toBooleanQuery("-맛집* (카페)")).isEqualTo("+\"맛집\" +\"카페\"");
+    }
+
+    @Test
+    @DisplayName("빈 검색어나 ngram 크기보다 짧은 단어가 있으면 null 을 반환한다.")
+    void toBooleanQueryNotSupported() {
+        // when // then
+        assertThat(FulltextQuery.toBooleanQuery("")).isNull();
+        assertThat(FulltextQuery.toBooleanQuery("  ")).isNull();
+        assertThat(FulltextQuery.toBooleanQuery("+-*")).isNull();
+        assertThat(FulltextQuery.toBooleanQuery("맛 집")).isNull();
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.allclear.socialhub.post.common.search;
+
+import com.allclear.socialhub.post.domain.PostType;
+import com.allclear.socialhub.post.dto.PostListResponse;
+import com.allclear.socialhub.post.dto.PostPaging;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("PostSearchCache 테스트")
+class PostSearchCacheTest {
+
+    private final PostSearchCache cache = new PostSearchCache(new SimpleMeterRegistry(), 10_000, 100);
+
+    @Test
+    @DisplayName("정규화한 조건이 같으면 보관한 결과의 복사본을 반환한다.")
+    void getCopy() {
+        // given
+        PostSearchCache.Key key = key("#OOTD  AND #성수동", null, " Hello ", "title,content");
+        cache.put(key, paging());
+
+        // when
+        PostPaging cached = cache.get(key("#OOTD AND #성수동", null, "hello", "CONTENT,TITLE"));
+        ((PostListResponse) cached.getPostList().get(0)).setLikedByMe(true);
+
+        // then
+        assertThat(cached.getPostList()).hasSize(1);
+        assertThat(((PostListResponse) cache.get(key).getPostList().get(0)).isLikedByMe()).isFalse();
+    }
+
+    @Test
+    @DisplayName("ttl 이 지난 결과는 반환하지 않는다.")
+    void expired() {
+        // given
+        PostSearchCache expiringCache = new PostSearchCache(new SimpleMeterRegistry(), -1, 100);
+        PostSearchCache.Key key = key(null, null, "", null);
+        expiringCache.put(key, paging());
+
+        // when // then
+        assertThat(expiringCache.get(key)).isNull();
+        assertThat(expiringCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("NOT 이 없는 해시태그 검색식은 검색식의 해시태그가 바뀐 경우에만 삭제한다.")
+    void invalidateByHashtag() {
+        // given
+        PostSearchCache.Key key = key("#OOTD OR #성수동", PostType.INSTAGRAM, "", null);
+        cache.put(key, paging());
+
+        // when
+        cache.invalidate(PostType.INSTAGRAM, List.of("맛집"));
+        cache.invalidate(PostType.TWITTER, List.of("ootd"));
+
+        // then
+        assertThat(cache.get(key)).isNotNull();
+
+        cache.invalidate(PostType.INSTAGRAM, List.of("#ootd"));
+        assertThat(cache.get(key)).isNull();
+    }
+
+    @Test
+    @DisplayName("NOT 이 있거나 해시태그가 없는 조건은 같은 타입의 게시물이 바뀌면 삭제한다.")
+    void invalidateByType() {
+        // given
+        PostSearchCache.Key notKey = key("NOT #OOTD", null, "", null);
+        PostSearchCache.Key typeKey = key(null, PostType.TWITTER, "", null);
+        cache.put(notKey, paging());
+        cache.put(typeKey, paging());
+
+        // when
+        cache.invalidate(PostType.INSTAGRAM, List.of());
+
+        // then
+        assertThat(cache.get(notKey)).isNull();
+        assertThat(cache.get(typeKey)).isNotNull();
+    }
+
+    private PostSearchCache.Key key(String hashtag, PostType type, String query, String searchBy) {
+
+        return PostSearchCache.Key.of(PageRequest.of(0, 10), "user", hashtag, type, query,
+                "createdAt", "desc", searchBy, false);
+    }
+
+    private PostPaging paging() {
+
+        PostListResponse post = PostListResponse.builder()
+                .postId(1L)
+                .title("title")
+                .build();
+        return new PostPaging(1, List.of(post), 10, 0, 1);
+    }
+
+}
@@ -0,0 +1,140 @@
+package com.allclear.socialhub.post.common.search;
+
+import com.allclear.socialhub.post.domain.SearchByType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostSearchIndex 테스트")
+class PostSearchIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+
+        // 빈 DB 로 색인 생성
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class))).thenReturn(0L);
+        index = new PostSearchIndex(jdbcTemplate, PostSearchBackend.INDEX, 3, 2, 100, 0.2);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("단어를 소문자 bigram 으로 나누고 1글자 단어는 그대로 둔다.")
+    void tokenize() {
+        // when // then
+        assertThat(PostSearchIndex.tokenize("맛집 추천해요! A")).containsExactly("맛집", "추천", "천해", "해요", "a");
+    }
+
+    @Test
+    @DisplayName("검색어의 모든 bigram 을 포함한 게시물을 찾고, 검색어가 많이 나오는 게시물을 먼저 정렬한다.")
+    void search() {
+        // given
+        index.index(1L, "성수동 맛집추천", "맛집추천 맛집추천 리스트");
+        index.index(2L, "망원동 카페", "맛집추천 하나");
+        index.index(3L, "오늘의 OOTD", "데일리 코디");
+
+        // when
+        PostSearchIndex.Hits hits = index.search("맛집 추천", EnumSet.noneOf(SearchByType.class));
+
+        // then
+        List<Long> postIds = hits.getPostIds();
+        postIds.sort(hits.byRelevance());
+        assertThat(postIds).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("검색 범위를 제목으로 지정하면 제목에 검색어가 있는 게시물만 찾는다.")
+    void searchByTitle() {
+        // given
+        index.index(1L, "성수동 맛집추천", "리스트");
+        index.index(2L, "망원동 카페", "맛집추천 하나");
+
+        // when
+        PostSearchIndex.Hits hits = index.search("맛집", EnumSet.of(SearchByType.TITLE));
+
+        // then
+        assertThat(hits.getPostIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("수정된 게시물은 새 내용으로만 찾고, 삭제된 게시물은 찾지 않는다.")
+    void updateAndRemove() {
+        // given
+        index.index(1L, "성수동 맛집", "내용");
+        index.index(2L, "성수동 팝업", "내용");
+
+        // when
+        index.index(1L, "망원동 카페", "내용");
+        index.remove(2L);
+
+        // then
+        assertThat(index.search("성수동", EnumSet.noneOf(SearchByType.class)).getPostIds()).isEmpty();
+        assertThat(index.search("망원동", EnumSet.noneOf(SearchByType.class)).getPostIds()).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제 표시된 문서 비율이 기준을 넘으면 삭제된 문서를 정리하고, 정리 후에도 같은 결과를 찾는다.")
+    void compactDeletedDocuments() {
+        // given
+        index.index(1L, "성수동 맛집", "내용");
+        index.index(2L, "성수동 팝업", "내용");
+        index.index(1L, "망원동 카페", "내용");
+        index.index(1L, "망원동 맛집", "내용");
+        index.remove(2L);
+        PostSearchIndex.Hits before = index.search("망원동", EnumSet.noneOf(SearchByType.class));
+
+        // when
+        index.compactIfNeeded();
+        index.index(3L, "망원동 팝업", "내용");
+
+        // then
+        assertThat(index.deletedCount()).isZero();
+        assertThat(before.getPostIds()).containsExactly(1L);
+        assertThat(index.search("성수동", EnumSet.noneOf(SearchByType.class)).getPostIds()).isEmpty();
+        assertThat(index.search("망원동 맛집", EnumSet.noneOf(SearchByType.class)).getPostIds()).containsExactly(1L);
+        assertThat(index.search("망원동", EnumSet.noneOf(SearchByType.class)).getPostIds()).containsExactlyInAnyOrder(1L, 3L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("검색 결과가 max-candidates 를 넘으면 DB 로 검색하도록 null 을 반환한다.")
+    void tooManyCandidates() {
+        // given
+        for (long postId = 1; postId <= 4; postId++) {
+            index.index(postId, "브런치 맛집", "내용");
+        }
+
+        // when // then
+        assertThat(index.search("브런치", EnumSet.noneOf(SearchByType.class))).isNull();
+    }
+
+    @Test
+    @DisplayName("색인이 생성되기 전에는 null 을 반환한다.")
+    void searchBeforeRebuild() {
+        // given
+        PostSearchIndex notReady = new PostSearchIndex(jdbcTemplate, PostSearchBackend.INDEX, 3, 2, 100, 0.2);
+        notReady.index(1L, "브런치 맛집", "내용");
+
+        // when // then
+        assertThat(notReady.search("브런치", EnumSet.noneOf(SearchByType.class))).isNull();
+    }
+
+}
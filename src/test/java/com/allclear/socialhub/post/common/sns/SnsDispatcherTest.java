@@ -0,0 +1,107 @@
+package com.allclear.socialhub.post.common.sns;
+
+import com.allclear.socialhub.post.domain.PostType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SnsDispatcher 테스트")
+class SnsDispatcherTest {
+
+    private HttpServer server;
+    private final AtomicInteger failuresBeforeSuccess = new AtomicInteger();
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final List<String> requestBodies = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/", exchange -> {
+            requestCount.incrementAndGet();
+            requestBodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            int status = failuresBeforeSuccess.getAndDecrement() > 0 ? 503 : 200;
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("외부 API 를 비동기로 호출하고 요청 본문을 JSON 으로 전송한다.")
+    void dispatch() throws Exception {
+        // given
+        SnsDispatcher dispatcher = createDispatcher(3, 5);
+
+        // when
+        boolean success = dispatcher.dispatch(PostType.INSTAGRAM, "likes", Map.of("contentId", "instagram"))
+                .get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(success).isTrue();
+        assertThat(requestBodies).containsExactly("{\"contentId\":\"instagram\"}");
+    }
+
+    @Test
+    @DisplayName("5xx 응답이면 backoff 후 재시도한다.")
+    void retryOnServerError() throws Exception {
+        // given
+        SnsDispatcher dispatcher = createDispatcher(3, 5);
+        failuresBeforeSuccess.set(2);
+
+        // when
+        boolean success = dispatcher.dispatch(PostType.TWITTER, "share", Map.of()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(success).isTrue();
+        assertThat(requestCount).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("연속 실패가 기준에 도달하면 circuit 을 열고 더 이상 호출하지 않는다.")
+    void openCircuitAfterFailures() throws Exception {
+        // given
+        SnsDispatcher dispatcher = createDispatcher(1, 2);
+        failuresBeforeSuccess.set(Integer.MAX_VALUE);
+        dispatcher.dispatch(PostType.FACEBOOK, "likes", Map.of()).get(5, TimeUnit.SECONDS);
+        dispatcher.dispatch(PostType.FACEBOOK, "likes", Map.of()).get(5, TimeUnit.SECONDS);
+
+        // when
+        boolean success = dispatcher.dispatch(PostType.FACEBOOK, "likes", Map.of()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(success).isFalse();
+        assertThat(requestCount).hasValue(2);
+        assertThat(dispatcher.circuitState(PostType.FACEBOOK)).isEqualTo(SnsCircuitBreaker.State.OPEN);
+        assertThat(dispatcher.circuitState(PostType.THREADS)).isEqualTo(SnsCircuitBreaker.State.CLOSED);
+    }
+
+    private SnsDispatcher createDispatcher(int maxAttempts, int failureThreshold) {
+
+        String baseUrl = "http://localhost:" + server.getAddress().getPort() + "/{network}";
+        return new SnsDispatcher(new ObjectMapper(), new SimpleMeterRegistry(), baseUrl,
+                1000, 1000, 4, maxAttempts, 10, failureThreshold, 60_000);
+    }
+
+}
@@ -0,0 +1,154 @@
+package com.allclear.socialhub.post.common.sns;
+
+import com.allclear.socialhub.post.domain.PostType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SnsOutboxRelay 테스트")
+class SnsOutboxRelayTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private SnsDispatcher snsDispatcher;
+
+    private SnsOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+
+        relay = new SnsOutboxRelay(jdbcTemplate, transactionManager, snsDispatcher, new SimpleMeterRegistry(),
+                1000, 2, 30_000, 10, 1000, 86_400_000);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("전송 결과에 따라 성공은 DONE, 실패는 재시도 예약, 최대 시도 도달은 FAILED 로 변경한다.")
+    void relay() {
+        // given
+        List<SnsOutboxRelay.OutboxRow> rows = List.of(
+                new SnsOutboxRelay.OutboxRow(1L, PostType.INSTAGRAM, 10L, "likes", 0),
+                new SnsOutboxRelay.OutboxRow(2L, PostType.TWITTER, 20L, "share", 0),
+                new SnsOutboxRelay.OutboxRow(3L, PostType.FACEBOOK, 30L, "likes", 9));
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), any(), any())).thenReturn(rows);
+        when(snsDispatcher.dispatch(eq(PostType.INSTAGRAM), eq("likes"), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+        when(snsDispatcher.dispatch(eq(PostType.TWITTER), eq("share"), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+        when(snsDispatcher.dispatch(eq(PostType.FACEBOOK), eq("likes"), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(false));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        ArgumentCaptor<List<Object[]>> done = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> retry = ArgumentCaptor.forClass(List.class);
+        ArgumentCaptor<List<Object[]>> failed = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE sns_outbox SET next_attempt_at"), anyList());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE sns_outbox SET status = 'DONE'"), done.capture());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE sns_outbox SET attempts"), retry.capture());
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE sns_outbox SET status = 'FAILED'"), failed.capture());
+
+        assertThat(done.getValue()).extracting(args -> args[1]).containsExactly(1L);
+        assertThat(retry.getValue()).extracting(args -> args[2]).containsExactly(2L);
+        assertThat(failed.getValue()).extracting(args -> args[1]).containsExactly(3L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("같은 게시물의 같은 알림은 개수를 담아 한 번만 전송하고 묶인 알림을 모두 DONE 으로 변경한다.")
+    void coalesce() {
+        // given
+        List<SnsOutboxRelay.OutboxRow> rows = List.of(
+                new SnsOutboxRelay.OutboxRow(1L, PostType.INSTAGRAM, 10L, "likes", 0),
+                new SnsOutboxRelay.OutboxRow(2L, PostType.INSTAGRAM, 10L, "likes", 0),
+                new SnsOutboxRelay.OutboxRow(3L, PostType.INSTAGRAM, 10L, "share", 0),
+                new SnsOutboxRelay.OutboxRow(4L, PostType.INSTAGRAM, 10L, "likes", 1));
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), any(), any())).thenReturn(rows);
+        when(snsDispatcher.dispatch(eq(PostType.INSTAGRAM), anyString(), anyMap()))
+                .thenReturn(CompletableFuture.completedFuture(true));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        verify(snsDispatcher).dispatch(PostType.INSTAGRAM, "likes", Map.of("contentId", "instagram", "postId", 10L, "count", 3));
+        verify(snsDispatcher).dispatch(PostType.INSTAGRAM, "share", Map.of("contentId", "instagram", "postId", 10L, "count", 1));
+
+        ArgumentCaptor<List<Object[]>> done = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE sns_outbox SET status = 'DONE'"), done.capture());
+        assertThat(done.getValue()).extracting(args -> args[1]).containsExactlyInAnyOrder(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("전송할 알림이 없으면 아무것도 전송하지 않는다.")
+    void relayNothing() {
+        // given
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), any(), any())).thenReturn(List.of());
+
+        // when
+        relay.relayBatch();
+
+        // then
+        verifyNoInteractions(snsDispatcher);
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("lease 의 절반이 지나면 보내지 않은 알림은 시도 횟수를 올리지 않고 돌려놓는다.")
+    void releaseAfterLease() {
+        // given
+        relay = new SnsOutboxRelay(jdbcTemplate, transactionManager, snsDispatcher, new SimpleMeterRegistry(),
+                1000, 2, 0, 10, 1000, 86_400_000);
+        List<SnsOutboxRelay.OutboxRow> rows = List.of(
+                new SnsOutboxRelay.OutboxRow(1L, PostType.INSTAGRAM, 10L, "likes", 0),
+                new SnsOutboxRelay.OutboxRow(2L, PostType.TWITTER, 20L, "share", 0));
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), any(), any())).thenReturn(rows);
+
+        // when
+        relay.relayBatch();
+
+        // then
+        ArgumentCaptor<List<Object[]>> released = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(2)).batchUpdate(startsWith("UPDATE sns_outbox SET next_attempt_at"), released.capture());
+        assertThat(released.getAllValues().get(1)).extracting(args -> args[1]).containsExactly(1L, 2L);
+        verifyNoInteractions(snsDispatcher);
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE sns_outbox SET status"), anyList());
+        verify(jdbcTemplate, never()).batchUpdate(startsWith("UPDATE sns_outbox SET attempts"), anyList());
+    }
+
+    @Test
+    @DisplayName("재시도 대기 시간은 시도마다 2배로 늘어나고 최대 10분을 넘지 않는다.")
+    void nextRetryDelay() {
+        // when // then
+        assertThat(relay.nextRetryDelay(0)).isEqualTo(1000L);
+        assertThat(relay.nextRetryDelay(3)).isEqualTo(8000L);
+        assertThat(relay.nextRetryDelay(30)).isEqualTo(10 * 60 * 1000L);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.allclear.socialhub.post.common.trending;
+
+import com.allclear.socialhub.post.common.engagement.EngagementType;
+import com.allclear.socialhub.post.common.hashtag.repository.PostHashtagRepository;
+import com.allclear.socialhub.post.common.trending.repository.TrendingRedisRepository;
+import com.allclear.socialhub.post.domain.PostType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrendingRanking 테스트")
+class TrendingRankingTest {
+
+    private static final long HALF_LIFE = 1000L;
+    private static final long EPOCH_LENGTH = HALF_LIFE * 32;
+
+    @Mock
+    private TrendingRedisRepository trendingRedisRepository;
+
+    @Mock
+    private PostHashtagRepository postHashtagRepository;
+
+    private TrendingRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+
+        ranking = new TrendingRanking(trendingRedisRepository, postHashtagRepository, new SimpleMeterRegistry(), HALF_LIFE, 1, 5, 10);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("이벤트 점수는 가중치에 구간 시작부터 지난 half-life 수만큼 2배씩 곱해 더한다.")
+    void flush() {
+        // given
+        long epochStart = EPOCH_LENGTH * 2;
+        ranking.record(1L, PostType.INSTAGRAM, EngagementType.VIEW, epochStart);
+        ranking.record(1L, PostType.INSTAGRAM, EngagementType.LIKE, epochStart + HALF_LIFE);
+        ranking.record(1L, PostType.INSTAGRAM, EngagementType.UNLIKE, epochStart + HALF_LIFE);
+        when(postHashtagRepository.findHashtagContentsByPostIds(List.of(1L))).thenReturn(Map.of(1L, List.of("OOTD")));
+
+        // when
+        ranking.flush();
+
+        // then
+        ArgumentCaptor<Collection<TrendingRedisRepository.Increment>> increments = ArgumentCaptor.forClass(Collection.class);
+        verify(trendingRedisRepository).increment(eq(2L), eq(EPOCH_LENGTH * 2), increments.capture());
+
+        TrendingRedisRepository.Increment increment = increments.getValue().iterator().next();
+        assertThat(increment.getPostId()).isEqualTo(1L);
+        assertThat(increment.getType()).isEqualTo(PostType.INSTAGRAM);
+        assertThat(increment.getHashtags()).containsExactly("OOTD");
+        assertThat(increment.getScore()).isCloseTo(1 + 5 * 2, within(1e-9));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("Redis 반영에 실패하면 점수를 다시 누적해 다음 주기에 반영한다.")
+    void flushRetry() {
+        // given
+        ranking.record(1L, PostType.TWITTER, EngagementType.SHARE, EPOCH_LENGTH);
+        when(postHashtagRepository.findHashtagContentsByPostIds(List.of(1L))).thenReturn(Map.of(1L, List.of()));
+        doThrow(new IllegalStateException("redis down")).doNothing()
+                .when(trendingRedisRepository).increment(anyLong(), anyLong(), anyCollection());
+
+        // when
+        ranking.flush();
+        ranking.flush();
+
+        // then
+        ArgumentCaptor<Collection<TrendingRedisRepository.Increment>> increments = ArgumentCaptor.forClass(Collection.class);
+        verify(trendingRedisRepository, times(2)).increment(eq(1L), anyLong(), increments.capture());
+        assertThat(increments.getValue().iterator().next().getScore()).isCloseTo(10, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("누적된 점수가 없으면 Redis 를 호출하지 않는다.")
+    void flushNothing() {
+        // when
+        ranking.flush();
+
+        // then
+        verifyNoInteractions(trendingRedisRepository, postHashtagRepository);
+    }
+
+}
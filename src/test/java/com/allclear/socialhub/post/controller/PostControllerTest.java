@@ -3,7 +3,9 @@ package com.allclear.socialhub.post.controller;
 import com.allclear.socialhub.auth.util.AccessTokenUtil;
 import com.allclear.socialhub.post.common.like.dto.PostLikeResponse;
 import com.allclear.socialhub.post.common.share.dto.PostShareResponse;
+import com.allclear.socialhub.post.dto.PostCursorPaging;
 import com.allclear.socialhub.post.dto.PostDetailResponse;
+import com.allclear.socialhub.post.dto.PostListResponse;
 import com.allclear.socialhub.post.dto.PostPaging;
 import com.allclear.socialhub.post.dto.PostResponse;
 import com.allclear.socialhub.post.service.PostServiceImpl;
@@ -24,11 +26,13 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Predicate;
 
 import static com.allclear.socialhub.post.domain.PostType.FACEBOOK;
 import static com.allclear.socialhub.post.domain.PostType.INSTAGRAM;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -79,7 +83,7 @@ class PostControllerTest {
         PostPaging postPaging = new PostPaging(2, postList, 10, 0, 1);
         ResponseEntity<PostPaging> result = new ResponseEntity<>(postPaging, HttpStatus.OK);
 
-        when(postService.getPosts(any(Pageable.class))).thenReturn(result.getBody());
+        when(postService.getPosts(any(Pageable.class), eq("test"), eq(true), any())).thenReturn(result.getBody());
 
         // when // then
         mockMvc.perform(get("/api/posts")
@@ -100,7 +104,34 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.postList[1].title").value("영화 추천"))
                 .andExpect(jsonPath("$.postList[1].content").value("영화 추천합니다"));
 
-        verify(postService).getPosts(any(Pageable.class));
+        verify(postService).getPosts(any(Pageable.class), eq("test"), eq(true), any());
+    }
+
+    @DisplayName("after 파라미터가 있으면 cursor 방식으로 게시물 목록을 조회합니다.")
+    @Test
+    void getPostsByCursor() throws Exception {
+        // given
+        List<PostListResponse> postList = List.of(
+                PostListResponse.builder().postId(9L).type(INSTAGRAM).title("망원동 맛집").build(),
+                PostListResponse.builder().postId(8L).type(FACEBOOK).title("영화 추천").build());
+        PostCursorPaging postCursorPaging = new PostCursorPaging(postList, 2, true, "nextCursorToken");
+
+        when(postService.getPostsByCursor("", 2, "test")).thenReturn(postCursorPaging);
+
+        // when // then
+        mockMvc.perform(get("/api/posts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .param("after", "")
+                        .param("size", "2")
+                        .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postList[0].postId").value(9))
+                .andExpect(jsonPath("$.postList[1].postId").value(8))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("nextCursorToken"));
+
+        verify(postService).getPostsByCursor("", 2, "test");
+        verify(postService, never()).getPosts(any(Pageable.class), anyString(), anyBoolean(), any());
     }
 
     @DisplayName("게시물 상세를 조회합니다.")
@@ -109,7 +140,7 @@ class PostControllerTest {
         // given
         PostDetailResponse response = createPostDetailResponse();
 
-        when(postService.getPostDetail(response.getPostId(), "test")).thenReturn(response);
+        when(postService.getPostDetail(eq(response.getPostId()), eq("test"), any())).thenReturn(response);
 
         // when // then
         mockMvc.perform(
@@ -128,6 +159,55 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.shareCnt").value(response.getShareCnt()));
     }
 
+    @DisplayName("게시물 여러 건을 조회하며 recordView=false 를 서비스에 전달합니다.")
+    @Test
+    void getPostDetails() throws Exception {
+        // given
+        PostDetailResponse response = createPostDetailResponse();
+
+        when(postService.getPostDetails(List.of(response.getPostId(), 999L), "test", false)).thenReturn(List.of(response));
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/posts/batch")
+                                .param("ids", response.getPostId() + ",999")
+                                .param("recordView", "false")
+                                .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].postId").value(response.getPostId()))
+                .andExpect(jsonPath("$[0].hashtagList[0]").value(response.getHashtagList().get(0)));
+
+        verify(postService).getPostDetails(List.of(response.getPostId(), 999L), "test", false);
+    }
+
+    @DisplayName("If-None-Match 가 게시물 상세의 ETag 와 같으면 본문 없이 304 를 반환합니다.")
+    @Test
+    void getPostDetailNotModified() throws Exception {
+        // given
+        PostDetailResponse response = createPostDetailResponse();
+
+        when(postService.getPostDetail(eq(response.getPostId()), eq("test"), any())).thenAnswer(invocation -> {
+            Predicate<String> notModified = invocation.getArgument(2);
+            return notModified.test("etag-1") ? null : response;
+        });
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/posts/{postId}", response.getPostId())
+                                .header("Authorization", "Bearer " + jwt))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"etag-1\""));
+
+        mockMvc.perform(
+                        get("/api/posts/{postId}", response.getPostId())
+                                .header("Authorization", "Bearer " + jwt)
+                                .header("If-None-Match", "\"etag-1\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"etag-1\""))
+                .andExpect(content().string(""));
+    }
+
     @DisplayName("게시물 좋아요를 추가합니다.")
     @Test
     void likePost() throws Exception {
@@ -156,6 +236,30 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.url").value(url));
     }
 
+    @DisplayName("게시물 좋아요를 취소합니다.")
+    @Test
+    void unlikePost() throws Exception {
+        // given
+        Long postId = 1L;
+
+        PostLikeResponse response = PostLikeResponse.builder()
+                .postId(postId)
+                .likeCnt(9)
+                .build();
+
+        when(postService.unlikePost(postId, username)).thenReturn(response);
+
+        // when // then
+        mockMvc.perform(
+                        delete("/api/posts/like/{postId}", postId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header("Authorization", "Bearer " + jwt)
+                )
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.postId").value(postId))
+                .andExpect(jsonPath("$.likeCnt").value(9));
+    }
+
     @DisplayName("게시물 공유를 추가합니다.")
     @Test
     void sharePost() throws Exception {
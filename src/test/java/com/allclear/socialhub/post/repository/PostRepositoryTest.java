@@ -1,6 +1,12 @@
 package com.allclear.socialhub.post.repository;
 
 import com.allclear.socialhub.post.common.response.StatisticQueryResponse;
+import com.allclear.socialhub.post.common.cursor.PostCursor;
+import com.allclear.socialhub.post.dto.PostCursorPaging;
+import com.allclear.socialhub.post.dto.PostDetailResponse;
+import com.allclear.socialhub.post.dto.PostListResponse;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -8,15 +14,20 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 @ActiveProfiles("test")
 @Sql(scripts = "/statistics-data.sql")
@@ -76,4 +87,211 @@ class PostRepositoryTest {
 
     }
 
+    @Nested
+    @DisplayName("게시물 목록 조회")
+    class WhenGetPosts {
+
+        @Test
+        @DisplayName("페이지 크기와 관계없이 목록과 해시태그를 같은 수의 쿼리로 조회한다.")
+        void GivenAnyPageSize_ThenExecuteConstantNumberOfStatements() {
+            // given
+            Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                    .unwrap(SessionFactory.class).getStatistics();
+
+            // when
+            statistics.clear();
+            Page<PostListResponse> smallPage = postRepository.getPosts(PageRequest.of(0, 2), 10L);
+            long smallPageStatements = statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            Page<PostListResponse> largePage = postRepository.getPosts(PageRequest.of(0, 10), 10L);
+            long largePageStatements = statistics.getPrepareStatementCount();
+
+            // then
+            assertEquals(2, smallPage.getContent().size());
+            assertEquals(10, largePage.getContent().size());
+            assertEquals(smallPageStatements, largePageStatements);
+            assertEquals(List.of("OOTD", "맛집추천"), largePage.getContent().stream()
+                    .filter(post -> post.getPostId() == 5L).findFirst().orElseThrow().getHashtagList());
+        }
+
+        @Test
+        @DisplayName("페이지 크기와 관계없이 검색 결과와 해시태그를 같은 수의 쿼리로 조회한다.")
+        void GivenAnyPageSizeWhenSearch_ThenExecuteConstantNumberOfStatements() {
+            // given
+            Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                    .unwrap(SessionFactory.class).getStatistics();
+
+            // when
+            statistics.clear();
+            postRepository.searchPosts(PageRequest.of(0, 2), null, "OOTD", null, "", "created_at", "desc", null, null);
+            long smallPageStatements = statistics.getPrepareStatementCount();
+
+            statistics.clear();
+            Page<PostListResponse> largePage = postRepository.searchPosts(PageRequest.of(0, 10), null, "OOTD", null, "", "created_at", "desc", null, null);
+            long largePageStatements = statistics.getPrepareStatementCount();
+
+            // then
+            assertEquals(5, largePage.getContent().size());
+            assertEquals(smallPageStatements, largePageStatements);
+        }
+
+        @Test
+        @DisplayName("검색 결과는 Post 엔티티를 조회하지 않고 본문을 20자로 잘라 반환한다.")
+        void GivenSearch_ThenProjectWithoutLoadingEntities() {
+            // given
+            Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                    .unwrap(SessionFactory.class).getStatistics();
+            String content = "실무에서는 어떤 일을 하는 지 알려드립니다.";
+
+            // when
+            statistics.clear();
+            Page<PostListResponse> page = postRepository.searchPosts(PageRequest.of(0, 10), null, null, null, "실무", "id", "desc", "content", null);
+
+            // then
+            assertEquals(List.of(4L), page.getContent().stream().map(PostListResponse::getPostId).toList());
+            assertEquals(content.substring(0, 20), page.getContent().get(0).getContent());
+            assertEquals(0, statistics.getEntityLoadCount());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("게시물 여러 건 상세 조회")
+    class WhenGetPostDetails {
+
+        @Test
+        @DisplayName("게시물과 해시태그를 쿼리 두 번으로 조회하고, 요청 순서대로 없는 게시물은 제외하여 반환한다.")
+        void GivenPostIds_ThenReturnInRequestOrder() {
+            // given
+            Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                    .unwrap(SessionFactory.class).getStatistics();
+
+            // when
+            statistics.clear();
+            List<PostDetailResponse> posts = postRepository.getPostDetails(List.of(5L, 999L, 1L, 9L));
+
+            // then
+            assertEquals(List.of(5L, 1L, 9L), posts.stream().map(PostDetailResponse::getPostId).toList());
+            assertEquals(List.of("OOTD", "맛집추천"), posts.get(0).getHashtagList());
+            assertEquals(List.of("성수동"), posts.get(2).getHashtagList());
+            assertEquals(2, statistics.getPrepareStatementCount());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("cursor 페이징")
+    class WhenPagingByCursor {
+
+        @Test
+        @DisplayName("cursor 로 끝까지 조회하면 offset 페이징과 같은 순서로 모든 게시물을 한 번씩 반환한다.")
+        void GivenCursor_ThenReturnSameOrderAsOffsetPaging() {
+            // given
+            List<Long> expected = postRepository.searchPosts(PageRequest.of(0, 10), null, null, null, "", "like_count", "desc", null, null)
+                    .getContent().stream().map(PostListResponse::getPostId).toList();
+
+            // when
+            List<Long> actual = new ArrayList<>();
+            PostCursor cursor = null;
+            PostCursorPaging paging;
+            do {
+                paging = postRepository.searchPostsByCursor(cursor, 3, null, null, null, "", "like_count", "desc", null);
+                paging.getPostList().forEach(post -> actual.add(post.getPostId()));
+                cursor = PostCursor.decode(paging.getNextCursor(), "like_count", "desc");
+            } while (paging.isHasNext());
+
+            // then
+            assertEquals(expected, actual);
+            assertEquals(10, actual.size());
+        }
+
+        @Test
+        @DisplayName("게시물 목록을 cursor 로 조회하면 ID 내림차순으로 이어서 반환하고 마지막 페이지에는 cursor 가 없다.")
+        void GivenCursor_ThenReturnNextPostsById() {
+            // given
+            PostCursorPaging first = postRepository.getPostsByCursor(null, 6);
+
+            // when
+            PostCursorPaging second = postRepository.getPostsByCursor(PostCursor.decode(first.getNextCursor(), "id", "desc"), 6);
+
+            // then
+            assertEquals(List.of(10L, 9L, 8L, 7L, 6L, 5L), first.getPostList().stream().map(PostListResponse::getPostId).toList());
+            assertEquals(List.of(4L, 3L, 2L, 1L), second.getPostList().stream().map(PostListResponse::getPostId).toList());
+            assertFalse(second.isHasNext());
+            assertNull(second.getNextCursor());
+        }
+
+        @Test
+        @DisplayName("내보내기용 cursor 조회는 목록과 같은 순서로 반환하되 본문을 자르지 않는다.")
+        void GivenExport_ThenReturnFullContent() {
+            // when
+            PostCursorPaging listed = postRepository.searchPostsByCursor(null, 10, null, null, null, "", "id", "desc", null);
+            PostCursorPaging exported = postRepository.exportPostsByCursor(null, 10, null, null, null, "", "id", "desc", null);
+
+            // then
+            assertEquals(listed.getPostList().stream().map(PostListResponse::getPostId).toList(),
+                    exported.getPostList().stream().map(PostListResponse::getPostId).toList());
+            PostListResponse post = exported.getPostList().stream().filter(p -> p.getPostId() == 6L).findFirst().orElseThrow();
+            assertEquals("더현대 팝업일정 알려드려요. 고디바 베이커리가 ...", post.getContent());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("검색 전체 건수")
+    class WhenCountSearchPosts {
+
+        @Test
+        @DisplayName("전체 건수를 전달하지 않으면 페이지 조회와 함께 전체 건수를 계산한다.")
+        void GivenNoTotal_ThenCountWithPageQuery() {
+            // when
+            Page<PostListResponse> page = postRepository.searchPosts(PageRequest.of(0, 2), null, "OOTD", null, "", "created_at", "desc", null, null);
+
+            // then
+            assertEquals(2, page.getContent().size());
+            assertEquals(5, page.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("마지막 페이지를 넘어 조회해도 전체 건수를 반환한다.")
+        void GivenPageAfterLast_ThenReturnTotal() {
+            // when
+            Page<PostListResponse> page = postRepository.searchPosts(PageRequest.of(5, 2), null, "OOTD", null, "", "created_at", "desc", null, null);
+
+            // then
+            assertEquals(0, page.getContent().size());
+            assertEquals(5, page.getTotalElements());
+            assertEquals(5, postRepository.countSearchPosts(null, "OOTD", null, "", null));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("해시태그 검색식")
+    class WhenSearchByHashtagExpression {
+
+        @Test
+        @DisplayName("AND / OR / NOT 검색식에 맞는 게시물을 조회한다.")
+        void GivenHashtagExpression_ThenReturnMatchingPosts() {
+            // when
+            Page<PostListResponse> page = postRepository.searchPosts(PageRequest.of(0, 10), null, "(#OOTD OR #성수동) NOT #맛집추천", null, "", "id", "desc", null, null);
+
+            // then
+            assertEquals(List.of(9L, 4L, 3L, 2L, 1L), page.getContent().stream().map(PostListResponse::getPostId).toList());
+            assertEquals(5, page.getTotalElements());
+        }
+
+        @Test
+        @DisplayName("NOT 만 있는 검색식이면 해당 해시태그가 없는 게시물을 조회한다.")
+        void GivenNegatedExpression_ThenReturnPostsWithoutHashtag() {
+            // when
+            long count = postRepository.countSearchPosts(null, "NOT #OOTD", null, "", null);
+
+            // then
+            assertEquals(5, count);
+        }
+
+    }
+
 }
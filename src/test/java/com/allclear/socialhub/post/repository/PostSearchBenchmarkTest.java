@@ -0,0 +1,130 @@
+package com.allclear.socialhub.post.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * LIKE 검색과 FULLTEXT(ngram) 검색의 응답 시간 비교 (게시물 100만 건)
+ * 데이터 생성에 시간이 오래 걸리므로 일반 test 에서는 제외하고 ./gradlew benchmark 로 실행합니다.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+class PostSearchBenchmarkTest {
+
+    private static final int POST_COUNT = 1_000_000;
+    private static final int BATCH_SIZE = 10_000;
+    private static final int ITERATIONS = 20;
+
+    private static final String[] WORDS = {
+            "오늘의", "OOTD", "공구알림", "뮤지컬", "티켓팅", "백엔드", "인턴십", "맛집추천", "성수동", "더현대",
+            "팝업일정", "건대", "놀거리", "아이패드", "신상카페", "망원동", "피자", "여행", "운동", "독서",
+            "영화", "전시회", "주말", "데일리", "코디", "리뷰", "후기", "할인", "이벤트", "브런치"
+    };
+    private static final String[] QUERIES = {"맛집추천", "성수동", "브런치", "전시회"};
+
+    private static final String LIKE_PAGE_SQL = "SELECT id FROM post WHERE title LIKE ? OR content LIKE ? ORDER BY id DESC LIMIT 10";
+    private static final String LIKE_COUNT_SQL = "SELECT COUNT(*) FROM post WHERE title LIKE ? OR content LIKE ?";
+    private static final String FULLTEXT_PAGE_SQL = "SELECT id FROM post WHERE MATCH(title, content) AGAINST(? IN BOOLEAN MODE) ORDER BY id DESC LIMIT 10";
+    private static final String FULLTEXT_COUNT_SQL = "SELECT COUNT(*) FROM post WHERE MATCH(title, content) AGAINST(? IN BOOLEAN MODE)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM post", Long.class);
+        if (count != null && count >= POST_COUNT) {
+            return;
+        }
+
+        // 1. 작성자
+        jdbcTemplate.update("INSERT IGNORE INTO user (id, username, email, password, status, certify_status, created_at, updated_at) " +
+                "VALUES (1, 'benchmark', 'benchmark@socialhub.com', 'password', 'ACTIVE', 'AUTHENTICATED', NOW(), NOW())");
+
+        // 2. FULLTEXT index 는 데이터를 넣은 뒤 한 번에 생성 (row 마다 index 갱신하면 매우 느림)
+        jdbcTemplate.execute("ALTER TABLE post DROP INDEX ft_post_title, DROP INDEX ft_post_content, DROP INDEX ft_post_title_content");
+
+        Random random = new Random(42);
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        for (int inserted = 0; inserted < POST_COUNT; inserted += BATCH_SIZE) {
+            List<Object[]> batchArgs = new ArrayList<>(BATCH_SIZE);
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                batchArgs.add(new Object[]{sentence(random, 3), sentence(random, 12), now, now});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO post (user_id, title, content, type, view_cnt, like_cnt, share_cnt, created_at, updated_at) " +
+                    "VALUES (1, ?, ?, 'INSTAGRAM', 0, 0, 0, ?, ?)", batchArgs);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX ft_post_title (title) WITH PARSER ngram");
+        jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX ft_post_content (content) WITH PARSER ngram");
+        jdbcTemplate.execute("ALTER TABLE post ADD FULLTEXT INDEX ft_post_title_content (title, content) WITH PARSER ngram");
+        jdbcTemplate.execute("ANALYZE TABLE post");
+    }
+
+    @Test
+    @DisplayName("같은 검색어로 LIKE 와 FULLTEXT 검색의 페이지 조회, 전체 건수 조회 시간을 비교한다.")
+    void compareLikeAndFulltext() {
+
+        for (String query : QUERIES) {
+            String like = "%" + query + "%";
+            String booleanQuery = "+\"" + query + "\"";
+
+            // 같은 결과를 반환하는지 확인
+            Long likeCount = jdbcTemplate.queryForObject(LIKE_COUNT_SQL, Long.class, like, like);
+            Long fulltextCount = jdbcTemplate.queryForObject(FULLTEXT_COUNT_SQL, Long.class, booleanQuery);
+            assertThat(fulltextCount).isEqualTo(likeCount);
+
+            double likePage = measure(() -> jdbcTemplate.queryForList(LIKE_PAGE_SQL, Long.class, like, like));
+            double fulltextPage = measure(() -> jdbcTemplate.queryForList(FULLTEXT_PAGE_SQL, Long.class, booleanQuery));
+            double likeTotal = measure(() -> jdbcTemplate.queryForObject(LIKE_COUNT_SQL, Long.class, like, like));
+            double fulltextTotal = measure(() -> jdbcTemplate.queryForObject(FULLTEXT_COUNT_SQL, Long.class, booleanQuery));
+
+            log.info("[{}] 결과 {}건 | page LIKE {} ms, FULLTEXT {} ms | count LIKE {} ms, FULLTEXT {} ms",
+                    query, likeCount,
+                    String.format("%.2f", likePage), String.format("%.2f", fulltextPage),
+                    String.format("%.2f", likeTotal), String.format("%.2f", fulltextTotal));
+        }
+    }
+
+    // warm-up 후 평균 실행 시간 (ms)
+    private double measure(Runnable query) {
+
+        for (int i = 0; i < 3; i++) {
+            query.run();
+        }
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+    }
+
+    private String sentence(Random random, int wordCount) {
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+
+}
@@ -29,6 +29,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -401,7 +402,7 @@ class PostServiceImplTest {
         postHashtagRepository.save(postHashtag3);
 
         // when
-        PostPaging postPaging = postService.searchPosts(pageable, user.getUsername(), hashtag1.getContent(), INSTAGRAM, "", "viewCnt", "desc", "");
+        PostPaging postPaging = postService.searchPosts(pageable, user.getUsername(), hashtag1.getContent(), INSTAGRAM, "", "viewCnt", "desc", "", true);
 
         // then
         assertEquals(3, postPaging.getPostCnt());
@@ -428,7 +429,7 @@ class PostServiceImplTest {
         postRepository.save(post3);
 
         // when // then
-        assertThat(postService.getPosts(pageable).getPostList()).hasSize(3)
+        assertThat(postService.getPosts(pageable, user.getUsername(), true).getPostList()).hasSize(3)
                 .extracting("title", "content", "type", "likeCnt", "shareCnt", "viewCnt")
                 .containsExactlyInAnyOrder(
                         tuple("제목3", "내용3", TWITTER, 30, 30, 30),
@@ -437,6 +438,28 @@ class PostServiceImplTest {
                 );
     }
 
+    @DisplayName("withTotal 이 false 이면 전체 건수 없이 다음 페이지 여부만 반환합니다.")
+    @Test
+    void getPostsWithoutTotal() {
+        // given
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Order.desc("id")));
+
+        User user = createUser();
+
+        postRepository.save(createPost(user, "제목1", "내용1", INSTAGRAM, 10, 10, 10));
+        postRepository.save(createPost(user, "제목2", "내용2", FACEBOOK, 20, 20, 20));
+        postRepository.save(createPost(user, "제목3", "내용3", TWITTER, 30, 30, 30));
+
+        // when
+        PostPaging postPaging = postService.getPosts(pageable, user.getUsername(), false);
+
+        // then
+        assertThat(postPaging.getPostList()).hasSize(2);
+        assertThat(postPaging.isHasNext()).isTrue();
+        assertThat(postPaging.getPostCnt()).isNull();
+        assertThat(postPaging.getTotalPage()).isNull();
+    }
+
     @DisplayName("게시물 상세를 조회합니다.")
     @Test
     void getPostDetail() {
@@ -466,6 +489,42 @@ class PostServiceImplTest {
         assertThat(getDetail.getShareCnt()).isEqualTo(post.getShareCnt());
     }
 
+    @DisplayName("게시물이 바뀌지 않았으면 ETag 가 같아 상세 조회를 생략하고, 좋아요 수가 바뀌면 ETag 가 바뀝니다.")
+    @Test
+    void getPostDetailWithETag() {
+        // given
+        User user = createUser();
+
+        Post post = createPost(user, "게시물 상세 제목", "게시물 상세 내용", INSTAGRAM, 10, 20, 30);
+        postRepository.save(post);
+
+        List<String> eTags = new ArrayList<>();
+
+        // when
+        PostDetailResponse first = postService.getPostDetail(post.getId(), user.getUsername(), eTag -> {
+            eTags.add(eTag);
+            return false;
+        });
+        PostDetailResponse notModified = postService.getPostDetail(post.getId(), user.getUsername(), eTag -> {
+            eTags.add(eTag);
+            return eTag.equals(eTags.get(0));
+        });
+        postService.likePost(post.getId(), user.getUsername());
+        PostDetailResponse afterLike = postService.getPostDetail(post.getId(), user.getUsername(), eTag -> {
+            eTags.add(eTag);
+            return eTag.equals(eTags.get(0));
+        });
+
+        // then
+        assertThat(first).isNotNull();
+        assertThat(notModified).isNull();
+        assertThat(afterLike).isNotNull();
+        assertThat(afterLike.getViewCnt()).isEqualTo(post.getViewCnt() + 3);
+        assertThat(eTags.get(0)).startsWith("W/\"");
+        assertThat(eTags.get(1)).isEqualTo(eTags.get(0));
+        assertThat(eTags.get(2)).isNotEqualTo(eTags.get(0));
+    }
+
     @DisplayName("존재하지 않는 게시물 ID로 게시물 상세를 조회합니다.")
     @Test
     void getPostDetailWithNonExistentPostId() {
@@ -497,6 +556,44 @@ class PostServiceImplTest {
                 .contains(post.getId(), 11, "https://www.instagram.com/likes/instagram");
     }
 
+    @DisplayName("같은 게시물에 좋아요를 여러 번 요청해도 좋아요 수는 한 번만 증가합니다.")
+    @Test
+    void likePostTwice() {
+        // given
+        User user = createUser();
+
+        Post post = createPost(user, "제목1", "내용1", INSTAGRAM, 10, 10, 10);
+        postRepository.save(post);
+        postService.likePost(post.getId(), user.getUsername());
+
+        // when
+        PostLikeResponse postLikeResponse = postService.likePost(post.getId(), user.getUsername());
+
+        // then
+        assertThat(postLikeResponse)
+                .extracting("postId", "likeCnt")
+                .contains(post.getId(), 11);
+    }
+
+    @DisplayName("게시물 좋아요를 취소합니다.")
+    @Test
+    void unlikePost() {
+        // given
+        User user = createUser();
+
+        Post post = createPost(user, "제목1", "내용1", INSTAGRAM, 10, 10, 10);
+        postRepository.save(post);
+        postService.likePost(post.getId(), user.getUsername());
+
+        // when
+        PostLikeResponse postLikeResponse = postService.unlikePost(post.getId(), user.getUsername());
+
+        // then
+        assertThat(postLikeResponse)
+                .extracting("postId", "likeCnt")
+                .contains(post.getId(), 10);
+    }
+
     @DisplayName("존재하지 않는 게시물 ID로 게시물 좋아요를 추가합니다.")
     @Test
     void likePostWithNonExistentPostId() {
@@ -6,6 +6,7 @@ import com.allclear.socialhub.post.common.like.repository.PostLikeRepository;
 import com.allclear.socialhub.post.common.response.StatisticQueryResponse;
 import com.allclear.socialhub.post.common.share.repository.PostShareRepository;
 import com.allclear.socialhub.post.common.view.repository.PostViewRepository;
+import com.allclear.socialhub.post.common.view.repository.UniqueViewerRedisRepository;
 import com.allclear.socialhub.post.domain.StatisticType;
 import com.allclear.socialhub.post.domain.StatisticValue;
 import com.allclear.socialhub.post.dto.StatisticResponse;
@@ -14,16 +15,20 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 
@@ -43,6 +48,9 @@ class StatisticServiceImplTest {
     @Mock
     private PostShareRepository postShareRepository;
 
+    @Mock
+    private UniqueViewerRedisRepository uniqueViewerRedisRepository;
+
     @InjectMocks
     private StatisticServiceImpl statisticService;
 
@@ -356,6 +364,55 @@ class StatisticServiceImplTest {
 
     }
 
+    @Nested
+    @DisplayName("순 조회자 수를 가져올 때")
+    class WhenGetUniqueViewerResponses {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        @DisplayName("DATE 타입이면 하루 24개의 시간 버킷을 합친 순 조회자 수를 일자별로 가져온다.")
+        void GivenDateType_ThenMergeHourBucketsPerDay() {
+            // given
+            LocalDate start = LocalDate.of(2024, 1, 1);
+            LocalDate end = LocalDate.of(2024, 1, 2);
+            ArgumentCaptor<List<List<LocalDateTime>>> captor = ArgumentCaptor.forClass(List.class);
+            when(uniqueViewerRedisRepository.countHashtagViewers(eq("java"), anyList())).thenReturn(List.of(3L, 7L));
+
+            // when
+            List<StatisticQueryResponse> result = statisticService.getUniqueViewerResponses("java", StatisticType.DATE, start, end);
+
+            // then
+            verify(uniqueViewerRedisRepository).countHashtagViewers(eq("java"), captor.capture());
+            assertEquals(2, captor.getValue().size());
+            assertEquals(24, captor.getValue().get(0).size());
+            assertEquals(LocalDateTime.of(2024, 1, 2, 23, 0), captor.getValue().get(1).get(23));
+
+            assertEquals("2024-01-01", result.get(0).getTime());
+            assertEquals(3L, result.get(0).getValue());
+            assertEquals("2024-01-02", result.get(1).getTime());
+            assertEquals(7L, result.get(1).getValue());
+        }
+
+        @Test
+        @DisplayName("HOUR 타입이면 시간 버킷 하나씩 순 조회자 수를 가져온다.")
+        void GivenHourType_ThenCountEachHourBucket() {
+            // given
+            LocalDate date = LocalDate.of(2024, 1, 1);
+            List<Long> counts = new ArrayList<>(Collections.nCopies(24, 0L));
+            counts.set(13, 5L);
+            when(uniqueViewerRedisRepository.countHashtagViewers(eq("java"), anyList())).thenReturn(counts);
+
+            // when
+            List<StatisticQueryResponse> result = statisticService.getUniqueViewerResponses("java", StatisticType.HOUR, date, date);
+
+            // then
+            assertEquals(24, result.size());
+            assertEquals("2024-01-01 13:00", result.get(13).getTime());
+            assertEquals(5L, result.get(13).getValue());
+        }
+
+    }
+
     @Nested
     @DisplayName("쿼리 결과에서 가져온 시간-개수 맵을 사용하여 초기화된 통계 리스트를 업데이트할 때")
     class WhenUpdatingStatisticsWithQueryResults {
@@ -0,0 +1,10 @@
+DELETE FROM hashtag_subscription;
+DELETE FROM post_hashtag;
+DELETE FROM post_view;
+DELETE FROM post_like;
+DELETE FROM post_share;
+DELETE FROM sns_outbox;
+DELETE FROM post_read_model;
+DELETE FROM post;
+DELETE FROM hashtag;
+DELETE FROM user;
@@ -0,0 +1,61 @@
+-- IndexUsageTest 용 데이터 (실행 계획이 테이블 전체 scan 을 고르지 않을 만큼의 row 수)
+DELETE FROM hashtag_subscription;
+DELETE FROM post_hashtag;
+DELETE FROM post_view;
+DELETE FROM post_like;
+DELETE FROM post_share;
+DELETE FROM sns_outbox;
+DELETE FROM post_read_model;
+DELETE FROM post;
+DELETE FROM hashtag;
+DELETE FROM user;
+
+INSERT INTO user(id, username, email, password, status, certify_status, created_at, updated_at)
+WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 1000)
+SELECT n, CONCAT('user', n), CONCAT('user', n, '@test.com'), 'abcd1234..', 'ACTIVE', 'AUTHENTICATED',
+       '2024-08-01 00:00:00', '2024-08-01 00:00:00'
+FROM seq;
+
+INSERT INTO post(id, user_id, title, content, type, view_cnt, like_cnt, share_cnt, created_at, updated_at)
+WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100)
+SELECT (a.n - 1) * 100 + b.n,
+       MOD((a.n - 1) * 100 + b.n, 1000) + 1,
+       CONCAT('제목 ', (a.n - 1) * 100 + b.n),
+       CONCAT('내용 ', (a.n - 1) * 100 + b.n),
+       ELT(MOD((a.n - 1) * 100 + b.n, 4) + 1, 'INSTAGRAM', 'TWITTER', 'FACEBOOK', 'THREADS'),
+       MOD(((a.n - 1) * 100 + b.n) * 7919, 10007),
+       MOD(((a.n - 1) * 100 + b.n) * 104729, 1009),
+       MOD(((a.n - 1) * 100 + b.n) * 1299709, 101),
+       '2024-08-01 00:00:00' + INTERVAL ((a.n - 1) * 100 + b.n) MINUTE,
+       '2024-08-01 00:00:00' + INTERVAL MOD(((a.n - 1) * 100 + b.n) * 31, 10000) MINUTE
+FROM seq a, seq b;
+
+INSERT INTO hashtag(id, content)
+WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 100)
+SELECT n, CONCAT('tag', n)
+FROM seq;
+
+INSERT INTO post_hashtag(post_id, hashtag_id)
+SELECT id, MOD(id, 100) + 1 FROM post
+UNION ALL
+SELECT id, MOD(id * 7, 100) + 1 FROM post WHERE MOD(id * 7, 100) <> MOD(id, 100);
+
+INSERT INTO post_view(user_id, post_id, created_at, updated_at)
+SELECT user_id, id, created_at, created_at FROM post
+UNION ALL
+SELECT MOD(user_id, 1000) + 1, id, created_at + INTERVAL 1 DAY, created_at + INTERVAL 1 DAY FROM post;
+
+INSERT INTO post_like(user_id, post_id, created_at, updated_at)
+SELECT user_id, id, created_at, created_at FROM post;
+
+INSERT INTO post_share(user_id, post_id, created_at, updated_at)
+SELECT user_id, id, created_at, created_at FROM post;
+
+INSERT INTO hashtag_subscription(user_id, hashtag_id, created_at, updated_at)
+SELECT id, MOD(id, 100) + 1, created_at, created_at FROM user;
+
+INSERT INTO sns_outbox(post_type, post_id, api_type, status, attempts, next_attempt_at, created_at, updated_at)
+SELECT type, id, 'likes', IF(MOD(id, 100) = 0, 'PENDING', 'DONE'), 1, created_at, created_at, created_at
+FROM post;
+
+ANALYZE TABLE user, post, hashtag, post_hashtag, post_view, post_like, post_share, hashtag_subscription, sns_outbox;
@@ -60,8 +60,8 @@ INSERT INTO post_like(id, user_id, post_id, created_at)
 VALUES (1, 1, 1, '2024-08-23 12:00:00'),
        (2, 2, 2, '2024-08-23 13:00:00'),
        (3, 3, 3, '2024-08-23 13:10:00'),
-       (4, 1, 1, '2024-08-24 14:00:00'),
-       (5, 2, 2, '2024-08-25 15:00:00');
+       (4, 4, 1, '2024-08-24 14:00:00'),
+       (5, 1, 2, '2024-08-25 15:00:00');
 
 INSERT INTO post_view(id, user_id, post_id, created_at)
 VALUES (1, 1, 1, '2024-08-23 12:00:00'),